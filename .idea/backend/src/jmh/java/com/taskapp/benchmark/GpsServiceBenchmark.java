@@ -0,0 +1,84 @@
+package com.taskapp.benchmark;
+
+import com.taskapp.service.GpsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the per-request GPS math.
+ * Coordinates model a completion check: task locations clustered around a city centre and
+ * user fixes scattered around each task, so most checks fall inside or just outside 100 meters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GpsServiceBenchmark {
+
+    private static final int POINTS = 1024;
+    private static final double METERS_PER_DEGREE = 111_195;
+
+    /**
+     * Spread of user fixes around the task in meters: typical GPS noise,
+     * walking distance and cross-town.
+     */
+    @Param({"30", "150", "5000"})
+    public double spread;
+
+    private final GpsService gpsService = new GpsService();
+
+    private double[] taskLat;
+    private double[] taskLon;
+    private double[] userLat;
+    private double[] userLon;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        taskLat = new double[POINTS];
+        taskLon = new double[POINTS];
+        userLat = new double[POINTS];
+        userLon = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            taskLat[i] = 40.7128 + random.nextGaussian() * 0.05;
+            taskLon[i] = -74.0060 + random.nextGaussian() * 0.05;
+            double offsetLat = random.nextGaussian() * spread / METERS_PER_DEGREE;
+            double offsetLon = random.nextGaussian() * spread
+                    / (METERS_PER_DEGREE * Math.cos(Math.toRadians(taskLat[i])));
+            userLat[i] = taskLat[i] + offsetLat;
+            userLon[i] = taskLon[i] + offsetLon;
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (POINTS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public double calculateDistance() {
+        int i = next();
+        return gpsService.calculateDistance(userLat[i], userLon[i], taskLat[i], taskLon[i]);
+    }
+
+    @Benchmark
+    public boolean isWithinRadius() {
+        int i = next();
+        return gpsService.isWithinRadius(userLat[i], userLon[i], taskLat[i], taskLon[i], 100.0);
+    }
+
+    @Benchmark
+    public double calculateBearing() {
+        int i = next();
+        return gpsService.calculateBearing(userLat[i], userLon[i], taskLat[i], taskLon[i]);
+    }
+}
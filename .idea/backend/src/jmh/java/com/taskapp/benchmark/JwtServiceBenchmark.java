@@ -0,0 +1,83 @@
+package com.taskapp.benchmark;
+
+import com.taskapp.entity.User;
+import com.taskapp.entity.UserRole;
+import com.taskapp.security.InMemoryTokenRevocationStore;
+import com.taskapp.service.JwtService;
+import com.taskapp.service.TokenRevocationService;
+import com.taskapp.stats.TimingSampler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for JWT generation and the parsing done on every authenticated request.
+ * The service is configured with the same values as application.yml.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private UserDetails userDetails;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtService = new JwtService(new TokenRevocationService(new InMemoryTokenRevocationStore(), 100000, 0.01),
+                new SimpleMeterRegistry(), new TimingSampler(1.0));
+        setField(jwtService, "secret", "your-256-bit-secret-key-here-change-in-production");
+        setField(jwtService, "expiration", 900000L);
+        setField(jwtService, "refreshExpiration", 604800000L);
+        jwtService.init();
+
+        user = new User("worker1", "worker1@taskapp.com", "hash", UserRole.USER);
+        user.setId(3L);
+        userDetails = org.springframework.security.core.userdetails.User
+                .withUsername(user.getUsername())
+                .password(user.getPasswordHash())
+                .roles(user.getRole().name())
+                .build();
+
+        accessToken = jwtService.generateToken(user);
+        refreshToken = jwtService.generateRefreshToken(user);
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(accessToken);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtService.validateToken(accessToken, userDetails);
+    }
+
+    @Benchmark
+    public Boolean isRefreshToken() {
+        return jwtService.isRefreshToken(refreshToken);
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskapp.benchmark;
+
+import com.taskapp.geo.RoutePlanner;
+import com.taskapp.service.GpsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for route planning over synthetic task sets.
+ * Tasks are scattered over a ~20 km city area and the worker starts near its centre.
+ * The matrix benchmarks compare sequential and fork/join computation; {@code plan} measures
+ * the whole pipeline with a budget large enough for the improvement phase to converge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoutePlannerBenchmark {
+
+    private static final long CONVERGENCE_BUDGET_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    @Param({"20", "50", "100", "200", "500"})
+    public int stops;
+
+    private final GpsService gpsService = new GpsService();
+    private final RoutePlanner sequential = new RoutePlanner(gpsService, ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+    private final RoutePlanner parallel = new RoutePlanner(gpsService, ForkJoinPool.commonPool(), 0);
+
+    private double[] latitudes;
+    private double[] longitudes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        latitudes = new double[stops];
+        longitudes = new double[stops];
+        for (int i = 0; i < stops; i++) {
+            latitudes[i] = 40.7128 + (random.nextDouble() - 0.5) * 0.18;
+            longitudes[i] = -74.0060 + (random.nextDouble() - 0.5) * 0.24;
+        }
+    }
+
+    @Benchmark
+    public double[][] distanceMatrixSequential() {
+        return sequential.distanceMatrix(latitudes, longitudes);
+    }
+
+    @Benchmark
+    public double[][] distanceMatrixParallel() {
+        return parallel.distanceMatrix(latitudes, longitudes);
+    }
+
+    @Benchmark
+    public RoutePlanner.Route plan() {
+        return parallel.plan(40.7128, -74.0060, latitudes, longitudes, CONVERGENCE_BUDGET_NANOS);
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskapp.benchmark;
+
+import com.taskapp.MobileTaskBackendApplication;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.User;
+import com.taskapp.entity.UserRole;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task insert throughput against an embedded H2 database.
+ * Compares one statement per row (batch size 1) with JDBC batching, in rows per second,
+ * and prints the statement counts Hibernate reports for each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class TaskInsertBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 1000;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private User assigner;
+    private User assignee;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MobileTaskBackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "logging.level.root=WARN",
+                        "logging.level.com.taskapp=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+        taskRepository = context.getBean(TaskRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        assigner = userRepository.save(new User("manager1", "manager1@taskapp.com", "hash-manager1", UserRole.TASK_ASSIGNER));
+        assignee = userRepository.save(new User("worker1", "worker1@taskapp.com", "hash-worker1", UserRole.USER));
+        statistics.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%nbatchSize=%d: %d entity inserts, %d prepared statements, %d flushes%n",
+                batchSize, statistics.getEntityInsertCount(), statistics.getPrepareStatementCount(),
+                statistics.getFlushCount());
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public List<Task> insertTasks() {
+        List<Task> tasks = new ArrayList<>(ROWS_PER_INVOCATION);
+        for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+            Task task = new Task("Inspect site " + i, "Benchmark task", 40.7128 + i * 1e-5, -74.0060, assigner, assignee);
+            tasks.add(task);
+        }
+        return transactionTemplate.execute(status -> taskRepository.insertAll(tasks));
+    }
+}
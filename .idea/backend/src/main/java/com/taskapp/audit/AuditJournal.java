@@ -0,0 +1,367 @@
+package com.taskapp.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of {@link VerificationRecord}s on memory-mapped segment files.
+ * <p>
+ * Callers append into a bounded multi-producer ring buffer without taking a lock: a slot is claimed
+ * by advancing the tail with a CAS, filled, and published by storing its ring position in the slot's
+ * sequence cell. A single writer thread consumes the slots in order and copies them into the mapped
+ * segment, so the calling thread never touches the file. When the ring is full an append spins
+ * briefly and then gives up; dropped records are counted.
+ * <p>
+ * A segment is named after the sequence of its first record and holds a fixed number of records
+ * after a {@value #HEADER_SIZE}-byte header. When it is full it is forced to disk and a new one is
+ * started; the oldest segments beyond {@code maxSegments} are deleted. Written records are forced
+ * to disk at most {@code forceInterval} apart. After a restart the journal resumes numbering after
+ * the last valid record it finds and keeps filling the newest segment if it has room, so restarts do
+ * not use up the retained segments.
+ */
+public class AuditJournal implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditJournal.class);
+
+    static final int MAGIC = 0x5441564A; // "TAVJ"
+    static final short VERSION = 2; // 2: tracking id and write outcome added to the record
+    static final int HEADER_SIZE = 16; // magic, version, record size, first sequence
+    static final String SEGMENT_PREFIX = "verifications-";
+    static final String SEGMENT_SUFFIX = ".journal";
+
+    private static final int FULL_RING_SPINS = 1000;
+    private static final long FORCE_CHECK_MASK = 1023;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final int maxSegments;
+    private final long forceIntervalNanos;
+    private final long firstSequence; // sequence of ring position 0
+
+    // Ring buffer: slot i holds ring position p when published[i] == p
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head; // next position the writer consumes; written only by the writer
+    private final AtomicLongArray published;
+    private final long[] timestamps;
+    private final long[] taskIds;
+    private final long[] userIds;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] distances;
+    private final double[] radii;
+    private final long[] trackingIdsHigh;
+    private final long[] trackingIdsLow;
+    private final boolean[] verdicts;
+    private final boolean[] outcomes;
+
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    private volatile boolean running;
+
+    // Writer thread state
+    private final CRC32C crc = new CRC32C();
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int segmentRecords;
+    private boolean dirty;
+    private long lastForce;
+
+    /**
+     * @param directory Directory holding the segment files; created if missing
+     * @param segmentBytes Size of each segment file in bytes
+     * @param ringCapacity Number of records buffered between callers and the writer, a power of two
+     * @param maxSegments Number of segment files kept
+     * @param forceIntervalNanos Maximum time written records stay unforced
+     * @throws IOException if the directory cannot be created or the existing journal cannot be read
+     */
+    public AuditJournal(Path directory, long segmentBytes, int ringCapacity, int maxSegments,
+                        long forceIntervalNanos) throws IOException {
+        if (ringCapacity <= 0 || Integer.bitCount(ringCapacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two");
+        }
+        long records = (segmentBytes - HEADER_SIZE) / VerificationRecord.SIZE;
+        if (records < 1 || HEADER_SIZE + records * VerificationRecord.SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must hold at least one record and be under 2 GB");
+        }
+        if (maxSegments < 1) {
+            throw new IllegalArgumentException("At least one segment must be kept");
+        }
+        Files.createDirectories(directory);
+        this.directory = directory;
+        this.recordsPerSegment = (int) records;
+        this.maxSegments = maxSegments;
+        this.forceIntervalNanos = forceIntervalNanos;
+        this.firstSequence = new AuditJournalReader(directory).findLastSequence() + 1;
+
+        this.capacity = ringCapacity;
+        this.mask = ringCapacity - 1;
+        this.published = new AtomicLongArray(ringCapacity);
+        for (int i = 0; i < ringCapacity; i++) {
+            published.set(i, -1);
+        }
+        this.timestamps = new long[ringCapacity];
+        this.taskIds = new long[ringCapacity];
+        this.userIds = new long[ringCapacity];
+        this.latitudes = new double[ringCapacity];
+        this.longitudes = new double[ringCapacity];
+        this.distances = new double[ringCapacity];
+        this.radii = new double[ringCapacity];
+        this.trackingIdsHigh = new long[ringCapacity];
+        this.trackingIdsLow = new long[ringCapacity];
+        this.verdicts = new boolean[ringCapacity];
+        this.outcomes = new boolean[ringCapacity];
+        this.writer = new Thread(this::writeLoop, "audit-journal-writer");
+    }
+
+    /**
+     * Open the first segment and start the writer thread.
+     *
+     * @throws IOException if the segment cannot be created
+     */
+    public void start() throws IOException {
+        if (!reopenNewestSegment()) {
+            openSegment(firstSequence);
+        }
+        running = true;
+        writer.start();
+    }
+
+    /**
+     * Queue a verification decision for the journal. Never blocks on I/O.
+     *
+     * @return false if the journal is closed or the ring stayed full, in which case the record is dropped
+     */
+    public boolean append(long timestamp, long taskId, long userId, double latitude, double longitude,
+                          double distanceFromTarget, double completionRadius, UUID trackingId,
+                          boolean verified, boolean committed) {
+        if (!running) {
+            dropped.increment();
+            return false;
+        }
+        long position;
+        int spins = 0;
+        while (true) {
+            position = tail.get();
+            if (position - head >= capacity) {
+                if (++spins > FULL_RING_SPINS) {
+                    dropped.increment();
+                    return false;
+                }
+                Thread.onSpinWait();
+            } else if (tail.compareAndSet(position, position + 1)) {
+                break;
+            }
+        }
+        int slot = (int) (position & mask);
+        timestamps[slot] = timestamp;
+        taskIds[slot] = taskId;
+        userIds[slot] = userId;
+        latitudes[slot] = latitude;
+        longitudes[slot] = longitude;
+        distances[slot] = distanceFromTarget;
+        radii[slot] = completionRadius;
+        trackingIdsHigh[slot] = trackingId.getMostSignificantBits();
+        trackingIdsLow[slot] = trackingId.getLeastSignificantBits();
+        verdicts[slot] = verified;
+        outcomes[slot] = committed;
+        published.set(slot, position); // releases the slot contents to the writer
+        return true;
+    }
+
+    /**
+     * Stop the writer after it has written everything appended so far, and force the segment to disk.
+     * Appends made after this call are dropped.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return Records appended but not yet written to the segment
+     */
+    public long getBacklog() {
+        return tail.get() - head;
+    }
+
+    /**
+     * @return Records dropped because the ring was full or the journal closed
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private void writeLoop() {
+        try {
+            while (true) {
+                long position = head;
+                int slot = (int) (position & mask);
+                if (published.get(slot) == position) {
+                    write(position, slot);
+                    head = position + 1;
+                    if ((position & FORCE_CHECK_MASK) == 0) {
+                        forceIfDue(); // keeps the interval under sustained load, when the loop never idles
+                    }
+                } else if (!running && position == tail.get()) {
+                    break;
+                } else {
+                    forceIfDue();
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            segment.force();
+            channel.close();
+        } catch (IOException | RuntimeException e) {
+            running = false;
+            logger.error("Audit journal writer stopped; further records are dropped", e);
+        }
+    }
+
+    private void write(long position, int slot) throws IOException {
+        long sequence = firstSequence + position;
+        if (segmentRecords == recordsPerSegment) {
+            segment.force();
+            channel.close();
+            openSegment(sequence);
+        }
+        VerificationRecord.encode(segment, crc, sequence, timestamps[slot], taskIds[slot], userIds[slot],
+                latitudes[slot], longitudes[slot], distances[slot], radii[slot],
+                trackingIdsHigh[slot], trackingIdsLow[slot], verdicts[slot], outcomes[slot]);
+        segmentRecords++;
+        dirty = true;
+    }
+
+    private void forceIfDue() {
+        long now = System.nanoTime();
+        if (dirty && now - lastForce >= forceIntervalNanos) {
+            segment.force();
+            dirty = false;
+            lastForce = now;
+        }
+    }
+
+    /**
+     * Map the newest segment again and continue after its last valid record, if it has room and that
+     * record is the last one of the journal. Anything after that record is cleared: records torn by a
+     * crash, or flushed out of order before it, must not turn up between the new ones.
+     *
+     * @return false if a new segment has to be started instead
+     */
+    private boolean reopenNewestSegment() throws IOException {
+        List<Path> segments = AuditJournalReader.listSegments(directory);
+        if (segments.isEmpty()) {
+            return false;
+        }
+        Path file = segments.get(segments.size() - 1);
+        long size = HEADER_SIZE + (long) recordsPerSegment * VerificationRecord.SIZE;
+        if (Files.size(file) != size) {
+            return false; // written with another segment size
+        }
+        FileChannel reopened = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer mapped = reopened.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        long startSequence = readHeader(mapped, file);
+        int records = 0;
+        int offset = HEADER_SIZE;
+        while (records < recordsPerSegment) {
+            VerificationRecord record = VerificationRecord.decode(mapped, offset, crc);
+            if (record == null || record.getSequence() != startSequence + records) {
+                break;
+            }
+            records++;
+            offset += VerificationRecord.SIZE;
+        }
+        if (records == recordsPerSegment || startSequence + records != firstSequence) {
+            reopened.close();
+            return false;
+        }
+        for (int i = offset; i < size; i += Long.BYTES) {
+            if (mapped.getLong(i) != 0) { // reading leaves untouched pages clean
+                mapped.putLong(i, 0);
+            }
+        }
+        mapped.position(offset);
+        channel = reopened;
+        segment = mapped;
+        segmentRecords = records;
+        dirty = true;
+        logger.info("Audit journal continues in {} after {} records", file.getFileName(), records);
+        return true;
+    }
+
+    /**
+     * Create and map a segment starting at a sequence. A segment with that name can only exist
+     * without valid records (otherwise numbering would have resumed after them), so it is replaced.
+     */
+    private void openSegment(long startSequence) throws IOException {
+        Path file = directory.resolve(segmentName(startSequence));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                HEADER_SIZE + (long) recordsPerSegment * VerificationRecord.SIZE);
+        segment.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) VerificationRecord.SIZE)
+                .putLong(startSequence);
+        segmentRecords = 0;
+        dirty = true;
+        deleteOldSegments();
+    }
+
+    private void deleteOldSegments() throws IOException {
+        List<Path> segments = AuditJournalReader.listSegments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    static String segmentName(long firstSequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Check the header of a mapped segment.
+     *
+     * @return Sequence of the first record of the segment
+     * @throws IOException if the buffer is not a segment of this format
+     */
+    static long readHeader(ByteBuffer buffer, Path file) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not an audit journal segment: " + file);
+        }
+        if (buffer.getShort(4) != VERSION || buffer.getShort(6) != VerificationRecord.SIZE) {
+            throw new IOException("Audit journal segment " + file + " has format version " + buffer.getShort(4) +
+                    ", expected " + VERSION + "; move it out of the journal directory");
+        }
+        return buffer.getLong(8);
+    }
+}
@@ -0,0 +1,200 @@
+package com.taskapp.audit;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads the segments written by {@link AuditJournal} in sequence order and checks the CRC of every record.
+ * Safe to use while the journal is being written: reading stops at the write position of the newest
+ * segment. In older segments a record failing its CRC is counted as corrupt and skipped; an all-zero
+ * record marks the end of a segment that was closed early.
+ * <p>
+ * Also runnable on its own to replay a journal directory as CSV:
+ * <pre>
+ * java -cp build/classes/java/main com.taskapp.audit.AuditJournalReader &lt;directory&gt; [fromSequence]
+ * </pre>
+ * The exit status is 2 if corrupt records were found.
+ */
+public class AuditJournalReader {
+
+    private final Path directory;
+
+    /**
+     * @param directory Directory holding the segment files
+     */
+    public AuditJournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Pass the valid records from a sequence onwards to a consumer, oldest first.
+     *
+     * @param fromSequence First sequence to return
+     * @param limit Maximum number of records to return
+     * @param consumer Receives the records
+     * @return Counts and the sequence to continue from
+     * @throws IOException if a segment cannot be read or has an unknown format
+     */
+    public ReplayResult replay(long fromSequence, int limit, Consumer<VerificationRecord> consumer) throws IOException {
+        List<Path> segments = listSegments(directory);
+        CRC32C crc = new CRC32C();
+        long records = 0;
+        long corrupt = 0;
+        long nextSequence = fromSequence;
+        for (int i = 0; i < segments.size() && records < limit; i++) {
+            boolean newest = i == segments.size() - 1;
+            if (!newest && firstSequenceOf(segments.get(i + 1)) <= fromSequence) {
+                continue; // every record of this segment precedes fromSequence
+            }
+            MappedByteBuffer buffer = map(segments.get(i));
+            AuditJournal.readHeader(buffer, segments.get(i));
+            for (int offset = AuditJournal.HEADER_SIZE;
+                 offset + VerificationRecord.SIZE <= buffer.limit() && records < limit;
+                 offset += VerificationRecord.SIZE) {
+                VerificationRecord record = VerificationRecord.decode(buffer, offset, crc);
+                if (record == null) {
+                    if (newest || VerificationRecord.isBlank(buffer, offset)) {
+                        break;
+                    }
+                    corrupt++;
+                    continue;
+                }
+                if (record.getSequence() >= fromSequence) {
+                    consumer.accept(record);
+                    records++;
+                    nextSequence = record.getSequence() + 1;
+                }
+            }
+        }
+        return new ReplayResult(records, corrupt, nextSequence);
+    }
+
+    /**
+     * @return Sequence of the last valid record in the journal, or 0 if it holds none
+     * @throws IOException if a segment cannot be read or has an unknown format
+     */
+    public long findLastSequence() throws IOException {
+        List<Path> segments = listSegments(directory);
+        CRC32C crc = new CRC32C();
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            MappedByteBuffer buffer = map(segments.get(i));
+            AuditJournal.readHeader(buffer, segments.get(i));
+            long last = 0;
+            for (int offset = AuditJournal.HEADER_SIZE; offset + VerificationRecord.SIZE <= buffer.limit();
+                 offset += VerificationRecord.SIZE) {
+                VerificationRecord record = VerificationRecord.decode(buffer, offset, crc);
+                if (record == null) {
+                    break; // write position, or a record torn by a crash
+                }
+                last = record.getSequence();
+            }
+            if (last > 0) {
+                return last;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return Segment files of a journal directory, oldest first
+     */
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = new ArrayList<>();
+            files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(AuditJournal.SEGMENT_PREFIX) && name.endsWith(AuditJournal.SEGMENT_SUFFIX);
+            }).forEach(segments::add);
+            // Sequences are zero-padded, so name order is sequence order
+            segments.sort((a, b) -> a.getFileName().toString().compareTo(b.getFileName().toString()));
+            return segments;
+        }
+    }
+
+    private static long firstSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(AuditJournal.SEGMENT_PREFIX.length(),
+                name.length() - AuditJournal.SEGMENT_SUFFIX.length()));
+    }
+
+    private static MappedByteBuffer map(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Replay a journal directory to standard output as CSV.
+     *
+     * @param args Journal directory and optional first sequence
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: AuditJournalReader <directory> [fromSequence]");
+            System.exit(1);
+        }
+        long fromSequence = args.length == 2 ? Long.parseLong(args[1]) : 1;
+        PrintStream out = System.out;
+        out.println("sequence,timestamp,taskId,userId,latitude,longitude,distanceFromTarget,completionRadius," +
+                "trackingId,verified,committed");
+        ReplayResult result = new AuditJournalReader(Paths.get(args[0])).replay(fromSequence, Integer.MAX_VALUE,
+                record -> out.println(record.getSequence() + "," + record.getTimestamp() + "," +
+                        record.getTaskId() + "," + record.getUserId() + "," +
+                        record.getLatitude() + "," + record.getLongitude() + "," +
+                        record.getDistanceFromTarget() + "," + record.getCompletionRadius() + "," +
+                        record.getTrackingId() + "," + record.isVerified() + "," + record.isCommitted()));
+        out.flush();
+        System.err.println(result.getRecords() + " records, " + result.getCorruptRecords() + " corrupt");
+        if (result.getCorruptRecords() > 0) {
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Outcome of a {@link #replay}.
+     */
+    public static final class ReplayResult {
+
+        private final long records;
+        private final long corruptRecords;
+        private final long nextSequence;
+
+        private ReplayResult(long records, long corruptRecords, long nextSequence) {
+            this.records = records;
+            this.corruptRecords = corruptRecords;
+            this.nextSequence = nextSequence;
+        }
+
+        public long getRecords() {
+            return records;
+        }
+
+        /**
+         * @return Records in the scanned segments that failed their CRC check
+         */
+        public long getCorruptRecords() {
+            return corruptRecords;
+        }
+
+        /**
+         * @return Sequence to pass as {@code fromSequence} to continue after the returned records
+         */
+        public long getNextSequence() {
+            return nextSequence;
+        }
+    }
+}
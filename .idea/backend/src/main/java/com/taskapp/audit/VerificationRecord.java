@@ -0,0 +1,186 @@
+package com.taskapp.audit;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * One completion verification decision as stored in the audit journal, written once the completion
+ * it belongs to has been committed or has failed.
+ * <p>
+ * Records have a fixed size of {@link #SIZE} bytes, big-endian:
+ * <pre>
+ *  offset  size  field
+ *       0     8  sequence (starts at 1, increases by 1 per record)
+ *       8     8  timestamp (epoch milliseconds)
+ *      16     8  task id
+ *      24     8  user id
+ *      32     8  submitted latitude
+ *      40     8  submitted longitude
+ *      48     8  distance from target (meters)
+ *      56     8  completion radius (meters)
+ *      64    16  tracking id of the submission (UUID, most significant bits first)
+ *      80     1  verdict (1 = verified, 0 = rejected)
+ *      81     1  outcome of the write (1 = committed, 0 = failed)
+ *      82     2  reserved, zero
+ *      84     4  CRC-32C of bytes 0-83
+ * </pre>
+ */
+public class VerificationRecord {
+
+    public static final int SIZE = 88;
+
+    private static final int CRC_OFFSET = 84;
+
+    private final long sequence;
+    private final long timestamp;
+    private final long taskId;
+    private final long userId;
+    private final double latitude;
+    private final double longitude;
+    private final double distanceFromTarget;
+    private final double completionRadius;
+    private final UUID trackingId;
+    private final boolean verified;
+    private final boolean committed;
+
+    // Constructors
+    public VerificationRecord(long sequence, long timestamp, long taskId, long userId,
+                              double latitude, double longitude, double distanceFromTarget,
+                              double completionRadius, UUID trackingId, boolean verified, boolean committed) {
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.taskId = taskId;
+        this.userId = userId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.distanceFromTarget = distanceFromTarget;
+        this.completionRadius = completionRadius;
+        this.trackingId = trackingId;
+        this.verified = verified;
+        this.committed = committed;
+    }
+
+    /**
+     * Write a record at the buffer's position and advance it by {@link #SIZE}.
+     *
+     * @param buffer Buffer with at least {@link #SIZE} bytes remaining
+     * @param crc Checksum instance to reuse; reset before use
+     */
+    public static void encode(ByteBuffer buffer, CRC32C crc, long sequence, long timestamp, long taskId, long userId,
+                              double latitude, double longitude, double distanceFromTarget,
+                              double completionRadius, long trackingIdHigh, long trackingIdLow,
+                              boolean verified, boolean committed) {
+        int start = buffer.position();
+        buffer.putLong(sequence)
+                .putLong(timestamp)
+                .putLong(taskId)
+                .putLong(userId)
+                .putDouble(latitude)
+                .putDouble(longitude)
+                .putDouble(distanceFromTarget)
+                .putDouble(completionRadius)
+                .putLong(trackingIdHigh)
+                .putLong(trackingIdLow)
+                .put((byte) (verified ? 1 : 0))
+                .put((byte) (committed ? 1 : 0))
+                .putShort((short) 0);
+        crc.reset();
+        crc.update(buffer.slice(start, CRC_OFFSET));
+        buffer.putInt((int) crc.getValue());
+    }
+
+    /**
+     * Read the record at an absolute offset, checking its CRC.
+     *
+     * @param buffer Buffer holding the record
+     * @param offset Offset of the first byte of the record
+     * @param crc Checksum instance to reuse; reset before use
+     * @return The record, or null if the CRC does not match
+     */
+    public static VerificationRecord decode(ByteBuffer buffer, int offset, CRC32C crc) {
+        crc.reset();
+        crc.update(buffer.slice(offset, CRC_OFFSET));
+        if ((int) crc.getValue() != buffer.getInt(offset + CRC_OFFSET)) {
+            return null;
+        }
+        return new VerificationRecord(
+                buffer.getLong(offset),
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                buffer.getLong(offset + 24),
+                buffer.getDouble(offset + 32),
+                buffer.getDouble(offset + 40),
+                buffer.getDouble(offset + 48),
+                buffer.getDouble(offset + 56),
+                new UUID(buffer.getLong(offset + 64), buffer.getLong(offset + 72)),
+                buffer.get(offset + 80) == 1,
+                buffer.get(offset + 81) == 1);
+    }
+
+    /**
+     * @return true if the {@link #SIZE} bytes at the offset were never written
+     */
+    static boolean isBlank(ByteBuffer buffer, int offset) {
+        for (int i = 0; i < SIZE; i += Long.BYTES) {
+            if (buffer.getLong(offset + i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Getters
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return Decision time in epoch milliseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getTaskId() {
+        return taskId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public double getDistanceFromTarget() {
+        return distanceFromTarget;
+    }
+
+    public double getCompletionRadius() {
+        return completionRadius;
+    }
+
+    /**
+     * @return Tracking id returned to the client when the completion was submitted
+     */
+    public UUID getTrackingId() {
+        return trackingId;
+    }
+
+    public boolean isVerified() {
+        return verified;
+    }
+
+    /**
+     * @return true if the completion was committed, false if writing it failed
+     */
+    public boolean isCommitted() {
+        return committed;
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskapp.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.User;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level and query cache backed by bounded Caffeine caches (through JCache).
+ * Writes made through Hibernate invalidate the affected entries and query results automatically.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Value("${cache.entity.max-size:10000}")
+    private long entityMaxSize;
+
+    @Value("${cache.entity.ttl:10m}")
+    private Duration entityTtl;
+
+    @Value("${cache.query.max-size:5000}")
+    private long queryMaxSize;
+
+    @Value("${cache.query.ttl:5m}")
+    private Duration queryTtl;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        cacheManager.createCache(User.class.getName(), bounded(entityMaxSize, entityTtl));
+        cacheManager.createCache(Task.class.getName(), bounded(entityMaxSize, entityTtl));
+        cacheManager.createCache(QUERY_RESULTS_REGION, bounded(queryMaxSize, queryTtl));
+        // One entry per table; evicting one would let stale query results be served
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, unbounded());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = unbounded();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        return configuration;
+    }
+
+    private static CaffeineConfiguration<Object, Object> unbounded() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskapp.config;
+
+import com.taskapp.service.CompletionPipeline;
+import com.taskapp.service.GeofenceMonitor;
+import com.taskapp.service.GpsService;
+import com.taskapp.service.TaskUpdateRelay;
+import com.taskapp.service.VerificationAuditService;
+import com.taskapp.service.WorkerAssignmentEngine;
+import com.taskapp.stats.StatementCounter;
+import com.taskapp.stats.TimingSampler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Application metrics published through Micrometer (scraped from {@code /actuator/prometheus}).
+ * Hot-path timers share one {@link TimingSampler}, so lowering {@code metrics.timing.sample-rate}
+ * cuts the cost of timing everywhere at once. Counters of in-memory components are read from their
+ * existing statistics when scraped instead of being updated on every call.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimingSampler timingSampler(@Value("${metrics.timing.sample-rate:1.0}") double sampleRate) {
+        return new TimingSampler(sampleRate);
+    }
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    /**
+     * Which tier of {@link GpsService#isWithinRadius} decided each radius check.
+     */
+    @Bean
+    public MeterBinder radiusCheckMetrics(GpsService gpsService) {
+        return registry -> {
+            radiusCheckCounter(registry, gpsService, "bounding_box_reject",
+                    service -> service.getRadiusCheckStats().getBoundingBoxRejects());
+            radiusCheckCounter(registry, gpsService, "approximation_accept",
+                    service -> service.getRadiusCheckStats().getApproximationAccepts());
+            radiusCheckCounter(registry, gpsService, "approximation_reject",
+                    service -> service.getRadiusCheckStats().getApproximationRejects());
+            radiusCheckCounter(registry, gpsService, "exact",
+                    service -> service.getRadiusCheckStats().getExactChecks());
+        };
+    }
+
+    /**
+     * Sizes of the in-memory queues and registries behind completions, geofences, push, assignment and audit.
+     */
+    @Bean
+    public MeterBinder pipelineGauges(CompletionPipeline completionPipeline,
+                                      GeofenceMonitor geofenceMonitor,
+                                      TaskUpdateRelay taskUpdateRelay,
+                                      WorkerAssignmentEngine workerAssignmentEngine,
+                                      VerificationAuditService verificationAuditService) {
+        return registry -> {
+            Gauge.builder("completions.queue.depth", completionPipeline, CompletionPipeline::getQueueDepth)
+                    .description("Completions accepted and waiting to be written")
+                    .register(registry);
+            Gauge.builder("geofence.users", geofenceMonitor, GeofenceMonitor::getTrackedUserCount)
+                    .description("Users with at least one geofence")
+                    .register(registry);
+            Gauge.builder("geofence.fences", geofenceMonitor, GeofenceMonitor::getFenceCount)
+                    .description("Geofences of assigned open tasks")
+                    .register(registry);
+            Gauge.builder("tasks.push.subscribers", taskUpdateRelay, TaskUpdateRelay::getSubscriberCount)
+                    .description("Open task update streams")
+                    .register(registry);
+            Gauge.builder("tasks.assignment.positioned.workers", workerAssignmentEngine,
+                            WorkerAssignmentEngine::getPositionedWorkerCount)
+                    .description("Workers with a recent known position")
+                    .register(registry);
+            Gauge.builder("audit.journal.backlog", verificationAuditService, VerificationAuditService::getBacklog)
+                    .description("Verification records queued for the audit journal")
+                    .register(registry);
+            FunctionCounter.builder("audit.journal.dropped", verificationAuditService,
+                            VerificationAuditService::getDroppedCount)
+                    .description("Verification records dropped because the audit journal fell behind")
+                    .register(registry);
+        };
+    }
+
+    private static void radiusCheckCounter(MeterRegistry registry, GpsService gpsService,
+                                           String tier, ToDoubleFunction<GpsService> count) {
+        FunctionCounter.builder("gps.radius.checks", gpsService, count)
+                .description("Radius checks by the tier that decided them")
+                .tag("tier", tier)
+                .register(registry);
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskapp.config;
+
+import com.taskapp.controller.LocationStreamHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+/**
+ * WebSocket endpoints. The handshake is an ordinary HTTP request, so it is authenticated by the
+ * JWT filter like every other protected endpoint before the connection is upgraded.
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final LocationStreamHandler locationStreamHandler;
+
+    @Value("${gps.geofence.stream.allowed-origins:*}")
+    private String[] allowedOrigins;
+
+    @Value("${gps.geofence.stream.max-message-size:65536}")
+    private int maxMessageSize;
+
+    public WebSocketConfig(LocationStreamHandler locationStreamHandler) {
+        this.locationStreamHandler = locationStreamHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(locationStreamHandler, "/locations/stream")
+                .setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    @Bean
+    public ServletServerContainerFactoryBean webSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxTextMessageBufferSize(maxMessageSize);
+        return container;
+    }
+}
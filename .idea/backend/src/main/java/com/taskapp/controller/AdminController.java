@@ -0,0 +1,330 @@
+package com.taskapp.controller;
+
+import com.taskapp.dto.CompletionReport;
+import com.taskapp.dto.CursorPage;
+import com.taskapp.dto.GpsAccuracySummary;
+import com.taskapp.dto.MapTile;
+import com.taskapp.dto.NearbyCompletionResponse;
+import com.taskapp.dto.NearbyTaskResponse;
+import com.taskapp.dto.TaskCompletionResponse;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.dto.VerificationAuditPage;
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.service.CacheAdminService;
+import com.taskapp.service.ExportService;
+import com.taskapp.service.GpsAccuracyAnalytics;
+import com.taskapp.service.ReportAggregator;
+import com.taskapp.service.TaskMapTileService;
+import com.taskapp.service.TaskService;
+import com.taskapp.service.VerificationAuditService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * REST endpoints for administrators. Access is restricted to ADMIN in {@code SecurityConfig}.
+ */
+@RestController
+@RequestMapping("/admin")
+public class AdminController {
+
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+    private final TaskService taskService;
+    private final CacheAdminService cacheAdminService;
+    private final ReportAggregator reportAggregator;
+    private final GpsAccuracyAnalytics gpsAccuracyAnalytics;
+    private final ExportService exportService;
+    private final TaskMapTileService taskMapTileService;
+    private final VerificationAuditService verificationAuditService;
+
+    @Value("${tasks.page.max-size:200}")
+    private int maxPageSize;
+
+    public AdminController(TaskService taskService,
+                           CacheAdminService cacheAdminService,
+                           ReportAggregator reportAggregator,
+                           GpsAccuracyAnalytics gpsAccuracyAnalytics,
+                           ExportService exportService,
+                           TaskMapTileService taskMapTileService,
+                           VerificationAuditService verificationAuditService) {
+        this.taskService = taskService;
+        this.cacheAdminService = cacheAdminService;
+        this.reportAggregator = reportAggregator;
+        this.gpsAccuracyAnalytics = gpsAccuracyAnalytics;
+        this.exportService = exportService;
+        this.taskMapTileService = taskMapTileService;
+        this.verificationAuditService = verificationAuditService;
+    }
+
+    /**
+     * List all tasks, one page at a time.
+     *
+     * @param status Optional status filter
+     * @param assignerId Optional assigner filter
+     * @param assigneeId Optional assignee filter
+     * @param cursor Cursor from the previous page
+     * @param limit Page size
+     * @return Page of tasks ordered by status, then newest first
+     */
+    @GetMapping("/tasks")
+    public ResponseEntity<CursorPage<TaskResponse>> getTasks(@RequestParam(required = false) TaskStatus status,
+                                                             @RequestParam(required = false) Long assignerId,
+                                                             @RequestParam(required = false) Long assigneeId,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int limit) {
+        validatePageSize(limit);
+        return ResponseEntity.ok(taskService.listTasks(assignerId, assigneeId, status, cursor, limit));
+    }
+
+    /**
+     * List task completions, one page at a time.
+     *
+     * @param taskId Optional task filter
+     * @param userId Optional filter on the user who completed the task
+     * @param cursor Cursor from the previous page
+     * @param limit Page size
+     * @return Page of completions, newest first
+     */
+    @GetMapping("/completions")
+    public ResponseEntity<CursorPage<TaskCompletionResponse>> getCompletions(@RequestParam(required = false) Long taskId,
+                                                                             @RequestParam(required = false) Long userId,
+                                                                             @RequestParam(required = false) String cursor,
+                                                                             @RequestParam(defaultValue = "20") int limit) {
+        validatePageSize(limit);
+        return ResponseEntity.ok(taskService.listCompletions(taskId, userId, cursor, limit));
+    }
+
+    /**
+     * Find tasks within a radius of a point. Searched in the database, so every task is considered
+     * whatever its status.
+     *
+     * @param latitude Center latitude
+     * @param longitude Center longitude
+     * @param radius Radius in meters
+     * @param status Optional status filter
+     * @param limit Maximum number of tasks
+     * @return Matching tasks, closest first
+     */
+    @GetMapping("/tasks/within-radius")
+    public ResponseEntity<List<NearbyTaskResponse>> getTasksWithinRadius(@RequestParam double latitude,
+                                                                         @RequestParam double longitude,
+                                                                         @RequestParam double radius,
+                                                                         @RequestParam(required = false) TaskStatus status,
+                                                                         @RequestParam(defaultValue = "20") int limit) {
+        validatePageSize(limit);
+        return ResponseEntity.ok(taskService.searchTasksWithinRadius(latitude, longitude, radius, status, limit));
+    }
+
+    /**
+     * Find completions whose GPS fix lies within a radius of a point.
+     *
+     * @param latitude Center latitude
+     * @param longitude Center longitude
+     * @param radius Radius in meters
+     * @param from Optional inclusive start of the completion time range
+     * @param to Optional exclusive end of the completion time range
+     * @param limit Maximum number of completions
+     * @return Matching completions, closest first
+     */
+    @GetMapping("/completions/within-radius")
+    public ResponseEntity<List<NearbyCompletionResponse>> getCompletionsWithinRadius(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam double radius,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "20") int limit) {
+        validatePageSize(limit);
+        return ResponseEntity.ok(taskService.searchCompletionsWithinRadius(latitude, longitude, radius,
+                from, to, limit));
+    }
+
+    /**
+     * Get the completion report: task counts by status, completion rates and time-to-completion per user.
+     * Served from incrementally maintained aggregates, so the cost does not depend on the number of tasks.
+     *
+     * @return Completion report
+     */
+    @GetMapping("/reports")
+    public ResponseEntity<CompletionReport> getReport() {
+        return ResponseEntity.ok(reportAggregator.getReport());
+    }
+
+    /**
+     * Recompute the report aggregates from the tasks and completions tables, e.g. if they have drifted.
+     *
+     * @return Rebuilt completion report
+     */
+    @PostMapping("/reports/rebuild")
+    public ResponseEntity<CompletionReport> rebuildReport() {
+        reportAggregator.rebuild();
+        return ResponseEntity.ok(reportAggregator.getReport());
+    }
+
+    /**
+     * Get percentiles of the distance between completion GPS fixes and task locations, and the share
+     * of completions near the completion radius, over a rolling window.
+     *
+     * @param dimension TASK, ASSIGNEE, REGION or ALL
+     * @param key Task id, assignee id or region key; omit to list every key of the dimension
+     * @param window HOUR, DAY or WEEK
+     * @param limit Maximum number of keys to list
+     * @param includeSketch Whether to include the serialized distance sketch of each key
+     * @return Summaries ordered by number of completions
+     */
+    @GetMapping("/analytics/gps-accuracy")
+    public ResponseEntity<List<GpsAccuracySummary>> getGpsAccuracy(
+            @RequestParam(defaultValue = "ALL") GpsAccuracyAnalytics.Dimension dimension,
+            @RequestParam(required = false) String key,
+            @RequestParam(defaultValue = "DAY") GpsAccuracyAnalytics.Window window,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "false") boolean includeSketch) {
+        validatePageSize(limit);
+        return ResponseEntity.ok(gpsAccuracyAnalytics.summarize(dimension, key, window, limit, includeSketch));
+    }
+
+    /**
+     * Get clustered task markers for a map viewport.
+     * The response holds at most a fixed number of clusters per tile on screen, regardless of the
+     * number of tasks. Above the deepest pre-aggregated zoom, tiles of that zoom are returned.
+     *
+     * @param south Southern edge latitude
+     * @param west Western edge longitude
+     * @param north Northern edge latitude
+     * @param east Eastern edge longitude
+     * @param zoom Map zoom level
+     * @return Non-empty tiles with their clusters
+     */
+    @GetMapping("/map/clusters")
+    public ResponseEntity<List<MapTile>> getMapClusters(@RequestParam double south,
+                                                        @RequestParam double west,
+                                                        @RequestParam double north,
+                                                        @RequestParam double east,
+                                                        @RequestParam int zoom) {
+        return ResponseEntity.ok(taskMapTileService.getTiles(south, west, north, east, zoom));
+    }
+
+    /**
+     * Read completion verification decisions back from the audit journal, oldest first.
+     *
+     * @param fromSequence First journal sequence to return
+     * @param limit Maximum number of records
+     * @return Records, the number of corrupt records skipped and the sequence of the next page
+     */
+    @GetMapping("/audit/verifications")
+    public ResponseEntity<VerificationAuditPage> getVerificationAudit(@RequestParam(defaultValue = "1") long fromSequence,
+                                                                      @RequestParam(defaultValue = "20") int limit) {
+        validatePageSize(limit);
+        return ResponseEntity.ok(verificationAuditService.read(fromSequence, limit));
+    }
+
+    /**
+     * Stream task completions recorded in a time range as a CSV or NDJSON download.
+     *
+     * @param format CSV or NDJSON
+     * @param from Inclusive start of the range; defaults to the beginning of time
+     * @param to Exclusive end of the range; defaults to now
+     * @param userId Optional filter on the user who completed the task
+     * @param gzip Whether to gzip the download
+     * @param response Response the export is written to
+     */
+    @GetMapping("/exports/completions")
+    public void exportCompletions(@RequestParam(defaultValue = "CSV") ExportService.Format format,
+                                  @RequestParam(required = false)
+                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                  @RequestParam(required = false)
+                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                  @RequestParam(required = false) Long userId,
+                                  @RequestParam(defaultValue = "false") boolean gzip,
+                                  HttpServletResponse response) throws IOException {
+        try (Writer out = openExport(response, "completions", format, gzip)) {
+            exportService.exportCompletions(startOrEpoch(from), endOrNow(to), userId, format, out);
+        }
+    }
+
+    /**
+     * Stream tasks created in a time range as a CSV or NDJSON download.
+     *
+     * @param format CSV or NDJSON
+     * @param from Inclusive start of the range; defaults to the beginning of time
+     * @param to Exclusive end of the range; defaults to now
+     * @param assigneeId Optional assignee filter
+     * @param gzip Whether to gzip the download
+     * @param response Response the export is written to
+     */
+    @GetMapping("/exports/tasks")
+    public void exportTasks(@RequestParam(defaultValue = "CSV") ExportService.Format format,
+                            @RequestParam(required = false)
+                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                            @RequestParam(required = false)
+                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                            @RequestParam(required = false) Long assigneeId,
+                            @RequestParam(defaultValue = "false") boolean gzip,
+                            HttpServletResponse response) throws IOException {
+        try (Writer out = openExport(response, "tasks", format, gzip)) {
+            exportService.exportTasks(startOrEpoch(from), endOrNow(to), assigneeId, format, out);
+        }
+    }
+
+    /**
+     * Evict the second-level and query caches, e.g. after changing users or tasks directly in the database.
+     *
+     * @return 204 No Content
+     */
+    @DeleteMapping("/caches")
+    public ResponseEntity<Void> evictCaches() {
+        cacheAdminService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    private Writer openExport(HttpServletResponse response, String name, ExportService.Format format,
+                              boolean gzip) throws IOException {
+        String extension = format == ExportService.Format.CSV ? ".csv" : ".ndjson";
+        response.setContentType(gzip ? "application/gzip"
+                : format == ExportService.Format.CSV ? TaskController.CSV_MEDIA_TYPE : TaskController.NDJSON_MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + extension + (gzip ? ".gz" : "") + "\"");
+        OutputStream stream = response.getOutputStream();
+        if (gzip) {
+            stream = new GZIPOutputStream(stream, EXPORT_BUFFER_SIZE);
+        }
+        return new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+    }
+
+    private static LocalDateTime startOrEpoch(LocalDateTime from) {
+        return from != null ? from : LocalDateTime.of(1970, 1, 1, 0, 0);
+    }
+
+    private static LocalDateTime endOrNow(LocalDateTime to) {
+        return to != null ? to : LocalDateTime.now();
+    }
+
+    private void validatePageSize(int limit) {
+        if (limit <= 0 || limit > maxPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Limit must be between 1 and " + maxPageSize);
+        }
+    }
+}
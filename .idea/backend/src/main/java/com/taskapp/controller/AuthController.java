@@ -0,0 +1,47 @@
+package com.taskapp.controller;
+
+import com.taskapp.dto.LogoutRequest;
+import com.taskapp.service.JwtService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoints for authentication.
+ */
+@RestController
+@RequestMapping("/auth")
+public class AuthController {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+
+    public AuthController(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    /**
+     * Log out by revoking the access token from the Authorization header and,
+     * if supplied, the refresh token from the request body.
+     *
+     * @param authorization Authorization header
+     * @param request Optional logout request
+     * @return 204 No Content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) LogoutRequest request) {
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            jwtService.revokeToken(authorization.substring(BEARER_PREFIX.length()));
+        }
+        if (request != null && request.getRefreshToken() != null) {
+            jwtService.revokeToken(request.getRefreshToken());
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
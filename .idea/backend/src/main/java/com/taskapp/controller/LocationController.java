@@ -0,0 +1,49 @@
+package com.taskapp.controller;
+
+import com.taskapp.dto.LocationPing;
+import com.taskapp.event.GeofenceTransitionEvent;
+import com.taskapp.security.AuthenticatedPrincipal;
+import com.taskapp.service.GeofenceMonitor;
+import com.taskapp.service.WorkerAssignmentEngine;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST fallback for clients that cannot keep the {@code /locations/stream} WebSocket open.
+ */
+@RestController
+@RequestMapping("/locations")
+public class LocationController {
+
+    private final GeofenceMonitor geofenceMonitor;
+    private final WorkerAssignmentEngine workerAssignmentEngine;
+
+    public LocationController(GeofenceMonitor geofenceMonitor, WorkerAssignmentEngine workerAssignmentEngine) {
+        this.geofenceMonitor = geofenceMonitor;
+        this.workerAssignmentEngine = workerAssignmentEngine;
+    }
+
+    /**
+     * Submit buffered location pings of the current user.
+     *
+     * @param pings Pings, oldest first
+     * @param principal Current user
+     * @return Geofence transitions caused by the pings
+     */
+    @PostMapping
+    public ResponseEntity<List<GeofenceTransitionEvent>> submitPings(@RequestBody List<LocationPing> pings,
+                                                                     @AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        List<GeofenceTransitionEvent> transitions = geofenceMonitor.evaluate(principal.getId(), pings);
+        if (!pings.isEmpty()) {
+            LocationPing latest = pings.get(pings.size() - 1);
+            workerAssignmentEngine.updatePosition(principal.getId(), latest.getLatitude(), latest.getLongitude());
+        }
+        return ResponseEntity.ok(transitions);
+    }
+}
@@ -0,0 +1,118 @@
+package com.taskapp.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskapp.dto.LocationPing;
+import com.taskapp.event.GeofenceTransitionEvent;
+import com.taskapp.exception.InvalidRequestException;
+import com.taskapp.security.AuthenticatedPrincipal;
+import com.taskapp.service.GeofenceMonitor;
+import com.taskapp.service.WorkerAssignmentEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live location channel at {@code /locations/stream}.
+ * Each text frame carries one ping object or an array of pings, oldest first. Frames that cause
+ * geofence transitions are answered with the array of transitions; all other frames get no reply.
+ */
+@Component
+public class LocationStreamHandler extends TextWebSocketHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationStreamHandler.class);
+
+    private static final String USER_ID_ATTRIBUTE = "userId";
+    private static final String MALFORMED_PING = "Malformed ping";
+
+    private final GeofenceMonitor geofenceMonitor;
+    private final WorkerAssignmentEngine workerAssignmentEngine;
+    private final ObjectReader pingReader;
+    private final ObjectReader pingBatchReader;
+    private final ObjectWriter transitionWriter;
+    private final ObjectMapper objectMapper;
+
+    public LocationStreamHandler(GeofenceMonitor geofenceMonitor,
+                                 WorkerAssignmentEngine workerAssignmentEngine,
+                                 ObjectMapper objectMapper) {
+        this.geofenceMonitor = geofenceMonitor;
+        this.workerAssignmentEngine = workerAssignmentEngine;
+        this.objectMapper = objectMapper;
+        this.pingReader = objectMapper.readerFor(LocationPing.class);
+        this.pingBatchReader = objectMapper.readerFor(LocationPing[].class);
+        this.transitionWriter = objectMapper.writerFor(GeofenceTransitionEvent[].class);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        if (session.getPrincipal() instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof AuthenticatedPrincipal principal) {
+            session.getAttributes().put(USER_ID_ATTRIBUTE, principal.getId());
+        } else {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Authentication required"));
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        Long userId = (Long) session.getAttributes().get(USER_ID_ATTRIBUTE);
+        if (userId == null) {
+            return;
+        }
+        List<GeofenceTransitionEvent> transitions;
+        try {
+            List<LocationPing> pings = readPings(message.getPayload());
+            transitions = geofenceMonitor.evaluate(userId, pings);
+            if (!pings.isEmpty()) {
+                LocationPing latest = pings.get(pings.size() - 1);
+                workerAssignmentEngine.updatePosition(userId, latest.getLatitude(), latest.getLongitude());
+            }
+        } catch (JsonProcessingException | InvalidRequestException e) {
+            sendError(session, e instanceof JsonProcessingException ? MALFORMED_PING : e.getMessage());
+            return;
+        }
+        if (!transitions.isEmpty()) {
+            session.sendMessage(new TextMessage(
+                    transitionWriter.writeValueAsString(transitions.toArray(new GeofenceTransitionEvent[0]))));
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        logger.debug("Location stream of session {} failed: {}", session.getId(), exception.getMessage());
+    }
+
+    private List<LocationPing> readPings(String payload) throws JsonProcessingException {
+        for (int i = 0; i < payload.length(); i++) {
+            char c = payload.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                if (c == '[') {
+                    LocationPing[] pings = pingBatchReader.readValue(payload);
+                    return Arrays.asList(pings);
+                }
+                break;
+            }
+        }
+        LocationPing ping = pingReader.readValue(payload);
+        if (ping == null) {
+            throw new InvalidRequestException(MALFORMED_PING); // the frame was the JSON literal null
+        }
+        return List.of(ping);
+    }
+
+    private void sendError(WebSocketSession session, String error) throws IOException {
+        session.sendMessage(new TextMessage(objectMapper.writeValueAsString(Map.of("error", error))));
+    }
+}
@@ -0,0 +1,333 @@
+package com.taskapp.controller;
+
+import com.taskapp.dto.CompletionAcknowledgement;
+import com.taskapp.dto.CompletionRequest;
+import com.taskapp.dto.CursorPage;
+import com.taskapp.dto.NearbyTaskResponse;
+import com.taskapp.dto.RoutePlan;
+import com.taskapp.dto.TaskImportReport;
+import com.taskapp.dto.TaskLocation;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.dto.TaskSyncResponse;
+import com.taskapp.dto.TaskUpdateRequest;
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.geo.GeoGridIndex.Neighbor;
+import com.taskapp.exception.ResourceNotFoundException;
+import com.taskapp.security.AuthenticatedPrincipal;
+import com.taskapp.service.CompletionPipeline;
+import com.taskapp.service.GpsService;
+import com.taskapp.service.RoutePlanningService;
+import com.taskapp.service.TaskImportService;
+import com.taskapp.service.TaskService;
+import com.taskapp.service.TaskSpatialIndex;
+import com.taskapp.service.TaskUpdateRelay;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * REST endpoints for task operations.
+ */
+@RestController
+@RequestMapping("/tasks")
+public class TaskController {
+
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+
+    private final TaskSpatialIndex taskSpatialIndex;
+    private final TaskImportService taskImportService;
+    private final CompletionPipeline completionPipeline;
+    private final TaskService taskService;
+    private final GpsService gpsService;
+    private final TaskUpdateRelay taskUpdateRelay;
+    private final RoutePlanningService routePlanningService;
+
+    @Value("${gps.index.max-search-radius:50000}")
+    private double maxSearchRadius;
+
+    @Value("${gps.index.max-results:500}")
+    private int maxResults;
+
+    @Value("${tasks.page.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${tasks.sync.max-page-size:500}")
+    private int maxSyncPageSize;
+
+    public TaskController(TaskSpatialIndex taskSpatialIndex,
+                          TaskImportService taskImportService,
+                          CompletionPipeline completionPipeline,
+                          TaskService taskService,
+                          GpsService gpsService,
+                          TaskUpdateRelay taskUpdateRelay,
+                          RoutePlanningService routePlanningService) {
+        this.taskSpatialIndex = taskSpatialIndex;
+        this.taskImportService = taskImportService;
+        this.completionPipeline = completionPipeline;
+        this.taskService = taskService;
+        this.gpsService = gpsService;
+        this.taskUpdateRelay = taskUpdateRelay;
+        this.routePlanningService = routePlanningService;
+    }
+
+    /**
+     * Find open tasks near a location.
+     * With a radius, returns the tasks inside it (closest first, at most {@code limit});
+     * without one, returns the {@code limit} nearest tasks within the maximum search radius.
+     *
+     * @param latitude Latitude of the caller
+     * @param longitude Longitude of the caller
+     * @param radius Optional search radius in meters
+     * @param limit Maximum number of tasks to return
+     * @return Nearby tasks ordered by distance
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyTaskResponse>> getNearbyTasks(@RequestParam double latitude,
+                                                                   @RequestParam double longitude,
+                                                                   @RequestParam(required = false) Double radius,
+                                                                   @RequestParam(defaultValue = "20") int limit) {
+        if (!gpsService.isValidCoordinates(latitude, longitude)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid coordinates");
+        }
+        if (radius != null && (radius <= 0 || radius > maxSearchRadius)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Radius must be between 0 and " + maxSearchRadius + " meters");
+        }
+        if (limit <= 0 || limit > maxResults) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Limit must be between 1 and " + maxResults);
+        }
+
+        List<Neighbor<TaskLocation>> matches = radius != null
+                ? taskSpatialIndex.findWithinRadius(latitude, longitude, radius)
+                : taskSpatialIndex.findNearest(latitude, longitude, limit, maxSearchRadius);
+
+        List<NearbyTaskResponse> response = matches.stream()
+                .limit(limit)
+                .map(match -> new NearbyTaskResponse(match.getValue(), match.getDistance()))
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Bulk import tasks assigned by the caller from an NDJSON or CSV upload.
+     * The body is stream-parsed and written in batches; rows that fail validation are
+     * reported individually and do not stop the import. CSV that cannot be parsed stops it
+     * after the rows before it, and the report is marked truncated.
+     *
+     * @param request Upload request
+     * @param principal Authenticated task assigner
+     * @return Per-row import report
+     */
+    @PostMapping(value = "/import", consumes = {NDJSON_MEDIA_TYPE, CSV_MEDIA_TYPE})
+    public ResponseEntity<TaskImportReport> importTasks(HttpServletRequest request,
+                                                        @AuthenticationPrincipal AuthenticatedPrincipal principal)
+            throws IOException {
+        TaskImportService.Format format = request.getContentType().startsWith(CSV_MEDIA_TYPE)
+                ? TaskImportService.Format.CSV
+                : TaskImportService.Format.NDJSON;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(taskImportService.importTasks(reader, format, principal.getId()));
+        }
+    }
+
+    /**
+     * Complete a task with GPS verification.
+     * The completion is verified and acknowledged immediately and written asynchronously;
+     * poll the returned tracking id for the final state.
+     *
+     * @param id Task id
+     * @param request Submitted GPS location
+     * @param principal Authenticated assignee
+     * @return 202 Accepted with the verification result and tracking id
+     */
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<CompletionAcknowledgement> completeTask(@PathVariable Long id,
+                                                                  @Valid @RequestBody CompletionRequest request,
+                                                                  @AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        CompletionAcknowledgement acknowledgement = completionPipeline.submit(
+                id, principal.getId(), request.getLatitude(), request.getLongitude());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(acknowledgement);
+    }
+
+    /**
+     * Get the state of an asynchronous completion submission.
+     *
+     * @param trackingId Tracking id returned when the completion was submitted
+     * @return Current acknowledgement
+     */
+    @GetMapping("/completions/{trackingId}")
+    public ResponseEntity<CompletionAcknowledgement> getCompletionStatus(@PathVariable String trackingId) {
+        return completionPipeline.getAcknowledgement(trackingId)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("Unknown completion tracking id"));
+    }
+
+    /**
+     * List the tasks the caller has assigned, one page at a time.
+     *
+     * @param status Optional status filter
+     * @param assigneeId Optional assignee filter
+     * @param cursor Cursor from the previous page
+     * @param limit Page size
+     * @param principal Authenticated task assigner
+     * @return Page of tasks ordered by status, then newest first
+     */
+    @GetMapping("/assigned")
+    public ResponseEntity<CursorPage<TaskResponse>> getAssignedTasks(@RequestParam(required = false) TaskStatus status,
+                                                                     @RequestParam(required = false) Long assigneeId,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "20") int limit,
+                                                                     @AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        validatePageSize(limit);
+        return ResponseEntity.ok(taskService.listTasks(principal.getId(), assigneeId, status, cursor, limit));
+    }
+
+    /**
+     * List the tasks assigned to the caller, one page at a time.
+     *
+     * @param status Optional status filter
+     * @param cursor Cursor from the previous page
+     * @param limit Page size
+     * @param principal Authenticated assignee
+     * @return Page of tasks ordered by status, then newest first
+     */
+    @GetMapping("/my-tasks")
+    public ResponseEntity<CursorPage<TaskResponse>> getMyTasks(@RequestParam(required = false) TaskStatus status,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "20") int limit,
+                                                               @AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        validatePageSize(limit);
+        return ResponseEntity.ok(taskService.listTasks(null, principal.getId(), status, cursor, limit));
+    }
+
+    /**
+     * Get the changes to the caller's tasks since the last sync.
+     * Pass the watermark from the previous response as {@code since}; omit it for a full sync.
+     * Keep requesting while {@code hasMore} is true. When {@code reset} is true the client's
+     * watermark was too old and the response starts a full resync, so local state should be replaced.
+     *
+     * @param since Watermark from the previous response
+     * @param limit Maximum number of tasks and of tombstones per page
+     * @param principal Authenticated assignee
+     * @return Changed tasks, removed task ids and the next watermark
+     */
+    @GetMapping("/my-tasks/changes")
+    public ResponseEntity<TaskSyncResponse> getMyTaskChanges(@RequestParam(required = false) String since,
+                                                             @RequestParam(defaultValue = "100") int limit,
+                                                             @AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        if (limit <= 0 || limit > maxSyncPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Limit must be between 1 and " + maxSyncPageSize);
+        }
+        return ResponseEntity.ok(taskService.syncTasks(principal.getId(), since, limit));
+    }
+
+    /**
+     * Stream changes to the caller's tasks as server-sent events.
+     * Each {@code task} event carries its id; after a disconnect, reconnect with that id as
+     * {@code Last-Event-ID} (or {@code lastEventId}) to receive what was missed. A {@code reset}
+     * event means the gap could not be replayed and the client should run delta sync first.
+     *
+     * @param lastEventIdHeader Last event id sent by an EventSource on reconnect
+     * @param lastEventId Last event id for clients that cannot set the header
+     * @param principal Current user
+     * @return Event stream
+     */
+    @GetMapping(value = "/my-tasks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMyTaskUpdates(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+                                          @RequestParam(required = false) Long lastEventId,
+                                          @AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        return taskUpdateRelay.subscribe(principal.getId(), lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+
+    /**
+     * Suggest the order in which to visit the caller's open tasks.
+     * Pass the caller's position to start the route there; without it the route starts at whichever
+     * task gives the shortest path.
+     *
+     * @param latitude Optional current latitude
+     * @param longitude Optional current longitude
+     * @param principal Current user
+     * @return Tasks in visiting order with leg distances and headings
+     */
+    @GetMapping("/my-tasks/route")
+    public ResponseEntity<RoutePlan> getMyRoute(@RequestParam(required = false) Double latitude,
+                                                @RequestParam(required = false) Double longitude,
+                                                @AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        return ResponseEntity.ok(routePlanningService.planRoute(principal.getId(), latitude, longitude));
+    }
+
+    /**
+     * Get a task.
+     *
+     * @param id Task id
+     * @param principal Authenticated assigner or assignee of the task, or an admin
+     * @return Task
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskResponse> getTask(@PathVariable Long id,
+                                                @AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        return ResponseEntity.ok(taskService.getTask(id, principal));
+    }
+
+    /**
+     * Update a task. Only the fields present in the request are changed.
+     *
+     * @param id Task id
+     * @param request Fields to change
+     * @param principal Authenticated assigner of the task, or an admin
+     * @return Updated task
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<TaskResponse> updateTask(@PathVariable Long id,
+                                                   @Valid @RequestBody TaskUpdateRequest request,
+                                                   @AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        return ResponseEntity.ok(taskService.updateTask(id, request, principal));
+    }
+
+    /**
+     * Delete a task.
+     *
+     * @param id Task id
+     * @param principal Authenticated assigner of the task, or an admin
+     * @return 204 No Content
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id,
+                                           @AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        taskService.deleteTask(id, principal);
+        return ResponseEntity.noContent().build();
+    }
+
+    private void validatePageSize(int limit) {
+        if (limit <= 0 || limit > maxPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Limit must be between 1 and " + maxPageSize);
+        }
+    }
+}
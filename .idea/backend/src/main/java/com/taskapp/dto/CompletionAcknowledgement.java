@@ -0,0 +1,54 @@
+package com.taskapp.dto;
+
+/**
+ * Immediate answer to a completion submission. The completion is durably recorded
+ * asynchronously; poll the tracking id for the final state.
+ */
+public class CompletionAcknowledgement {
+
+    public enum State {
+        QUEUED,
+        COMMITTED,
+        FAILED
+    }
+
+    private final String trackingId;
+    private final long taskId;
+    private final double distanceFromTarget;
+    private final boolean completionVerified;
+    private final State state;
+
+    public CompletionAcknowledgement(String trackingId, long taskId, double distanceFromTarget,
+                                     boolean completionVerified, State state) {
+        this.trackingId = trackingId;
+        this.taskId = taskId;
+        this.distanceFromTarget = distanceFromTarget;
+        this.completionVerified = completionVerified;
+        this.state = state;
+    }
+
+    public CompletionAcknowledgement withState(State state) {
+        return new CompletionAcknowledgement(trackingId, taskId, distanceFromTarget, completionVerified, state);
+    }
+
+    // Getters
+    public String getTrackingId() {
+        return trackingId;
+    }
+
+    public long getTaskId() {
+        return taskId;
+    }
+
+    public double getDistanceFromTarget() {
+        return distanceFromTarget;
+    }
+
+    public boolean isCompletionVerified() {
+        return completionVerified;
+    }
+
+    public State getState() {
+        return state;
+    }
+}
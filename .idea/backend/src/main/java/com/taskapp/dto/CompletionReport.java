@@ -0,0 +1,52 @@
+package com.taskapp.dto;
+
+import com.taskapp.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin completion report: totals across all users plus one line per user.
+ */
+public class CompletionReport {
+
+    private final LocalDateTime generatedAt;
+    private final Map<TaskStatus, Long> tasksByStatus;
+    private final Double completionRate;
+    private final QuantileSummary timeToCompletion;
+    private final List<UserReport> users;
+
+    public CompletionReport(LocalDateTime generatedAt, Map<TaskStatus, Long> tasksByStatus, Double completionRate,
+                            QuantileSummary timeToCompletion, List<UserReport> users) {
+        this.generatedAt = generatedAt;
+        this.tasksByStatus = tasksByStatus;
+        this.completionRate = completionRate;
+        this.timeToCompletion = timeToCompletion;
+        this.users = users;
+    }
+
+    // Getters
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public Map<TaskStatus, Long> getTasksByStatus() {
+        return tasksByStatus;
+    }
+
+    public Double getCompletionRate() {
+        return completionRate;
+    }
+
+    /**
+     * @return Seconds from task creation to completion
+     */
+    public QuantileSummary getTimeToCompletion() {
+        return timeToCompletion;
+    }
+
+    public List<UserReport> getUsers() {
+        return users;
+    }
+}
@@ -0,0 +1,64 @@
+package com.taskapp.dto;
+
+/**
+ * Distance-from-target statistics of the completions for one key over a rolling window.
+ */
+public class GpsAccuracySummary {
+
+    private final String dimension;
+    private final String key;
+    private final String window;
+    private final QuantileSummary distance;
+    private final Double verifiedShare;
+    private final Double nearBoundaryShare;
+    private final byte[] sketch;
+
+    public GpsAccuracySummary(String dimension, String key, String window, QuantileSummary distance,
+                              Double verifiedShare, Double nearBoundaryShare, byte[] sketch) {
+        this.dimension = dimension;
+        this.key = key;
+        this.window = window;
+        this.distance = distance;
+        this.verifiedShare = verifiedShare;
+        this.nearBoundaryShare = nearBoundaryShare;
+        this.sketch = sketch;
+    }
+
+    // Getters
+    public String getDimension() {
+        return dimension;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getWindow() {
+        return window;
+    }
+
+    /**
+     * @return Count, mean and quantiles of the distance from the task location, in meters
+     */
+    public QuantileSummary getDistance() {
+        return distance;
+    }
+
+    public Double getVerifiedShare() {
+        return verifiedShare;
+    }
+
+    /**
+     * @return Share of completions whose distance is within the boundary band around the completion radius
+     */
+    public Double getNearBoundaryShare() {
+        return nearBoundaryShare;
+    }
+
+    /**
+     * @return Serialized distance sketch for merging with other nodes or windows, if requested
+     */
+    public byte[] getSketch() {
+        return sketch;
+    }
+}
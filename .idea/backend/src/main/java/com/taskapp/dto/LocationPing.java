@@ -0,0 +1,40 @@
+package com.taskapp.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Live GPS fix sent by a worker's device.
+ */
+public class LocationPing {
+
+    @NotNull(message = "GPS latitude is required")
+    private Double latitude;
+
+    @NotNull(message = "GPS longitude is required")
+    private Double longitude;
+
+    // Constructors
+    public LocationPing() {}
+
+    public LocationPing(Double latitude, Double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    // Getters and Setters
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+}
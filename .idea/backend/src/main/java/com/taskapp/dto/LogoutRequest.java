@@ -0,0 +1,25 @@
+package com.taskapp.dto;
+
+/**
+ * Optional body of a logout request carrying the refresh token to revoke with the access token.
+ */
+public class LogoutRequest {
+
+    private String refreshToken;
+
+    // Constructors
+    public LogoutRequest() {}
+
+    public LogoutRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    // Getters and Setters
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,45 @@
+package com.taskapp.dto;
+
+import com.taskapp.entity.TaskStatus;
+
+import java.util.Map;
+
+/**
+ * Aggregate of the tasks in one cell of a map tile: how many, where their centroid is and in which states.
+ */
+public class MapCluster {
+
+    private final double latitude;
+    private final double longitude;
+    private final int count;
+    private final Map<TaskStatus, Integer> statusCounts;
+
+    public MapCluster(double latitude, double longitude, int count, Map<TaskStatus, Integer> statusCounts) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.count = count;
+        this.statusCounts = statusCounts;
+    }
+
+    /**
+     * @return Latitude of the centroid of the clustered tasks
+     */
+    public double getLatitude() {
+        return latitude;
+    }
+
+    /**
+     * @return Longitude of the centroid of the clustered tasks
+     */
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public Map<TaskStatus, Integer> getStatusCounts() {
+        return statusCounts;
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskapp.dto;
+
+import java.util.List;
+
+/**
+ * Clusters of one Web Mercator tile ({@code zoom/x/y}). Empty tiles are not returned.
+ */
+public class MapTile {
+
+    private final int zoom;
+    private final int x;
+    private final int y;
+    private final List<MapCluster> clusters;
+
+    public MapTile(int zoom, int x, int y, List<MapCluster> clusters) {
+        this.zoom = zoom;
+        this.x = x;
+        this.y = y;
+        this.clusters = clusters;
+    }
+
+    public int getZoom() {
+        return zoom;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public List<MapCluster> getClusters() {
+        return clusters;
+    }
+}
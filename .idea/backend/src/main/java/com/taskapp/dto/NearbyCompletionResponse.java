@@ -0,0 +1,28 @@
+package com.taskapp.dto;
+
+/**
+ * A completion returned by a radius search together with the distance of its GPS fix from the center.
+ */
+public class NearbyCompletionResponse {
+
+    private final TaskCompletionResponse completion;
+    private final double distance;
+
+    // Constructors
+    public NearbyCompletionResponse(TaskCompletionResponse completion, double distance) {
+        this.completion = completion;
+        this.distance = distance;
+    }
+
+    // Getters
+    public TaskCompletionResponse getCompletion() {
+        return completion;
+    }
+
+    /**
+     * @return Distance in meters from the search center
+     */
+    public double getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskapp.dto;
+
+import com.taskapp.entity.TaskStatus;
+
+/**
+ * A task returned by the nearby-tasks search together with its distance from the caller.
+ */
+public class NearbyTaskResponse {
+
+    private final long id;
+    private final String title;
+    private final double latitude;
+    private final double longitude;
+    private final double completionRadius;
+    private final TaskStatus status;
+    private final Long assigneeId;
+    private final double distance;
+
+    // Constructors
+    public NearbyTaskResponse(TaskLocation location, double distance) {
+        this.id = location.getTaskId();
+        this.title = location.getTitle();
+        this.latitude = location.getLatitude();
+        this.longitude = location.getLongitude();
+        this.completionRadius = location.getCompletionRadius();
+        this.status = location.getStatus();
+        this.assigneeId = location.getAssigneeId();
+        this.distance = distance;
+    }
+
+    // Getters
+    public long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public double getCompletionRadius() {
+        return completionRadius;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    /**
+     * @return Distance in meters from the search origin
+     */
+    public double getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskapp.dto;
+
+import com.taskapp.stats.LogHistogram;
+
+/**
+ * Count, mean and quantiles of a histogram, in the unit of the recorded values.
+ * Statistics are null when there are no values.
+ */
+public class QuantileSummary {
+
+    private final long count;
+    private final Double mean;
+    private final Double p50;
+    private final Double p90;
+    private final Double p99;
+    private final Double max;
+
+    public QuantileSummary(long count, Double mean, Double p50, Double p90, Double p99, Double max) {
+        this.count = count;
+        this.mean = mean;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    public static QuantileSummary of(LogHistogram histogram) {
+        if (histogram.getCount() == 0) {
+            return new QuantileSummary(0, null, null, null, null, null);
+        }
+        return new QuantileSummary(histogram.getCount(), histogram.getMean(), histogram.getQuantile(0.5),
+                histogram.getQuantile(0.9), histogram.getQuantile(0.99), histogram.getMax());
+    }
+
+    // Getters
+    public long getCount() {
+        return count;
+    }
+
+    public Double getMean() {
+        return mean;
+    }
+
+    public Double getP50() {
+        return p50;
+    }
+
+    public Double getP90() {
+        return p90;
+    }
+
+    public Double getP99() {
+        return p99;
+    }
+
+    public Double getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskapp.dto;
+
+import com.taskapp.entity.TaskStatus;
+
+/**
+ * One stop of a planned route and the leg leading to it.
+ */
+public class RouteLeg {
+
+    private final long taskId;
+    private final String title;
+    private final TaskStatus status;
+    private final double latitude;
+    private final double longitude;
+    private final double distance;
+    private final Double bearing;
+    private final double cumulativeDistance;
+
+    public RouteLeg(long taskId, String title, TaskStatus status, double latitude, double longitude,
+                    double distance, Double bearing, double cumulativeDistance) {
+        this.taskId = taskId;
+        this.title = title;
+        this.status = status;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.distance = distance;
+        this.bearing = bearing;
+        this.cumulativeDistance = cumulativeDistance;
+    }
+
+    public long getTaskId() {
+        return taskId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * @return Length of the leg arriving at this stop in meters
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * @return Initial heading of the leg in degrees (0-360), or null for the first stop of a route without a start
+     */
+    public Double getBearing() {
+        return bearing;
+    }
+
+    public double getCumulativeDistance() {
+        return cumulativeDistance;
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskapp.dto;
+
+import java.util.List;
+
+/**
+ * Suggested order in which to visit a user's open tasks.
+ */
+public class RoutePlan {
+
+    private final long taskSetVersion;
+    private final double totalDistance;
+    private final boolean converged;
+    private final List<RouteLeg> legs;
+
+    public RoutePlan(long taskSetVersion, double totalDistance, boolean converged, List<RouteLeg> legs) {
+        this.taskSetVersion = taskSetVersion;
+        this.totalDistance = totalDistance;
+        this.converged = converged;
+        this.legs = legs;
+    }
+
+    /**
+     * @return Version of the user's open-task set the plan was computed for
+     */
+    public long getTaskSetVersion() {
+        return taskSetVersion;
+    }
+
+    public double getTotalDistance() {
+        return totalDistance;
+    }
+
+    /**
+     * @return false if improvement was cut short by the planning time budget
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    public List<RouteLeg> getLegs() {
+        return legs;
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskapp.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task completion as returned by the API. Built from a JPQL constructor projection that joins
+ * the task and user, so a list of completions is read in one query.
+ */
+public class TaskCompletionResponse {
+
+    private final Long id;
+    private final Long taskId;
+    private final String taskTitle;
+    private final Long userId;
+    private final String username;
+    private final Double gpsLatitude;
+    private final Double gpsLongitude;
+    private final Double distanceFromTarget;
+    private final boolean completionVerified;
+    private final String verificationNotes;
+    private final LocalDateTime completedAt;
+
+    public TaskCompletionResponse(Long id, Long taskId, String taskTitle, Long userId, String username,
+                                  Double gpsLatitude, Double gpsLongitude, Double distanceFromTarget, boolean completionVerified, String verificationNotes,
+                                  LocalDateTime completedAt) {
+        this.id = id;
+        this.taskId = taskId;
+        this.taskTitle = taskTitle;
+        this.userId = userId;
+        this.username = username;
+        this.gpsLatitude = gpsLatitude;
+        this.gpsLongitude = gpsLongitude;
+        this.distanceFromTarget = distanceFromTarget;
+        this.completionVerified = completionVerified;
+        this.verificationNotes = verificationNotes;
+        this.completedAt = completedAt;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public String getTaskTitle() {
+        return taskTitle;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Double getGpsLatitude() {
+        return gpsLatitude;
+    }
+
+    public Double getGpsLongitude() {
+        return gpsLongitude;
+    }
+
+    public Double getDistanceFromTarget() {
+        return distanceFromTarget;
+    }
+
+    public boolean isCompletionVerified() {
+        return completionVerified;
+    }
+
+    public String getVerificationNotes() {
+        return verificationNotes;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
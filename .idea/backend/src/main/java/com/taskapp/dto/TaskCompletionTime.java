@@ -0,0 +1,32 @@
+package com.taskapp.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * When a completed task was created and completed. Built from a JPQL constructor projection.
+ */
+public class TaskCompletionTime {
+
+    private final Long assigneeId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime completedAt;
+
+    public TaskCompletionTime(Long assigneeId, LocalDateTime createdAt, LocalDateTime completedAt) {
+        this.assigneeId = assigneeId;
+        this.createdAt = createdAt;
+        this.completedAt = completedAt;
+    }
+
+    // Getters
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskapp.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk task import. Only the first {@code maxErrors} row errors are kept
+ * so the report stays small however many rows fail; the counters are always exact.
+ * An import that stopped at input it could not parse is marked truncated.
+ */
+public class TaskImportReport {
+
+    private final int maxErrors;
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private boolean truncated;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public TaskImportReport(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public void recordRow() {
+        totalRows++;
+    }
+
+    public void recordImported(int count) {
+        importedRows += count;
+    }
+
+    public void recordError(long line, String message) {
+        failedRows++;
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    public void markTruncated() {
+        truncated = true;
+    }
+
+    // Getters
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public long getFailedRows() {
+        return failedRows;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return failedRows > errors.size();
+    }
+
+    /**
+     * @return true if the upload was not read to the end; the last error names the line or record
+     *         it stopped at, and rows after it were not imported
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * A rejected row, identified by its line (NDJSON) or record (CSV) number.
+     */
+    public static class RowError {
+        private final long line;
+        private final String message;
+
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.taskapp.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * One task of a bulk import file (an NDJSON object or a CSV record).
+ */
+public class TaskImportRow {
+
+    @NotBlank(message = "Task title is required")
+    @Size(min = 1, max = 200, message = "Task title must be between 1 and 200 characters")
+    private String title;
+
+    @NotBlank(message = "Task description is required")
+    @Size(min = 1, max = 1000, message = "Task description must be between 1 and 1000 characters")
+    private String description;
+
+    @NotNull(message = "Latitude is required")
+    private Double latitude;
+
+    @NotNull(message = "Longitude is required")
+    private Double longitude;
+
+    private Double completionRadius;
+
+    /**
+     * Username of the assignee; omit to assign the nearest available worker.
+     */
+    private String assignee;
+
+    // Constructors
+    public TaskImportRow() {}
+
+    // Getters and Setters
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Double getCompletionRadius() {
+        return completionRadius;
+    }
+
+    public void setCompletionRadius(Double completionRadius) {
+        this.completionRadius = completionRadius;
+    }
+
+    public String getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(String assignee) {
+        this.assignee = assignee;
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskapp.dto;
+
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.event.TaskChangedEvent;
+
+/**
+ * Immutable, association-free view of where an open task is and who it belongs to.
+ * Used by the in-memory geo structures so they never hold on to JPA entities.
+ */
+public class TaskLocation {
+
+    private final long taskId;
+    private final String title;
+    private final double latitude;
+    private final double longitude;
+    private final double completionRadius;
+    private final TaskStatus status;
+    private final Long assigneeId;
+
+    // Constructors
+    public TaskLocation(long taskId, String title, double latitude, double longitude,
+                        double completionRadius, TaskStatus status, Long assigneeId) {
+        this.taskId = taskId;
+        this.title = title;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.completionRadius = completionRadius;
+        this.status = status;
+        this.assigneeId = assigneeId;
+    }
+
+    /**
+     * Constructor used by JPQL constructor expressions, where numeric columns arrive boxed.
+     */
+    public TaskLocation(Long taskId, String title, Double latitude, Double longitude,
+                        Double completionRadius, TaskStatus status, Long assigneeId) {
+        this(taskId.longValue(), title, latitude.doubleValue(), longitude.doubleValue(),
+                completionRadius != null ? completionRadius.doubleValue() : 0.0, status, assigneeId);
+    }
+
+    public static TaskLocation from(TaskChangedEvent event) {
+        return new TaskLocation(event.getTaskId().longValue(), event.getTitle(), event.getLatitude(), event.getLongitude(),
+                event.getCompletionRadius(), event.getStatus(), event.getAssigneeId());
+    }
+
+    // Getters
+    public long getTaskId() {
+        return taskId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public double getCompletionRadius() {
+        return completionRadius;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskLocation{" +
+                "taskId=" + taskId +
+                ", latitude=" + latitude +
+                ", longitude=" + longitude +
+                ", completionRadius=" + completionRadius +
+                ", status=" + status +
+                ", assigneeId=" + assigneeId +
+                '}';
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskapp.dto;
+
+import com.taskapp.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task as returned by the API. Built from a JPQL constructor projection that joins the assigner
+ * and assignee, so a list of tasks is read in one query without touching lazy associations.
+ */
+public class TaskResponse {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final Double latitude;
+    private final Double longitude;
+    private final Double completionRadius;
+    private final TaskStatus status;
+    private final Long assignerId;
+    private final String assignerUsername;
+    private final Long assigneeId;
+    private final String assigneeUsername;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public TaskResponse(Long id, String title, String description, Double latitude, Double longitude,
+                        Double completionRadius, TaskStatus status, Long assignerId, String assignerUsername,
+                        Long assigneeId, String assigneeUsername, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.completionRadius = completionRadius;
+        this.status = status;
+        this.assignerId = assignerId;
+        this.assignerUsername = assignerUsername;
+        this.assigneeId = assigneeId;
+        this.assigneeUsername = assigneeUsername;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public Double getCompletionRadius() {
+        return completionRadius;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public Long getAssignerId() {
+        return assignerId;
+    }
+
+    public String getAssignerUsername() {
+        return assignerUsername;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public String getAssigneeUsername() {
+        return assigneeUsername;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskapp.dto;
+
+import java.util.List;
+
+/**
+ * One page of changes to the caller's task list since a watermark.
+ * Clients upsert {@code tasks} by id and drop tombstoned ids whose {@code removedAt} is later than
+ * the local copy's {@code updatedAt}, then send {@code watermark} with the next request.
+ * When {@code reset} is set the client's watermark was too old and the page starts a full resync.
+ */
+public class TaskSyncResponse {
+
+    private final List<TaskResponse> tasks;
+    private final List<TaskTombstoneResponse> tombstones;
+    private final String watermark;
+    private final boolean hasMore;
+    private final boolean reset;
+
+    public TaskSyncResponse(List<TaskResponse> tasks, List<TaskTombstoneResponse> tombstones, String watermark,
+                            boolean hasMore, boolean reset) {
+        this.tasks = tasks;
+        this.tombstones = tombstones;
+        this.watermark = watermark;
+        this.hasMore = hasMore;
+        this.reset = reset;
+    }
+
+    public List<TaskResponse> getTasks() {
+        return tasks;
+    }
+
+    public List<TaskTombstoneResponse> getTombstones() {
+        return tombstones;
+    }
+
+    public String getWatermark() {
+        return watermark;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+}
@@ -0,0 +1,39 @@
+package com.taskapp.dto;
+
+import com.taskapp.entity.TombstoneReason;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task that left the caller's list, returned by delta sync.
+ */
+public class TaskTombstoneResponse {
+
+    private final Long id;
+    private final Long taskId;
+    private final TombstoneReason reason;
+    private final LocalDateTime removedAt;
+
+    public TaskTombstoneResponse(Long id, Long taskId, TombstoneReason reason, LocalDateTime removedAt) {
+        this.id = id;
+        this.taskId = taskId;
+        this.reason = reason;
+        this.removedAt = removedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public TombstoneReason getReason() {
+        return reason;
+    }
+
+    public LocalDateTime getRemovedAt() {
+        return removedAt;
+    }
+}
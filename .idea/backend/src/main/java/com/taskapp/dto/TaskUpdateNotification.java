@@ -0,0 +1,80 @@
+package com.taskapp.dto;
+
+import com.taskapp.entity.OutboxEventType;
+import com.taskapp.entity.TaskOutboxEvent;
+import com.taskapp.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task change pushed to an assignee over the update stream.
+ * {@code id} is the SSE event id; send it back as {@code Last-Event-ID} to resume.
+ */
+public class TaskUpdateNotification {
+
+    private final long id;
+    private final OutboxEventType type;
+    private final Long taskId;
+    private final String title;
+    private final TaskStatus status;
+    private final Double latitude;
+    private final Double longitude;
+    private final Double completionRadius;
+    private final LocalDateTime occurredAt;
+
+    public TaskUpdateNotification(long id, OutboxEventType type, Long taskId, String title, TaskStatus status,
+                                  Double latitude, Double longitude, Double completionRadius,
+                                  LocalDateTime occurredAt) {
+        this.id = id;
+        this.type = type;
+        this.taskId = taskId;
+        this.title = title;
+        this.status = status;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.completionRadius = completionRadius;
+        this.occurredAt = occurredAt;
+    }
+
+    public static TaskUpdateNotification from(TaskOutboxEvent event) {
+        return new TaskUpdateNotification(event.getRelaySeq(), event.getEventType(), event.getTaskId(),
+                event.getTitle(), event.getStatus(), event.getLatitude(), event.getLongitude(),
+                event.getCompletionRadius(), event.getOccurredAt());
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public OutboxEventType getType() {
+        return type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public Double getCompletionRadius() {
+        return completionRadius;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
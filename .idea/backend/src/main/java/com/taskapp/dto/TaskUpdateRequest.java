@@ -0,0 +1,86 @@
+package com.taskapp.dto;
+
+import com.taskapp.entity.TaskStatus;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Partial task update; only non-null fields are applied.
+ */
+public class TaskUpdateRequest {
+
+    @Size(min = 1, max = 200, message = "Task title must be between 1 and 200 characters")
+    private String title;
+
+    @Size(min = 1, max = 1000, message = "Task description must be between 1 and 1000 characters")
+    private String description;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private Double completionRadius;
+
+    private TaskStatus status;
+
+    private String assignee;
+
+    // Constructors
+    public TaskUpdateRequest() {}
+
+    // Getters and Setters
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Double getCompletionRadius() {
+        return completionRadius;
+    }
+
+    public void setCompletionRadius(Double completionRadius) {
+        this.completionRadius = completionRadius;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public String getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(String assignee) {
+        this.assignee = assignee;
+    }
+}
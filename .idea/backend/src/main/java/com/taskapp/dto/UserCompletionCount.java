@@ -0,0 +1,30 @@
+package com.taskapp.dto;
+
+/**
+ * Completion submissions of one user. Built from a JPQL constructor projection.
+ */
+public class UserCompletionCount {
+
+    private final Long userId;
+    private final long attempts;
+    private final long verified;
+
+    public UserCompletionCount(Long userId, long attempts, long verified) {
+        this.userId = userId;
+        this.attempts = attempts;
+        this.verified = verified;
+    }
+
+    // Getters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getAttempts() {
+        return attempts;
+    }
+
+    public long getVerified() {
+        return verified;
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskapp.dto;
+
+import com.taskapp.entity.TaskStatus;
+
+import java.util.Map;
+
+/**
+ * Per-user line of the admin completion report.
+ */
+public class UserReport {
+
+    private final Long userId;
+    private final Map<TaskStatus, Long> assignedTasks;
+    private final Map<TaskStatus, Long> createdTasks;
+    private final Double completionRate;
+    private final long completionAttempts;
+    private final long verifiedCompletions;
+    private final QuantileSummary timeToCompletion;
+
+    public UserReport(Long userId, Map<TaskStatus, Long> assignedTasks, Map<TaskStatus, Long> createdTasks,
+                      Double completionRate, long completionAttempts, long verifiedCompletions,
+                      QuantileSummary timeToCompletion) {
+        this.userId = userId;
+        this.assignedTasks = assignedTasks;
+        this.createdTasks = createdTasks;
+        this.completionRate = completionRate;
+        this.completionAttempts = completionAttempts;
+        this.verifiedCompletions = verifiedCompletions;
+        this.timeToCompletion = timeToCompletion;
+    }
+
+    // Getters
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * @return Tasks assigned to the user, by status
+     */
+    public Map<TaskStatus, Long> getAssignedTasks() {
+        return assignedTasks;
+    }
+
+    /**
+     * @return Tasks the user assigned to others, by status
+     */
+    public Map<TaskStatus, Long> getCreatedTasks() {
+        return createdTasks;
+    }
+
+    /**
+     * @return Completed share of the user's non-cancelled assigned tasks, or null if there are none
+     */
+    public Double getCompletionRate() {
+        return completionRate;
+    }
+
+    public long getCompletionAttempts() {
+        return completionAttempts;
+    }
+
+    public long getVerifiedCompletions() {
+        return verifiedCompletions;
+    }
+
+    /**
+     * @return Seconds from task creation to completion
+     */
+    public QuantileSummary getTimeToCompletion() {
+        return timeToCompletion;
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskapp.dto;
+
+import com.taskapp.entity.TaskStatus;
+
+/**
+ * Number of tasks of one user in one status. Built from a JPQL constructor projection.
+ */
+public class UserStatusCount {
+
+    private final Long userId;
+    private final TaskStatus status;
+    private final long count;
+
+    public UserStatusCount(Long userId, TaskStatus status, long count) {
+        this.userId = userId;
+        this.status = status;
+        this.count = count;
+    }
+
+    // Getters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskapp.dto;
+
+import com.taskapp.audit.VerificationRecord;
+
+import java.util.List;
+
+/**
+ * A page of the verification audit journal.
+ */
+public class VerificationAuditPage {
+
+    private final List<VerificationRecord> records;
+    private final long corruptRecords;
+    private final long nextSequence;
+
+    // Constructors
+    public VerificationAuditPage(List<VerificationRecord> records, long corruptRecords, long nextSequence) {
+        this.records = records;
+        this.corruptRecords = corruptRecords;
+        this.nextSequence = nextSequence;
+    }
+
+    // Getters
+    public List<VerificationRecord> getRecords() {
+        return records;
+    }
+
+    /**
+     * @return Records skipped on this page because they failed their CRC check
+     */
+    public long getCorruptRecords() {
+        return corruptRecords;
+    }
+
+    /**
+     * @return Sequence to request the next page from
+     */
+    public long getNextSequence() {
+        return nextSequence;
+    }
+}
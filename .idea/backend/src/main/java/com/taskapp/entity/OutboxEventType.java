@@ -0,0 +1,10 @@
+package com.taskapp.entity;
+
+public enum OutboxEventType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    ASSIGNED,
+    UNASSIGNED,
+    DELETED
+}
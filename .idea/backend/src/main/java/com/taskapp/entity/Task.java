@@ -4,20 +4,31 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tasks")
-@EntityListeners(AuditingEntityListener.class)
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_assignee_updated", columnList = "assignee_id, updated_at"),
+        @Index(name = "idx_tasks_assignee_status_created", columnList = "assignee_id, status, created_at, id"),
+        @Index(name = "idx_tasks_assigner_status_created", columnList = "assigner_id, status, created_at, id"),
+        @Index(name = "idx_tasks_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_tasks_lat_lon", columnList = "latitude, longitude")
+})
+@EntityListeners({AuditingEntityListener.class, TaskEntityListener.class})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "taskIdGenerator")
+    @SequenceGenerator(name = "taskIdGenerator", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Task title is required")
@@ -57,12 +68,19 @@ public class Task {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "updated_at")
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<TaskCompletion> completions = new ArrayList<>();
 
+    // Status and assignee as last read from or written to the database, for change events
+    @Transient
+    private TaskStatus persistedStatus;
+
+    @Transient
+    private Long persistedAssigneeId;
+
     // Constructors
     public Task() {}
 
@@ -172,6 +190,14 @@ public class Task {
         this.completions = completions;
     }
 
+    public TaskStatus getPersistedStatus() {
+        return persistedStatus;
+    }
+
+    public Long getPersistedAssigneeId() {
+        return persistedAssigneeId;
+    }
+
     // Helper methods
     public boolean isCompleted() {
         return TaskStatus.COMPLETED.equals(this.status);
@@ -185,9 +211,24 @@ public class Task {
         return TaskStatus.IN_PROGRESS.equals(this.status);
     }
 
+    @PrePersist
+    protected void onCreate() {
+        // Set on insert too, so delta sync watermarks see new tasks; truncated to the database precision
+        this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
     @PreUpdate
     protected void onUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    // Runs after TaskEntityListener, so change events still see the previous state
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    protected void rememberPersistedState() {
+        this.persistedStatus = status;
+        this.persistedAssigneeId = assignee != null ? assignee.getId() : null;
     }
 
     @Override
@@ -200,8 +241,8 @@ public class Task {
                 ", longitude=" + longitude +
                 ", completionRadius=" + completionRadius +
                 ", status=" + status +
-                ", assigner=" + (assigner != null ? assigner.getUsername() : "null") +
-                ", assignee=" + (assignee != null ? assignee.getUsername() : "null") +
+                ", assignerId=" + (assigner != null ? assigner.getId() : "null") +
+                ", assigneeId=" + (assignee != null ? assignee.getId() : "null") +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
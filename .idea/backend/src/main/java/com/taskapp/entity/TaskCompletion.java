@@ -8,12 +8,18 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "task_completions")
-@EntityListeners(AuditingEntityListener.class)
+@Table(name = "task_completions", indexes = {
+        @Index(name = "idx_task_completions_task_completed", columnList = "task_id, completed_at, id"),
+        @Index(name = "idx_task_completions_user_completed", columnList = "user_id, completed_at, id"),
+        @Index(name = "idx_task_completions_completed", columnList = "completed_at, id"),
+        @Index(name = "idx_task_completions_gps", columnList = "gps_latitude, gps_longitude")
+})
+@EntityListeners({AuditingEntityListener.class, TaskCompletionEntityListener.class})
 public class TaskCompletion {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "taskCompletionIdGenerator")
+    @SequenceGenerator(name = "taskCompletionIdGenerator", sequenceName = "task_completions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,6 +41,9 @@ public class TaskCompletion {
     @Column(name = "distance_from_target")
     private Double distanceFromTarget; // Distance in meters from task location
 
+    @Column(name = "completion_radius")
+    private Double completionRadius; // Task radius the completion was verified against
+
     @Column(name = "completion_verified")
     private boolean completionVerified = false;
 
@@ -104,6 +113,14 @@ public class TaskCompletion {
         this.distanceFromTarget = distanceFromTarget;
     }
 
+    public Double getCompletionRadius() {
+        return completionRadius;
+    }
+
+    public void setCompletionRadius(Double completionRadius) {
+        this.completionRadius = completionRadius;
+    }
+
     public boolean isCompletionVerified() {
         return completionVerified;
     }
@@ -137,8 +154,8 @@ public class TaskCompletion {
     public String toString() {
         return "TaskCompletion{" +
                 "id=" + id +
-                ", task=" + (task != null ? task.getTitle() : "null") +
-                ", user=" + (user != null ? user.getUsername() : "null") +
+                ", taskId=" + (task != null ? task.getId() : "null") +
+                ", userId=" + (user != null ? user.getId() : "null") +
                 ", gpsLatitude=" + gpsLatitude +
                 ", gpsLongitude=" + gpsLongitude +
                 ", distanceFromTarget=" + distanceFromTarget +
@@ -0,0 +1,24 @@
+package com.taskapp.entity;
+
+import com.taskapp.event.TaskCompletionRecordedEvent;
+import jakarta.persistence.PostPersist;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns task completion inserts into {@link TaskCompletionRecordedEvent}s.
+ */
+@Component
+public class TaskCompletionEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskCompletionEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onPersist(TaskCompletion completion) {
+        eventPublisher.publishEvent(TaskCompletionRecordedEvent.of(completion));
+    }
+}
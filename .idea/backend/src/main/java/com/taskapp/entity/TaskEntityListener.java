@@ -0,0 +1,39 @@
+package com.taskapp.entity;
+
+import com.taskapp.event.TaskChangedEvent;
+import com.taskapp.event.TaskChangedEvent.ChangeType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns task writes into {@link TaskChangedEvent}s.
+ * Spring Boot registers its bean container with Hibernate, so this listener is a regular Spring bean.
+ * Consumers should use {@code @TransactionalEventListener} so they only observe committed changes.
+ */
+@Component
+public class TaskEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onPersist(Task task) {
+        eventPublisher.publishEvent(TaskChangedEvent.of(ChangeType.CREATED, task));
+    }
+
+    @PostUpdate
+    public void onUpdate(Task task) {
+        eventPublisher.publishEvent(TaskChangedEvent.of(ChangeType.UPDATED, task));
+    }
+
+    @PostRemove
+    public void onRemove(Task task) {
+        eventPublisher.publishEvent(TaskChangedEvent.of(ChangeType.DELETED, task));
+    }
+}
@@ -0,0 +1,169 @@
+package com.taskapp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task change addressed to one user, written in the same transaction as the change itself.
+ * Rows are inserted by {@code TaskOutboxWriter}; the relay assigns {@code relaySeq} in delivery
+ * order, which is also the SSE event id clients resume from.
+ */
+@Entity
+@Table(name = "task_outbox", indexes = {
+        @Index(name = "idx_outbox_relay_seq", columnList = "relay_seq, id"),
+        @Index(name = "idx_outbox_recipient_relay_seq", columnList = "recipient_id, relay_seq"),
+        @Index(name = "idx_outbox_relayed_at", columnList = "relayed_at")
+})
+public class TaskOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskStatus status;
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+
+    @Column(name = "completion_radius", nullable = false)
+    private Double completionRadius;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "relay_seq")
+    private Long relaySeq;
+
+    @Column(name = "relayed_at")
+    private LocalDateTime relayedAt;
+
+    // Constructors
+    public TaskOutboxEvent() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getRecipientId() {
+        return recipientId;
+    }
+
+    public void setRecipientId(Long recipientId) {
+        this.recipientId = recipientId;
+    }
+
+    public OutboxEventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(OutboxEventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Double getCompletionRadius() {
+        return completionRadius;
+    }
+
+    public void setCompletionRadius(Double completionRadius) {
+        this.completionRadius = completionRadius;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getRelaySeq() {
+        return relaySeq;
+    }
+
+    public void setRelaySeq(Long relaySeq) {
+        this.relaySeq = relaySeq;
+    }
+
+    public LocalDateTime getRelayedAt() {
+        return relayedAt;
+    }
+
+    public void setRelayedAt(LocalDateTime relayedAt) {
+        this.relayedAt = relayedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskOutboxEvent{" +
+                "id=" + id +
+                ", taskId=" + taskId +
+                ", recipientId=" + recipientId +
+                ", eventType=" + eventType +
+                ", relaySeq=" + relaySeq +
+                '}';
+    }
+}
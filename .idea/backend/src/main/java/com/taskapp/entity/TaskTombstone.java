@@ -0,0 +1,97 @@
+package com.taskapp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Records that a task left an assignee's list, by deletion or reassignment,
+ * so delta sync can tell mobile clients to drop it.
+ */
+@Entity
+@Table(name = "task_tombstones", indexes = {
+        @Index(name = "idx_tombstones_assignee_removed", columnList = "assignee_id, removed_at")
+})
+public class TaskTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "taskTombstoneIdGenerator")
+    @SequenceGenerator(name = "taskTombstoneIdGenerator", sequenceName = "task_tombstones_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "assignee_id", nullable = false)
+    private Long assigneeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TombstoneReason reason;
+
+    @Column(name = "removed_at", nullable = false)
+    private LocalDateTime removedAt;
+
+    // Constructors
+    public TaskTombstone() {}
+
+    public TaskTombstone(Long taskId, Long assigneeId, TombstoneReason reason) {
+        this.taskId = taskId;
+        this.assigneeId = assigneeId;
+        this.reason = reason;
+        this.removedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public TombstoneReason getReason() {
+        return reason;
+    }
+
+    public void setReason(TombstoneReason reason) {
+        this.reason = reason;
+    }
+
+    public LocalDateTime getRemovedAt() {
+        return removedAt;
+    }
+
+    public void setRemovedAt(LocalDateTime removedAt) {
+        this.removedAt = removedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskTombstone{" +
+                "id=" + id +
+                ", taskId=" + taskId +
+                ", assigneeId=" + assigneeId +
+                ", reason=" + reason +
+                ", removedAt=" + removedAt +
+                '}';
+    }
+}
@@ -0,0 +1,6 @@
+package com.taskapp.entity;
+
+public enum TombstoneReason {
+    DELETED,
+    REASSIGNED
+}
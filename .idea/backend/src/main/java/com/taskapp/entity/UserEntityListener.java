@@ -0,0 +1,30 @@
+package com.taskapp.entity;
+
+import com.taskapp.event.UserChangedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns user updates and deletions into {@link UserChangedEvent}s.
+ */
+@Component
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostUpdate
+    public void onUpdate(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), false));
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), true));
+    }
+}
@@ -0,0 +1,205 @@
+package com.taskapp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted state of one user's reporting aggregates, written periodically so the
+ * aggregates survive restarts without rescanning tasks and completions.
+ * Each row also records how far the aggregates had followed the source tables when it was written,
+ * so changes the snapshots missed can be detected on load.
+ */
+@Entity
+@Table(name = "report_user_snapshots")
+public class UserReportSnapshot {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "assigned_pending", nullable = false)
+    private long assignedPending;
+
+    @Column(name = "assigned_in_progress", nullable = false)
+    private long assignedInProgress;
+
+    @Column(name = "assigned_completed", nullable = false)
+    private long assignedCompleted;
+
+    @Column(name = "assigned_cancelled", nullable = false)
+    private long assignedCancelled;
+
+    @Column(name = "created_pending", nullable = false)
+    private long createdPending;
+
+    @Column(name = "created_in_progress", nullable = false)
+    private long createdInProgress;
+
+    @Column(name = "created_completed", nullable = false)
+    private long createdCompleted;
+
+    @Column(name = "created_cancelled", nullable = false)
+    private long createdCancelled;
+
+    @Column(name = "completion_attempts", nullable = false)
+    private long completionAttempts;
+
+    @Column(name = "verified_completions", nullable = false)
+    private long verifiedCompletions;
+
+    // Serialized LogHistogram of seconds from task creation to completion
+    @Column(name = "time_to_completion", nullable = false)
+    private byte[] timeToCompletion;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Latest tasks.updated_at of the creates and updates applied
+    @Column(name = "task_watermark")
+    private LocalDateTime taskWatermark;
+
+    // Latest time a task deletion was applied; not earlier than its tombstone's removed_at
+    @Column(name = "deletion_watermark")
+    private LocalDateTime deletionWatermark;
+
+    // Highest task_completions.id applied
+    @Column(name = "completion_watermark")
+    private Long completionWatermark;
+
+    // Constructors
+    public UserReportSnapshot() {}
+
+    public UserReportSnapshot(Long userId) {
+        this.userId = userId;
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public long getAssignedPending() {
+        return assignedPending;
+    }
+
+    public void setAssignedPending(long assignedPending) {
+        this.assignedPending = assignedPending;
+    }
+
+    public long getAssignedInProgress() {
+        return assignedInProgress;
+    }
+
+    public void setAssignedInProgress(long assignedInProgress) {
+        this.assignedInProgress = assignedInProgress;
+    }
+
+    public long getAssignedCompleted() {
+        return assignedCompleted;
+    }
+
+    public void setAssignedCompleted(long assignedCompleted) {
+        this.assignedCompleted = assignedCompleted;
+    }
+
+    public long getAssignedCancelled() {
+        return assignedCancelled;
+    }
+
+    public void setAssignedCancelled(long assignedCancelled) {
+        this.assignedCancelled = assignedCancelled;
+    }
+
+    public long getCreatedPending() {
+        return createdPending;
+    }
+
+    public void setCreatedPending(long createdPending) {
+        this.createdPending = createdPending;
+    }
+
+    public long getCreatedInProgress() {
+        return createdInProgress;
+    }
+
+    public void setCreatedInProgress(long createdInProgress) {
+        this.createdInProgress = createdInProgress;
+    }
+
+    public long getCreatedCompleted() {
+        return createdCompleted;
+    }
+
+    public void setCreatedCompleted(long createdCompleted) {
+        this.createdCompleted = createdCompleted;
+    }
+
+    public long getCreatedCancelled() {
+        return createdCancelled;
+    }
+
+    public void setCreatedCancelled(long createdCancelled) {
+        this.createdCancelled = createdCancelled;
+    }
+
+    public long getCompletionAttempts() {
+        return completionAttempts;
+    }
+
+    public void setCompletionAttempts(long completionAttempts) {
+        this.completionAttempts = completionAttempts;
+    }
+
+    public long getVerifiedCompletions() {
+        return verifiedCompletions;
+    }
+
+    public void setVerifiedCompletions(long verifiedCompletions) {
+        this.verifiedCompletions = verifiedCompletions;
+    }
+
+    public byte[] getTimeToCompletion() {
+        return timeToCompletion;
+    }
+
+    public void setTimeToCompletion(byte[] timeToCompletion) {
+        this.timeToCompletion = timeToCompletion;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getTaskWatermark() {
+        return taskWatermark;
+    }
+
+    public void setTaskWatermark(LocalDateTime taskWatermark) {
+        this.taskWatermark = taskWatermark;
+    }
+
+    public LocalDateTime getDeletionWatermark() {
+        return deletionWatermark;
+    }
+
+    public void setDeletionWatermark(LocalDateTime deletionWatermark) {
+        this.deletionWatermark = deletionWatermark;
+    }
+
+    public Long getCompletionWatermark() {
+        return completionWatermark;
+    }
+
+    public void setCompletionWatermark(Long completionWatermark) {
+        this.completionWatermark = completionWatermark;
+    }
+}
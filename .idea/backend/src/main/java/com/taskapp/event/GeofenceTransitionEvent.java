@@ -0,0 +1,74 @@
+package com.taskapp.event;
+
+import java.time.Instant;
+
+/**
+ * Published when a live location ping moves a user into or out of the geofence of one of their open tasks.
+ * The same object is returned to the client that sent the ping.
+ */
+public class GeofenceTransitionEvent {
+
+    public enum Type {
+        ENTER,
+        EXIT
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final long taskId;
+    private final double latitude;
+    private final double longitude;
+    private final double distanceFromTarget;
+    private final Instant timestamp;
+
+    // Constructors
+    public GeofenceTransitionEvent(Type type, Long userId, long taskId, double latitude, double longitude,
+                                   double distanceFromTarget, Instant timestamp) {
+        this.type = type;
+        this.userId = userId;
+        this.taskId = taskId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.distanceFromTarget = distanceFromTarget;
+        this.timestamp = timestamp;
+    }
+
+    // Getters
+    public Type getType() {
+        return type;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getTaskId() {
+        return taskId;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public double getDistanceFromTarget() {
+        return distanceFromTarget;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "GeofenceTransitionEvent{" +
+                "type=" + type +
+                ", userId=" + userId +
+                ", taskId=" + taskId +
+                ", distanceFromTarget=" + distanceFromTarget +
+                '}';
+    }
+}
@@ -0,0 +1,156 @@
+package com.taskapp.event;
+
+import com.taskapp.entity.Task;
+import com.taskapp.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of a task published whenever a task row is inserted, updated or deleted.
+ * Listeners receive the values as they were at flush time so they never touch the lazy
+ * associations of the entity after its persistence context has closed.
+ */
+public class TaskChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final ChangeType changeType;
+    private final Long taskId;
+    private final String title;
+    private final double latitude;
+    private final double longitude;
+    private final double completionRadius;
+    private final TaskStatus status;
+    private final Long assignerId;
+    private final Long assigneeId;
+    private final TaskStatus previousStatus;
+    private final Long previousAssigneeId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    // Constructors
+    public TaskChangedEvent(ChangeType changeType, Long taskId, String title, double latitude, double longitude,
+                            double completionRadius, TaskStatus status, Long assignerId, Long assigneeId,
+                            TaskStatus previousStatus, Long previousAssigneeId,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.changeType = changeType;
+        this.taskId = taskId;
+        this.title = title;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.completionRadius = completionRadius;
+        this.status = status;
+        this.assignerId = assignerId;
+        this.assigneeId = assigneeId;
+        this.previousStatus = previousStatus;
+        this.previousAssigneeId = previousAssigneeId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Create an event from the current state of a task entity.
+     * Reading the id of a lazy association does not initialize the proxy.
+     *
+     * @param changeType Kind of change that happened
+     * @param task Task entity
+     * @return Task changed event
+     */
+    public static TaskChangedEvent of(ChangeType changeType, Task task) {
+        return new TaskChangedEvent(
+                changeType,
+                task.getId(),
+                task.getTitle(),
+                task.getLatitude() != null ? task.getLatitude() : 0.0,
+                task.getLongitude() != null ? task.getLongitude() : 0.0,
+                task.getCompletionRadius() != null ? task.getCompletionRadius() : 0.0,
+                task.getStatus(),
+                task.getAssigner() != null ? task.getAssigner().getId() : null,
+                task.getAssignee() != null ? task.getAssignee().getId() : null,
+                task.getPersistedStatus(),
+                task.getPersistedAssigneeId(),
+                task.getCreatedAt(),
+                task.getUpdatedAt());
+    }
+
+    // Getters
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public double getCompletionRadius() {
+        return completionRadius;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public Long getAssignerId() {
+        return assignerId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    /**
+     * @return Status before this change, or null for a created task
+     */
+    public TaskStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    /**
+     * @return Assignee before this change, or null for a created task
+     */
+    public Long getPreviousAssigneeId() {
+        return previousAssigneeId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // Helper methods
+    public boolean isOpen() {
+        return changeType != ChangeType.DELETED &&
+               (TaskStatus.PENDING.equals(status) || TaskStatus.IN_PROGRESS.equals(status));
+    }
+
+    @Override
+    public String toString() {
+        return "TaskChangedEvent{" +
+                "changeType=" + changeType +
+                ", taskId=" + taskId +
+                ", status=" + status +
+                ", latitude=" + latitude +
+                ", longitude=" + longitude +
+                ", assigneeId=" + assigneeId +
+                '}';
+    }
+}
@@ -0,0 +1,103 @@
+package com.taskapp.event;
+
+import com.taskapp.entity.TaskCompletion;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published whenever a task completion row is inserted.
+ */
+public class TaskCompletionRecordedEvent {
+
+    private final Long completionId;
+    private final Long taskId;
+    private final Long userId;
+    private final boolean verified;
+    private final Double gpsLatitude;
+    private final Double gpsLongitude;
+    private final Double distanceFromTarget;
+    private final Double completionRadius;
+    private final LocalDateTime completedAt;
+
+    public TaskCompletionRecordedEvent(Long completionId, Long taskId, Long userId, boolean verified,
+                                       Double gpsLatitude, Double gpsLongitude, Double distanceFromTarget,
+                                       Double completionRadius, LocalDateTime completedAt) {
+        this.completionId = completionId;
+        this.taskId = taskId;
+        this.userId = userId;
+        this.verified = verified;
+        this.gpsLatitude = gpsLatitude;
+        this.gpsLongitude = gpsLongitude;
+        this.distanceFromTarget = distanceFromTarget;
+        this.completionRadius = completionRadius;
+        this.completedAt = completedAt;
+    }
+
+    /**
+     * Create an event from a completion entity without initializing its lazy associations.
+     *
+     * @param completion Persisted completion
+     * @return Completion recorded event
+     */
+    public static TaskCompletionRecordedEvent of(TaskCompletion completion) {
+        return new TaskCompletionRecordedEvent(
+                completion.getId(),
+                completion.getTask() != null ? completion.getTask().getId() : null,
+                completion.getUser() != null ? completion.getUser().getId() : null,
+                completion.isCompletionVerified(),
+                completion.getGpsLatitude(),
+                completion.getGpsLongitude(),
+                completion.getDistanceFromTarget(),
+                completion.getCompletionRadius(),
+                completion.getCompletedAt());
+    }
+
+    public Long getCompletionId() {
+        return completionId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public boolean isVerified() {
+        return verified;
+    }
+
+    public Double getGpsLatitude() {
+        return gpsLatitude;
+    }
+
+    public Double getGpsLongitude() {
+        return gpsLongitude;
+    }
+
+    public Double getDistanceFromTarget() {
+        return distanceFromTarget;
+    }
+
+    /**
+     * @return Task radius the completion was verified against, or null for completions recorded without one
+     */
+    public Double getCompletionRadius() {
+        return completionRadius;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskCompletionRecordedEvent{" +
+                "completionId=" + completionId +
+                ", taskId=" + taskId +
+                ", userId=" + userId +
+                ", verified=" + verified +
+                '}';
+    }
+}
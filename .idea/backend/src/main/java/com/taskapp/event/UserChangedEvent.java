@@ -0,0 +1,31 @@
+package com.taskapp.event;
+
+/**
+ * Published whenever a user row is updated or deleted.
+ */
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final boolean deleted;
+
+    public UserChangedEvent(Long userId, boolean deleted) {
+        this.userId = userId;
+        this.deleted = deleted;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    @Override
+    public String toString() {
+        return "UserChangedEvent{" +
+                "userId=" + userId +
+                ", deleted=" + deleted +
+                '}';
+    }
+}
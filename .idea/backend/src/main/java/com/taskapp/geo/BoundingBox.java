@@ -0,0 +1,86 @@
+package com.taskapp.geo;
+
+import com.taskapp.service.GpsService;
+
+/**
+ * Latitude/longitude box guaranteed to contain every point within a radius of a center.
+ * Used as an index-friendly prefilter before the exact distance check. Near the poles, or when
+ * the radius spans half the globe, the box covers all longitudes; when it crosses the antimeridian
+ * {@code west > east} and the box is the union of {@code [west, 180]} and {@code [-180, east]}.
+ */
+public final class BoundingBox {
+
+    private static final double PADDING = 1e-9; // degrees; keeps points on the edge inside despite rounding
+
+    private final double south;
+    private final double north;
+    private final double west;
+    private final double east;
+    private final boolean allLongitudes;
+
+    private BoundingBox(double south, double north, double west, double east, boolean allLongitudes) {
+        this.south = south;
+        this.north = north;
+        this.west = west;
+        this.east = east;
+        this.allLongitudes = allLongitudes;
+    }
+
+    /**
+     * @param latitude Center latitude
+     * @param longitude Center longitude
+     * @param radius Radius in meters
+     * @return Smallest box of this shape containing the circle
+     */
+    public static BoundingBox around(double latitude, double longitude, double radius) {
+        double angularRadius = radius / GpsService.EARTH_RADIUS;
+        double latDelta = Math.toDegrees(angularRadius) + PADDING;
+        double south = Math.max(-90, latitude - latDelta);
+        double north = Math.min(90, latitude + latDelta);
+
+        double sinRatio = Math.sin(Math.min(angularRadius, Math.PI / 2)) / Math.cos(Math.toRadians(latitude));
+        if (south <= -90 || north >= 90 || angularRadius >= Math.PI / 2 || sinRatio >= 1) {
+            return new BoundingBox(south, north, -180, 180, true);
+        }
+        double lonDelta = Math.toDegrees(Math.asin(sinRatio)) + PADDING;
+        if (lonDelta >= 180) {
+            return new BoundingBox(south, north, -180, 180, true);
+        }
+        double west = longitude - lonDelta;
+        double east = longitude + lonDelta;
+        if (west < -180) {
+            west += 360;
+        }
+        if (east > 180) {
+            east -= 360;
+        }
+        return new BoundingBox(south, north, west, east, false);
+    }
+
+    public double getSouth() {
+        return south;
+    }
+
+    public double getNorth() {
+        return north;
+    }
+
+    public double getWest() {
+        return west;
+    }
+
+    public double getEast() {
+        return east;
+    }
+
+    public boolean isAllLongitudes() {
+        return allLongitudes;
+    }
+
+    /**
+     * @return true if the longitude range wraps around the antimeridian
+     */
+    public boolean crossesAntimeridian() {
+        return !allLongitudes && west > east;
+    }
+}
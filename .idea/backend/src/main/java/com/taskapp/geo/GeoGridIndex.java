@@ -0,0 +1,314 @@
+package com.taskapp.geo;
+
+import com.taskapp.service.GpsService;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe spatial index that buckets points into a fixed latitude/longitude cell grid.
+ * Radius queries only visit the cells overlapping the query's bounding box and k-nearest queries
+ * expand ring by ring around the origin cell, so the cost depends on local density rather than
+ * on the total number of indexed points. Distances are computed with {@link GpsService} so results
+ * agree exactly with the rest of the application.
+ *
+ * @param <T> Type of the value stored with each point
+ */
+public class GeoGridIndex<T> {
+
+    private final GpsService gpsService;
+    private final double cellSize;
+    private final int rows;
+    private final int cols;
+
+    private final Map<Long, Entry<T>> entriesById = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, Entry<T>>> cells = new ConcurrentHashMap<>();
+
+    /**
+     * @param gpsService Service used for exact distance calculations
+     * @param cellSize Size of a grid cell in degrees
+     */
+    public GeoGridIndex(GpsService gpsService, double cellSize) {
+        if (cellSize <= 0 || cellSize > 90) {
+            throw new IllegalArgumentException("Cell size must be between 0 and 90 degrees");
+        }
+        this.gpsService = gpsService;
+        this.cellSize = cellSize;
+        this.rows = (int) Math.ceil(180 / cellSize);
+        this.cols = (int) Math.ceil(360 / cellSize);
+    }
+
+    /**
+     * Insert or move a point. Moving a point removes it from its previous cell.
+     *
+     * @param id Unique id of the point
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param value Value to store
+     */
+    public void put(long id, double latitude, double longitude, T value) {
+        Entry<T> entry = new Entry<>(id, latitude, longitude, cellKey(row(latitude), col(longitude)), value);
+        entriesById.compute(id, (key, previous) -> {
+            if (previous != null && previous.cellKey != entry.cellKey) {
+                removeFromCell(previous);
+            }
+            cells.compute(entry.cellKey, (cellKey, cell) -> {
+                Map<Long, Entry<T>> target = cell != null ? cell : new ConcurrentHashMap<>();
+                target.put(id, entry);
+                return target;
+            });
+            return entry;
+        });
+    }
+
+    /**
+     * Remove a point from the index.
+     *
+     * @param id Id of the point
+     * @return true if the point was indexed
+     */
+    public boolean remove(long id) {
+        boolean[] removed = new boolean[1];
+        entriesById.computeIfPresent(id, (key, previous) -> {
+            removeFromCell(previous);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * @param id Id of the point
+     * @return Stored value, or null if the point is not indexed
+     */
+    public T get(long id) {
+        Entry<T> entry = entriesById.get(id);
+        return entry != null ? entry.value : null;
+    }
+
+    public int size() {
+        return entriesById.size();
+    }
+
+    public void clear() {
+        entriesById.clear();
+        cells.clear();
+    }
+
+    /**
+     * Find every point within a radius of the origin.
+     *
+     * @param latitude Origin latitude
+     * @param longitude Origin longitude
+     * @param radius Radius in meters
+     * @return Matches ordered by increasing distance
+     */
+    public List<Neighbor<T>> withinRadius(double latitude, double longitude, double radius) {
+        List<Neighbor<T>> result = new ArrayList<>();
+        if (radius < 0 || entriesById.isEmpty()) {
+            return result;
+        }
+
+        double angularRadius = radius / GpsService.EARTH_RADIUS;
+        double latDelta = Math.toDegrees(angularRadius);
+        int rowMin = row(latitude - latDelta);
+        int rowMax = row(latitude + latDelta);
+
+        int colMin;
+        int colMax;
+        double sinRatio = Math.sin(Math.min(angularRadius, Math.PI / 2)) / Math.cos(Math.toRadians(latitude));
+        boolean touchesPole = latitude + latDelta >= 90 || latitude - latDelta <= -90;
+        if (touchesPole || angularRadius >= Math.PI / 2 || sinRatio >= 1) {
+            colMin = 0;
+            colMax = cols - 1;
+        } else {
+            double lonDelta = Math.toDegrees(Math.asin(sinRatio));
+            colMin = (int) Math.floor((longitude - lonDelta + 180) / cellSize);
+            colMax = (int) Math.floor((longitude + lonDelta + 180) / cellSize);
+            if (colMax - colMin + 1 >= cols) {
+                colMin = 0;
+                colMax = cols - 1;
+            }
+        }
+
+        long cellsToVisit = (long) (rowMax - rowMin + 1) * (colMax - colMin + 1);
+        if (cellsToVisit > entriesById.size()) {
+            // Sparse index or huge radius: a linear pass is cheaper than probing empty cells
+            for (Entry<T> entry : entriesById.values()) {
+                collectIfWithin(entry, latitude, longitude, radius, result);
+            }
+        } else {
+            for (int r = rowMin; r <= rowMax; r++) {
+                for (int c = colMin; c <= colMax; c++) {
+                    Map<Long, Entry<T>> cell = cells.get(cellKey(r, Math.floorMod(c, cols)));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Entry<T> entry : cell.values()) {
+                        collectIfWithin(entry, latitude, longitude, radius, result);
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingDouble(Neighbor::getDistance));
+        return result;
+    }
+
+    /**
+     * Find the k points closest to the origin.
+     *
+     * @param latitude Origin latitude
+     * @param longitude Origin longitude
+     * @param k Maximum number of matches to return
+     * @param maxDistance Ignore points further than this many meters
+     * @return Matches ordered by increasing distance
+     */
+    public List<Neighbor<T>> nearest(double latitude, double longitude, int k, double maxDistance) {
+        if (k <= 0 || entriesById.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        PriorityQueue<Neighbor<T>> best = new PriorityQueue<>(
+                Comparator.comparingDouble(Neighbor<T>::getDistance).reversed());
+        int originRow = row(latitude);
+        int originCol = col(longitude);
+        double latRad = Math.toRadians(latitude);
+
+        for (int ring = 0; ; ring++) {
+            long ringSpan = 2L * ring + 1;
+            if (ringSpan * ringSpan > entriesById.size() || ringSpan >= cols) {
+                best.clear();
+                for (Entry<T> entry : entriesById.values()) {
+                    offer(best, k, entry, gpsService.calculateDistance(latitude, longitude, entry.latitude, entry.longitude), maxDistance);
+                }
+                break;
+            }
+
+            for (int dr = -ring; dr <= ring; dr++) {
+                int r = originRow + dr;
+                if (r < 0 || r >= rows) {
+                    continue;
+                }
+                int step = (Math.abs(dr) == ring) ? 1 : Math.max(1, 2 * ring);
+                for (int dc = -ring; dc <= ring; dc += step) {
+                    Map<Long, Entry<T>> cell = cells.get(cellKey(r, Math.floorMod(originCol + dc, cols)));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Entry<T> entry : cell.values()) {
+                        offer(best, k, entry, gpsService.calculateDistance(latitude, longitude, entry.latitude, entry.longitude), maxDistance);
+                    }
+                }
+            }
+
+            // Lower bound on the distance to anything outside the rings visited so far
+            double latLow = (originRow - ring) * cellSize - 90;
+            double latHigh = (originRow + ring + 1) * cellSize - 90;
+            double lonLow = (originCol - ring) * cellSize - 180;
+            double lonHigh = (originCol + ring + 1) * cellSize - 180;
+            double latGap = Math.min(latLow <= -90 ? Double.MAX_VALUE : latitude - latLow,
+                                     latHigh >= 90 ? Double.MAX_VALUE : latHigh - latitude);
+            double lonGap = Math.min(Math.min(longitude - lonLow, lonHigh - longitude), 90);
+            double latBound = latGap == Double.MAX_VALUE ? Double.MAX_VALUE
+                    : Math.toRadians(latGap) * GpsService.EARTH_RADIUS;
+            double lonBound = GpsService.EARTH_RADIUS
+                    * Math.asin(Math.cos(latRad) * Math.sin(Math.toRadians(lonGap)));
+            double bound = Math.min(latBound, lonBound);
+
+            if (bound > maxDistance || (best.size() == k && best.peek().getDistance() <= bound)) {
+                break;
+            }
+        }
+
+        List<Neighbor<T>> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Neighbor::getDistance));
+        return result;
+    }
+
+    private void offer(PriorityQueue<Neighbor<T>> best, int k, Entry<T> entry, double distance, double maxDistance) {
+        if (distance > maxDistance) {
+            return;
+        }
+        if (best.size() < k) {
+            best.add(new Neighbor<>(entry.id, entry.value, distance));
+        } else if (distance < best.peek().getDistance()) {
+            best.poll();
+            best.add(new Neighbor<>(entry.id, entry.value, distance));
+        }
+    }
+
+    private void collectIfWithin(Entry<T> entry, double latitude, double longitude, double radius, List<Neighbor<T>> result) {
+        double distance = gpsService.calculateDistance(latitude, longitude, entry.latitude, entry.longitude);
+        if (distance <= radius) {
+            result.add(new Neighbor<>(entry.id, entry.value, distance));
+        }
+    }
+
+    private void removeFromCell(Entry<T> entry) {
+        cells.computeIfPresent(entry.cellKey, (cellKey, cell) -> {
+            cell.remove(entry.id);
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+
+    private int row(double latitude) {
+        int row = (int) Math.floor((latitude + 90) / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    private int col(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellSize), cols);
+    }
+
+    private long cellKey(int row, int col) {
+        return (long) row * cols + col;
+    }
+
+    private static final class Entry<T> {
+        private final long id;
+        private final double latitude;
+        private final double longitude;
+        private final long cellKey;
+        private final T value;
+
+        private Entry(long id, double latitude, double longitude, long cellKey, T value) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.cellKey = cellKey;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A query match: the indexed value and its distance from the query origin in meters.
+     */
+    public static final class Neighbor<T> {
+        private final long id;
+        private final T value;
+        private final double distance;
+
+        public Neighbor(long id, T value, double distance) {
+            this.id = id;
+            this.value = value;
+            this.distance = distance;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public double getDistance() {
+            return distance;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.taskapp.geo;
+
+import com.taskapp.service.GeoPointBatch;
+import com.taskapp.service.GpsService;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Orders a set of stops into a short open route (no return to the start).
+ * A full distance matrix is computed with {@link GpsService}, row by row in parallel on a fork/join
+ * pool for large sets. The route is built by nearest-neighbour construction and then improved with
+ * 2-opt segment reversals and Or-opt moves of up to three consecutive stops until no move helps or
+ * the time budget runs out. The result is a good route, not a proven optimum.
+ * <p>
+ * Node 0 of the matrix is the start. Without a known start position its distances are all zero,
+ * so the route may begin at whichever stop gives the shortest path.
+ */
+public class RoutePlanner {
+
+    private static final double EPSILON = 1e-7; // meters; ignores moves that only shuffle rounding error
+    private static final int MAX_SEGMENT = 3;
+    private static final int ROWS_PER_TASK = 16;
+
+    private final GpsService gpsService;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    /**
+     * @param gpsService Service used for distance and bearing calculations
+     * @param pool Pool the distance matrix rows are computed on
+     * @param parallelThreshold Minimum number of points for which the matrix is computed in parallel
+     */
+    public RoutePlanner(GpsService gpsService, ForkJoinPool pool, int parallelThreshold) {
+        this.gpsService = gpsService;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Plan a route through the stops.
+     *
+     * @param startLatitude Latitude of the start, or null if unknown
+     * @param startLongitude Longitude of the start, or null if unknown
+     * @param latitudes Stop latitudes
+     * @param longitudes Stop longitudes
+     * @param budgetNanos Time allowed for the improvement phase
+     * @return Stops in visiting order with leg distances and headings
+     */
+    public Route plan(Double startLatitude, Double startLongitude, double[] latitudes, double[] longitudes,
+                      long budgetNanos) {
+        int stops = latitudes.length;
+        boolean hasStart = startLatitude != null && startLongitude != null;
+        double[] nodeLat = new double[stops + 1];
+        double[] nodeLon = new double[stops + 1];
+        nodeLat[0] = hasStart ? startLatitude : (stops > 0 ? latitudes[0] : 0);
+        nodeLon[0] = hasStart ? startLongitude : (stops > 0 ? longitudes[0] : 0);
+        System.arraycopy(latitudes, 0, nodeLat, 1, stops);
+        System.arraycopy(longitudes, 0, nodeLon, 1, stops);
+
+        double[][] matrix = distanceMatrix(nodeLat, nodeLon);
+        if (!hasStart) {
+            for (int i = 0; i <= stops; i++) {
+                matrix[0][i] = 0;
+                matrix[i][0] = 0;
+            }
+        }
+
+        long deadline = System.nanoTime() + budgetNanos;
+        int[] tour = nearestNeighbour(matrix);
+        boolean converged = false;
+        while (System.nanoTime() < deadline) {
+            boolean improved = twoOpt(tour, matrix, deadline);
+            improved |= orOpt(tour, matrix, deadline);
+            if (!improved) {
+                converged = true;
+                break;
+            }
+        }
+
+        int[] order = new int[stops];
+        double[] legDistances = new double[stops];
+        double[] bearings = new double[stops];
+        double total = 0;
+        for (int k = 1; k <= stops; k++) {
+            int from = tour[k - 1];
+            int to = tour[k];
+            order[k - 1] = to - 1;
+            legDistances[k - 1] = matrix[from][to];
+            bearings[k - 1] = k == 1 && !hasStart
+                    ? Double.NaN
+                    : gpsService.calculateBearing(nodeLat[from], nodeLon[from], nodeLat[to], nodeLon[to]);
+            total += matrix[from][to];
+        }
+        return new Route(order, legDistances, bearings, total, converged);
+    }
+
+    /**
+     * Compute the symmetric matrix of Haversine distances between all points.
+     *
+     * @param latitudes Point latitudes
+     * @param longitudes Point longitudes
+     * @return Matrix of distances in meters
+     */
+    public double[][] distanceMatrix(double[] latitudes, double[] longitudes) {
+        int n = latitudes.length;
+        double[][] matrix = new double[n][n];
+        GeoPointBatch batch = GeoPointBatch.of(latitudes, longitudes);
+        RowTask task = new RowTask(batch, matrix, 0, n);
+        if (n >= parallelThreshold) {
+            pool.invoke(task);
+        } else {
+            task.compute();
+        }
+        return matrix;
+    }
+
+    private static int[] nearestNeighbour(double[][] matrix) {
+        int n = matrix.length;
+        int[] tour = new int[n];
+        boolean[] visited = new boolean[n];
+        visited[0] = true;
+        for (int k = 1; k < n; k++) {
+            int from = tour[k - 1];
+            int best = -1;
+            for (int candidate = 1; candidate < n; candidate++) {
+                if (!visited[candidate] && (best < 0 || matrix[from][candidate] < matrix[from][best])) {
+                    best = candidate;
+                }
+            }
+            tour[k] = best;
+            visited[best] = true;
+        }
+        return tour;
+    }
+
+    /**
+     * One first-improvement pass of 2-opt: reverse {@code tour[i..j]} whenever that shortens the route.
+     * The start stays fixed and the route is open, so a reversal reaching the end only changes one edge.
+     */
+    private static boolean twoOpt(int[] tour, double[][] d, long deadline) {
+        int n = tour.length;
+        boolean improved = false;
+        for (int i = 1; i < n - 1; i++) {
+            if (System.nanoTime() >= deadline) {
+                return improved;
+            }
+            int before = tour[i - 1];
+            for (int j = i + 1; j < n; j++) {
+                int last = tour[j];
+                double removed = d[before][tour[i]];
+                double added = d[before][last];
+                if (j + 1 < n) {
+                    removed += d[last][tour[j + 1]];
+                    added += d[tour[i]][tour[j + 1]];
+                }
+                if (added < removed - EPSILON) {
+                    reverse(tour, i, j);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * One first-improvement pass of Or-opt: move a run of one to three stops, optionally reversed,
+     * to the position where it costs least.
+     */
+    private static boolean orOpt(int[] tour, double[][] d, long deadline) {
+        int n = tour.length;
+        boolean improved = false;
+        for (int length = 1; length <= MAX_SEGMENT; length++) {
+            for (int i = 1; i + length <= n; i++) {
+                if (System.nanoTime() >= deadline) {
+                    return improved;
+                }
+                int end = i + length - 1;
+                int first = tour[i];
+                int last = tour[end];
+                int prev = tour[i - 1];
+                int next = end + 1 < n ? tour[end + 1] : -1;
+                double gain = d[prev][first] + (next >= 0 ? d[last][next] - d[prev][next] : 0);
+
+                double bestDelta = -EPSILON;
+                int bestPosition = -1;
+                boolean bestReversed = false;
+                for (int p = 0; p < n; p++) {
+                    if (p >= i - 1 && p <= end) {
+                        continue; // inserting after prev or inside the run changes nothing
+                    }
+                    int a = tour[p];
+                    int b = p + 1 < n ? tour[p + 1] : -1;
+                    double base = b >= 0 ? d[a][b] : 0;
+                    double forward = d[a][first] + (b >= 0 ? d[last][b] : 0) - base - gain;
+                    double reversed = d[a][last] + (b >= 0 ? d[first][b] : 0) - base - gain;
+                    if (forward < bestDelta) {
+                        bestDelta = forward;
+                        bestPosition = p;
+                        bestReversed = false;
+                    }
+                    if (reversed < bestDelta) {
+                        bestDelta = reversed;
+                        bestPosition = p;
+                        bestReversed = true;
+                    }
+                }
+                if (bestPosition >= 0) {
+                    move(tour, i, end, bestPosition, bestReversed);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * Move {@code tour[from..to]} so that it follows the stop currently at {@code after}.
+     */
+    private static void move(int[] tour, int from, int to, int after, boolean reversed) {
+        int length = to - from + 1;
+        int[] segment = new int[length];
+        for (int k = 0; k < length; k++) {
+            segment[k] = tour[reversed ? to - k : from + k];
+        }
+        if (after > to) {
+            System.arraycopy(tour, to + 1, tour, from, after - to);
+            System.arraycopy(segment, 0, tour, after - length + 1, length);
+        } else {
+            System.arraycopy(tour, after + 1, tour, after + 1 + length, from - after - 1);
+            System.arraycopy(segment, 0, tour, after + 1, length);
+        }
+    }
+
+    private static void reverse(int[] tour, int i, int j) {
+        while (i < j) {
+            int swap = tour[i];
+            tour[i++] = tour[j];
+            tour[j--] = swap;
+        }
+    }
+
+    /**
+     * Computes a range of matrix rows, splitting it in halves until ranges are small.
+     */
+    private final class RowTask extends RecursiveAction {
+
+        private final GeoPointBatch batch;
+        private final double[][] matrix;
+        private final int from;
+        private final int to;
+
+        private RowTask(GeoPointBatch batch, double[][] matrix, int from, int to) {
+            this.batch = batch;
+            this.matrix = matrix;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ROWS_PER_TASK) {
+                for (int row = from; row < to; row++) {
+                    gpsService.calculateDistances(batch.getLatitude(row), batch.getLongitude(row), batch, matrix[row]);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RowTask(batch, matrix, from, middle), new RowTask(batch, matrix, middle, to));
+            }
+        }
+    }
+
+    /**
+     * A planned route. {@code order} holds indexes into the stop arrays passed to {@link #plan}.
+     */
+    public static final class Route {
+
+        private final int[] order;
+        private final double[] legDistances;
+        private final double[] bearings;
+        private final double totalDistance;
+        private final boolean converged;
+
+        private Route(int[] order, double[] legDistances, double[] bearings, double totalDistance, boolean converged) {
+            this.order = order;
+            this.legDistances = legDistances;
+            this.bearings = bearings;
+            this.totalDistance = totalDistance;
+            this.converged = converged;
+        }
+
+        public int[] getOrder() {
+            return order;
+        }
+
+        /**
+         * @return Distance in meters of the leg arriving at each stop; 0 for the first stop without a start
+         */
+        public double[] getLegDistances() {
+            return legDistances;
+        }
+
+        /**
+         * @return Initial heading in degrees of the leg arriving at each stop; NaN for the first stop without a start
+         */
+        public double[] getBearings() {
+            return bearings;
+        }
+
+        public double getTotalDistance() {
+            return totalDistance;
+        }
+
+        /**
+         * @return true if improvement stopped because no move helped, false if the time budget ran out
+         */
+        public boolean isConverged() {
+            return converged;
+        }
+    }
+}
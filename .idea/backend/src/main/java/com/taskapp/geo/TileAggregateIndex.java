@@ -0,0 +1,159 @@
+package com.taskapp.geo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point counts aggregated on the Web Mercator tile quadtree at every level from 0 to {@code maxLevel}.
+ * Each point contributes to exactly one cell per level, so adding, removing or re-categorizing a point
+ * costs {@code O(maxLevel)} and any cell at any level can be read without visiting the points in it.
+ * Cells keep a count per category and the coordinate sums needed for the centroid.
+ * <p>
+ * Not thread-safe; callers synchronize access.
+ */
+public class TileAggregateIndex {
+
+    public static final double MAX_LATITUDE = 85.05112878;
+
+    private final int maxLevel;
+    private final int categories;
+    private final List<Map<Long, Cell>> levels;
+
+    /**
+     * @param maxLevel Deepest quadtree level (zoom) to aggregate, at most 30
+     * @param categories Number of point categories counted separately
+     */
+    public TileAggregateIndex(int maxLevel, int categories) {
+        if (maxLevel < 0 || maxLevel > 30) {
+            throw new IllegalArgumentException("Max level must be between 0 and 30");
+        }
+        this.maxLevel = maxLevel;
+        this.categories = categories;
+        this.levels = new ArrayList<>(maxLevel + 1);
+        for (int level = 0; level <= maxLevel; level++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Add a point of a category.
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param category Category index
+     */
+    public void add(double latitude, double longitude, int category) {
+        int x = tileX(longitude, maxLevel);
+        int y = tileY(latitude, maxLevel);
+        for (int level = maxLevel; level >= 0; level--) {
+            int shift = maxLevel - level;
+            levels.get(level)
+                    .computeIfAbsent(key(x >> shift, y >> shift, level), k -> new Cell(categories))
+                    .add(latitude, longitude, category, 1);
+        }
+    }
+
+    /**
+     * Remove a point previously added with the same coordinates and category.
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param category Category index
+     */
+    public void remove(double latitude, double longitude, int category) {
+        int x = tileX(longitude, maxLevel);
+        int y = tileY(latitude, maxLevel);
+        for (int level = maxLevel; level >= 0; level--) {
+            int shift = maxLevel - level;
+            levels.get(level).computeIfPresent(key(x >> shift, y >> shift, level), (k, cell) -> {
+                cell.add(latitude, longitude, category, -1);
+                return cell.count > 0 ? cell : null;
+            });
+        }
+    }
+
+    /**
+     * @param level Quadtree level
+     * @param x Cell column
+     * @param y Cell row
+     * @return Aggregate of the cell, or null if it holds no points
+     */
+    public Cell get(int level, int x, int y) {
+        return levels.get(level).get(key(x, y, level));
+    }
+
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    public void clear() {
+        levels.forEach(Map::clear);
+    }
+
+    /**
+     * @param longitude Longitude in degrees
+     * @param zoom Zoom level
+     * @return Column of the tile containing the longitude
+     */
+    public static int tileX(double longitude, int zoom) {
+        int n = 1 << zoom;
+        int x = (int) Math.floor((longitude + 180) / 360 * n);
+        return Math.max(0, Math.min(n - 1, x));
+    }
+
+    /**
+     * @param latitude Latitude in degrees, clamped to the Web Mercator range
+     * @param zoom Zoom level
+     * @return Row of the tile containing the latitude, 0 at the north edge
+     */
+    public static int tileY(double latitude, int zoom) {
+        int n = 1 << zoom;
+        double latRad = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+        int y = (int) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n);
+        return Math.max(0, Math.min(n - 1, y));
+    }
+
+    private static long key(int x, int y, int level) {
+        return ((long) x << level) | y;
+    }
+
+    /**
+     * Aggregate of the points in one cell.
+     */
+    public static final class Cell {
+
+        private int count;
+        private final int[] categoryCounts;
+        private double latitudeSum;
+        private double longitudeSum;
+
+        private Cell(int categories) {
+            this.categoryCounts = new int[categories];
+        }
+
+        private void add(double latitude, double longitude, int category, int delta) {
+            count += delta;
+            categoryCounts[category] += delta;
+            latitudeSum += delta * latitude;
+            longitudeSum += delta * longitude;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getCategoryCount(int category) {
+            return categoryCounts[category];
+        }
+
+        public double getCentroidLatitude() {
+            return latitudeSum / count;
+        }
+
+        public double getCentroidLongitude() {
+            return longitudeSum / count;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskapp.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository fragment for inserting many new entities with JDBC batching.
+ *
+ * @param <T> Entity type
+ */
+public interface BatchInsertRepository<T> {
+
+    /**
+     * Persist new entities, flushing and clearing the persistence context every JDBC batch
+     * so memory stays flat however many entities are inserted. Entities managed by the
+     * surrounding transaction are detached by the clears.
+     *
+     * @param entities New entities without ids
+     * @return The persisted entities with their generated ids
+     */
+    List<T> insertAll(Collection<T> entities);
+}
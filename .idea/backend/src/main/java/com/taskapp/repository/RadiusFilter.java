@@ -0,0 +1,113 @@
+package com.taskapp.repository;
+
+import com.taskapp.geo.BoundingBox;
+import com.taskapp.service.GpsService;
+import jakarta.persistence.Query;
+
+/**
+ * JPQL building blocks for radius searches run in the database.
+ * Rows are first restricted to the {@link BoundingBox} of the circle, a range predicate on
+ * latitude then longitude that a composite (latitude, longitude) index serves, and then to a
+ * Haversine term at most that of the radius. Ordering by the Haversine term orders by distance,
+ * since distance grows monotonically with it.
+ * <p>
+ * The database evaluates the trigonometry in its own floating point, so the Haversine bound is
+ * widened by a tiny tolerance. Callers re-check each row with {@link GpsService#calculateDistance},
+ * which decides membership and supplies the returned distance.
+ */
+final class RadiusFilter {
+
+    private static final double TOLERANCE = 1e-9; // relative widening of the Haversine bound
+
+    private final String latitudePath;
+    private final String longitudePath;
+    private final BoundingBox box;
+    private final double latitude;
+    private final double longitude;
+    private final Double maxHaversine;
+
+    /**
+     * @param latitudePath JPQL path of the latitude column, e.g. {@code t.latitude}
+     * @param longitudePath JPQL path of the longitude column
+     * @param latitude Center latitude
+     * @param longitude Center longitude
+     * @param radius Radius in meters
+     */
+    RadiusFilter(String latitudePath, String longitudePath, double latitude, double longitude, double radius) {
+        this.latitudePath = latitudePath;
+        this.longitudePath = longitudePath;
+        this.box = BoundingBox.around(latitude, longitude, radius);
+        this.latitude = latitude;
+        this.longitude = longitude;
+        double angularRadius = radius / GpsService.EARTH_RADIUS;
+        if (angularRadius >= Math.PI) {
+            this.maxHaversine = null; // the circle covers the whole sphere
+        } else {
+            double half = Math.sin(angularRadius / 2);
+            this.maxHaversine = half * half * (1 + TOLERANCE) + Double.MIN_NORMAL;
+        }
+    }
+
+    /**
+     * @return Predicate restricting rows to the bounding box and the Haversine bound
+     */
+    String predicate() {
+        StringBuilder predicate = new StringBuilder()
+                .append(latitudePath).append(" BETWEEN :rfSouth AND :rfNorth");
+        if (box.crossesAntimeridian()) {
+            predicate.append(" AND (").append(longitudePath).append(" >= :rfWest OR ")
+                    .append(longitudePath).append(" <= :rfEast)");
+        } else if (!box.isAllLongitudes()) {
+            predicate.append(" AND ").append(longitudePath).append(" BETWEEN :rfWest AND :rfEast");
+        }
+        if (maxHaversine != null) {
+            predicate.append(" AND ").append(haversine()).append(" <= :rfMaxHaversine");
+        }
+        return predicate.toString();
+    }
+
+    /**
+     * @return Haversine term {@code sin²(Δφ/2) + cos φ1 cos φ2 sin²(Δλ/2)} between the center and the row
+     */
+    String haversine() {
+        String halfDeltaLat = "sin((" + latitudePath + " - " + parameter("rfLatitude") + ") * " +
+                parameter("rfHalfRadians") + ")";
+        String halfDeltaLon = "sin((" + longitudePath + " - " + parameter("rfLongitude") + ") * " +
+                parameter("rfHalfRadians") + ")";
+        return "(" + halfDeltaLat + " * " + halfDeltaLat + " + " + parameter("rfCosLatitude") + " * cos(" +
+                latitudePath + " * " + parameter("rfRadians") + ") * " + halfDeltaLon + " * " + halfDeltaLon + ")";
+    }
+
+    /**
+     * Typed reference to a parameter used in arithmetic. Without the cast, dialects that cast such
+     * parameters themselves (H2) take the type from the neighbouring column and render an invalid precision.
+     */
+    private static String parameter(String name) {
+        return "cast(:" + name + " as Double)";
+    }
+
+    /**
+     * Bind the parameters used by {@link #predicate()} and {@link #haversine()}.
+     *
+     * @param query Query built from them
+     * @param ordered Whether the query also orders by {@link #haversine()}
+     */
+    void bind(Query query, boolean ordered) {
+        query.setParameter("rfSouth", box.getSouth());
+        query.setParameter("rfNorth", box.getNorth());
+        if (!box.isAllLongitudes()) {
+            query.setParameter("rfWest", box.getWest());
+            query.setParameter("rfEast", box.getEast());
+        }
+        if (maxHaversine != null || ordered) {
+            query.setParameter("rfLatitude", latitude);
+            query.setParameter("rfLongitude", longitude);
+            query.setParameter("rfRadians", Math.PI / 180);
+            query.setParameter("rfHalfRadians", Math.PI / 360);
+            query.setParameter("rfCosLatitude", Math.cos(Math.toRadians(latitude)));
+        }
+        if (maxHaversine != null) {
+            query.setParameter("rfMaxHaversine", maxHaversine);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.TaskCompletionResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository fragment for keyset-paginated completion listings.
+ */
+public interface TaskCompletionKeysetRepository {
+
+    /**
+     * Completions matching the filters in (completedAt, id) descending order, starting after a keyset position.
+     *
+     * @param taskId Optional task filter
+     * @param userId Optional filter on the user who completed the task
+     * @param afterCompletedAt Completion time of the last row of the previous page, or null for the first page
+     * @param afterId Id of the last row of the previous page
+     * @param limit Maximum number of rows
+     * @return Matching completions
+     */
+    List<TaskCompletionResponse> findCompletionPage(Long taskId, Long userId,
+                                                    LocalDateTime afterCompletedAt, Long afterId, int limit);
+}
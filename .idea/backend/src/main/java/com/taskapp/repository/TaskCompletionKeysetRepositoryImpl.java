@@ -0,0 +1,56 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.TaskCompletionResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskCompletionKeysetRepositoryImpl implements TaskCompletionKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskCompletionResponse> findCompletionPage(Long taskId, Long userId,
+                                                           LocalDateTime afterCompletedAt, Long afterId, int limit) {
+        List<String> predicates = new ArrayList<>();
+        if (taskId != null) {
+            predicates.add("tk.id = :taskId");
+        }
+        if (userId != null) {
+            predicates.add("u.id = :userId");
+        }
+        if (afterId != null) {
+            // Expanded (a, b) < (x, y), see TaskKeysetRepositoryImpl
+            predicates.add("c.completedAt <= :afterCompletedAt AND (c.completedAt < :afterCompletedAt OR c.id < :afterId)");
+        }
+
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.taskapp.dto.TaskCompletionResponse(c.id, tk.id, tk.title, u.id, u.username, " +
+                "c.gpsLatitude, c.gpsLongitude, c.distanceFromTarget, c.completionVerified, " +
+                "c.verificationNotes, c.completedAt) " +
+                "FROM TaskCompletion c JOIN c.task tk JOIN c.user u");
+        if (!predicates.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        jpql.append(" ORDER BY c.completedAt DESC, c.id DESC");
+
+        TypedQuery<TaskCompletionResponse> query =
+                entityManager.createQuery(jpql.toString(), TaskCompletionResponse.class);
+        if (taskId != null) {
+            query.setParameter("taskId", taskId);
+        }
+        if (userId != null) {
+            query.setParameter("userId", userId);
+        }
+        if (afterId != null) {
+            query.setParameter("afterCompletedAt", afterCompletedAt);
+            query.setParameter("afterId", afterId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.NearbyCompletionResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository fragment for radius searches over completion GPS fixes evaluated in the database.
+ */
+public interface TaskCompletionRadiusSearchRepository {
+
+    /**
+     * Completions whose GPS fix lies within a radius of a point, closest first. The database narrows
+     * the rows with idx_task_completions_gps and a Haversine bound; membership and distances are those
+     * of {@link com.taskapp.service.GpsService#calculateDistance}. Completions without a fix never match.
+     *
+     * @param latitude Center latitude
+     * @param longitude Center longitude
+     * @param radius Radius in meters
+     * @param from Optional inclusive start of the completion time range
+     * @param to Optional exclusive end of the completion time range
+     * @param limit Maximum number of completions
+     * @return Matching completions with the distance of their fix from the center
+     */
+    List<NearbyCompletionResponse> findCompletionsWithinRadius(double latitude, double longitude, double radius,
+                                                               LocalDateTime from, LocalDateTime to, int limit);
+}
@@ -0,0 +1,67 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.NearbyCompletionResponse;
+import com.taskapp.dto.TaskCompletionResponse;
+import com.taskapp.service.GpsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class TaskCompletionRadiusSearchRepositoryImpl implements TaskCompletionRadiusSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final GpsService gpsService;
+
+    public TaskCompletionRadiusSearchRepositoryImpl(GpsService gpsService) {
+        this.gpsService = gpsService;
+    }
+
+    @Override
+    public List<NearbyCompletionResponse> findCompletionsWithinRadius(double latitude, double longitude, double radius,
+                                                                      LocalDateTime from, LocalDateTime to, int limit) {
+        RadiusFilter filter = new RadiusFilter("c.gpsLatitude", "c.gpsLongitude", latitude, longitude, radius);
+
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.taskapp.dto.TaskCompletionResponse(c.id, tk.id, tk.title, u.id, u.username, " +
+                "c.gpsLatitude, c.gpsLongitude, c.distanceFromTarget, c.completionVerified, " +
+                "c.verificationNotes, c.completedAt) " +
+                "FROM TaskCompletion c JOIN c.task tk JOIN c.user u WHERE ").append(filter.predicate());
+        if (from != null) {
+            jpql.append(" AND c.completedAt >= :from");
+        }
+        if (to != null) {
+            jpql.append(" AND c.completedAt < :to");
+        }
+        jpql.append(" ORDER BY ").append(filter.haversine()).append(", c.id");
+
+        TypedQuery<TaskCompletionResponse> query =
+                entityManager.createQuery(jpql.toString(), TaskCompletionResponse.class);
+        filter.bind(query, true);
+        if (from != null) {
+            query.setParameter("from", from);
+        }
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+
+        List<NearbyCompletionResponse> result = new ArrayList<>();
+        for (TaskCompletionResponse completion : query.setMaxResults(limit).getResultList()) {
+            double distance = gpsService.calculateDistance(latitude, longitude,
+                    completion.getGpsLatitude(), completion.getGpsLongitude());
+            if (distance <= radius) {
+                result.add(new NearbyCompletionResponse(completion, distance));
+            }
+        }
+        // The database orders by its own rounding of the distance; settle near-ties the way Java computes them
+        result.sort(Comparator.comparingDouble(NearbyCompletionResponse::getDistance)
+                .thenComparing(nearby -> nearby.getCompletion().getId()));
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.UserCompletionCount;
+import com.taskapp.entity.TaskCompletion;
+import com.taskapp.event.TaskCompletionRecordedEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface TaskCompletionRepository extends JpaRepository<TaskCompletion, Long>,
+        BatchInsertRepository<TaskCompletion>, TaskCompletionKeysetRepository,
+        TaskCompletionRadiusSearchRepository {
+
+    @Query("SELECT MAX(c.id) FROM TaskCompletion c")
+    Optional<Long> findLatestId();
+
+    @Query("SELECT new com.taskapp.dto.UserCompletionCount(c.user.id, COUNT(c), " +
+           "SUM(CASE WHEN c.completionVerified = true THEN 1L ELSE 0L END)) " +
+           "FROM TaskCompletion c GROUP BY c.user.id")
+    List<UserCompletionCount> countByUser();
+
+    /**
+     * Completions recorded since a point in time, as the events they produced, for replaying into
+     * in-memory analytics. Must be consumed inside a transaction.
+     */
+    @Query("SELECT new com.taskapp.event.TaskCompletionRecordedEvent(c.id, c.task.id, c.user.id, " +
+           "c.completionVerified, c.gpsLatitude, c.gpsLongitude, c.distanceFromTarget, c.completionRadius, " +
+           "c.completedAt) FROM TaskCompletion c WHERE c.completedAt >= :since")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<TaskCompletionRecordedEvent> streamRecordedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,30 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository fragment for keyset-paginated task listings.
+ */
+public interface TaskKeysetRepository {
+
+    /**
+     * Tasks matching the filters in (status, createdAt, id) descending order, starting after a keyset position.
+     * Each page is a single index range scan, so deep pages cost the same as the first one.
+     *
+     * @param assignerId Optional assigner filter
+     * @param assigneeId Optional assignee filter
+     * @param status Optional status filter
+     * @param afterStatus Status of the last row of the previous page, or null for the first page
+     * @param afterCreatedAt Creation time of the last row of the previous page
+     * @param afterId Id of the last row of the previous page
+     * @param limit Maximum number of rows
+     * @return Matching tasks
+     */
+    List<TaskResponse> findTaskPage(Long assignerId, Long assigneeId, TaskStatus status,
+                                    TaskStatus afterStatus, LocalDateTime afterCreatedAt, Long afterId,
+                                    int limit);
+}
@@ -0,0 +1,66 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.entity.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskKeysetRepositoryImpl implements TaskKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskResponse> findTaskPage(Long assignerId, Long assigneeId, TaskStatus status,
+                                           TaskStatus afterStatus, LocalDateTime afterCreatedAt, Long afterId,
+                                           int limit) {
+        List<String> predicates = new ArrayList<>();
+        if (assignerId != null) {
+            predicates.add("ar.id = :assignerId");
+        }
+        if (assigneeId != null) {
+            predicates.add("ae.id = :assigneeId");
+        }
+        if (status != null) {
+            predicates.add("t.status = :status");
+        }
+        if (afterId != null) {
+            // Expanded (a, b) < (x, y): HQL cannot compare a row value with parameters. The leading
+            // <= bound on the first key column keeps the predicate an index range.
+            String afterCreated = "t.createdAt <= :afterCreatedAt AND (t.createdAt < :afterCreatedAt OR t.id < :afterId)";
+            predicates.add(status != null
+                    ? afterCreated
+                    : "t.status <= :afterStatus AND (t.status < :afterStatus OR (" + afterCreated + "))");
+        }
+
+        StringBuilder jpql = new StringBuilder(TaskRepository.TASK_RESPONSE_SELECT);
+        if (!predicates.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", predicates));
+        }
+        jpql.append(" ORDER BY t.status DESC, t.createdAt DESC, t.id DESC");
+
+        TypedQuery<TaskResponse> query = entityManager.createQuery(jpql.toString(), TaskResponse.class);
+        if (assignerId != null) {
+            query.setParameter("assignerId", assignerId);
+        }
+        if (assigneeId != null) {
+            query.setParameter("assigneeId", assigneeId);
+        }
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (afterId != null) {
+            if (status == null) {
+                query.setParameter("afterStatus", afterStatus);
+            }
+            query.setParameter("afterCreatedAt", afterCreatedAt);
+            query.setParameter("afterId", afterId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskapp.repository;
+
+import com.taskapp.entity.TaskOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskOutboxRepository extends JpaRepository<TaskOutboxEvent, Long> {
+
+    @Query("SELECT o FROM TaskOutboxEvent o WHERE o.relaySeq IS NULL ORDER BY o.id")
+    List<TaskOutboxEvent> findUnrelayed(Pageable pageable);
+
+    @Query("SELECT o FROM TaskOutboxEvent o WHERE o.recipientId = :recipientId AND o.relaySeq > :afterSeq " +
+           "ORDER BY o.relaySeq")
+    List<TaskOutboxEvent> findRelayedAfter(@Param("recipientId") Long recipientId,
+                                           @Param("afterSeq") long afterSeq,
+                                           Pageable pageable);
+
+    @Query("SELECT MIN(o.relaySeq) FROM TaskOutboxEvent o")
+    Long findMinRelaySeq();
+
+    @Query("SELECT MAX(o.relaySeq) FROM TaskOutboxEvent o")
+    Long findMaxRelaySeq();
+
+    /**
+     * Delete relayed events older than the cutoff. The newest relayed event is always kept so the
+     * relay sequence survives a restart even when the outbox has been idle for a long time.
+     */
+    @Modifying
+    @Query("DELETE FROM TaskOutboxEvent o WHERE o.relayedAt < :cutoff " +
+           "AND o.relaySeq < (SELECT MAX(o2.relaySeq) FROM TaskOutboxEvent o2)")
+    int deleteRelayedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,28 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.NearbyTaskResponse;
+import com.taskapp.entity.TaskStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository fragment for radius searches over task locations evaluated in the database.
+ */
+public interface TaskRadiusSearchRepository {
+
+    /**
+     * Tasks within a radius of a point, closest first. The database narrows the rows with
+     * idx_tasks_lat_lon and a Haversine bound; membership and distances are those of
+     * {@link com.taskapp.service.GpsService#calculateDistance}.
+     *
+     * @param latitude Center latitude
+     * @param longitude Center longitude
+     * @param radius Radius in meters
+     * @param statuses Optional status filter; null or empty for all statuses
+     * @param limit Maximum number of tasks
+     * @return Matching tasks with their distance from the center
+     */
+    List<NearbyTaskResponse> findTasksWithinRadius(double latitude, double longitude, double radius,
+                                                   Collection<TaskStatus> statuses, int limit);
+}
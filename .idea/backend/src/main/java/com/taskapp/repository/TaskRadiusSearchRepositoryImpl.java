@@ -0,0 +1,61 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.NearbyTaskResponse;
+import com.taskapp.dto.TaskLocation;
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.service.GpsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+public class TaskRadiusSearchRepositoryImpl implements TaskRadiusSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final GpsService gpsService;
+
+    public TaskRadiusSearchRepositoryImpl(GpsService gpsService) {
+        this.gpsService = gpsService;
+    }
+
+    @Override
+    public List<NearbyTaskResponse> findTasksWithinRadius(double latitude, double longitude, double radius,
+                                                          Collection<TaskStatus> statuses, int limit) {
+        RadiusFilter filter = new RadiusFilter("t.latitude", "t.longitude", latitude, longitude, radius);
+        boolean filterStatus = statuses != null && !statuses.isEmpty();
+
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.taskapp.dto.TaskLocation(t.id, t.title, t.latitude, t.longitude, " +
+                "t.completionRadius, t.status, t.assignee.id) " +
+                "FROM Task t WHERE ").append(filter.predicate());
+        if (filterStatus) {
+            jpql.append(" AND t.status IN :statuses");
+        }
+        jpql.append(" ORDER BY ").append(filter.haversine()).append(", t.id");
+
+        TypedQuery<TaskLocation> query = entityManager.createQuery(jpql.toString(), TaskLocation.class);
+        filter.bind(query, true);
+        if (filterStatus) {
+            query.setParameter("statuses", statuses);
+        }
+
+        List<NearbyTaskResponse> result = new ArrayList<>();
+        for (TaskLocation location : query.setMaxResults(limit).getResultList()) {
+            double distance = gpsService.calculateDistance(latitude, longitude,
+                    location.getLatitude(), location.getLongitude());
+            if (distance <= radius) {
+                result.add(new NearbyTaskResponse(location, distance));
+            }
+        }
+        // The database orders by its own rounding of the distance; settle near-ties the way Java computes them
+        result.sort(Comparator.comparingDouble(NearbyTaskResponse::getDistance)
+                .thenComparingLong(NearbyTaskResponse::getId));
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.TaskCompletionTime;
+import com.taskapp.dto.TaskLocation;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.dto.UserStatusCount;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface TaskRepository extends JpaRepository<Task, Long>, BatchInsertRepository<Task>,
+        TaskKeysetRepository, TaskRadiusSearchRepository {
+
+    /**
+     * Select and join clause for {@link TaskResponse} projections: one row per task, with the
+     * assigner and assignee usernames read in the same statement.
+     */
+    String TASK_RESPONSE_SELECT =
+            "SELECT new com.taskapp.dto.TaskResponse(t.id, t.title, t.description, t.latitude, t.longitude, " +
+            "t.completionRadius, t.status, ar.id, ar.username, ae.id, ae.username, t.createdAt, t.updatedAt) " +
+            "FROM Task t JOIN t.assigner ar JOIN t.assignee ae ";
+
+    List<Task> findByStatusIn(Collection<TaskStatus> statuses);
+
+    @Query("SELECT new com.taskapp.dto.TaskLocation(t.id, t.title, t.latitude, t.longitude, " +
+           "t.completionRadius, t.status, t.assignee.id) " +
+           "FROM Task t WHERE t.status IN :statuses")
+    List<TaskLocation> findLocationsByStatusIn(@Param("statuses") Collection<TaskStatus> statuses);
+
+    @Query("SELECT new com.taskapp.dto.TaskLocation(t.id, t.title, t.latitude, t.longitude, " +
+           "t.completionRadius, t.status, t.assignee.id) " +
+           "FROM Task t WHERE t.assignee.id = :assigneeId AND t.status IN :statuses ORDER BY t.id")
+    List<TaskLocation> findLocationsByAssigneeAndStatusIn(@Param("assigneeId") Long assigneeId,
+                                                          @Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Tasks of an assignee changed after the (updatedAt, id) keyset position and no later than the horizon,
+     * in keyset order. Served by idx_tasks_assignee_updated.
+     */
+    @Query(TASK_RESPONSE_SELECT +
+           "WHERE ae.id = :assigneeId " +
+           "AND (t.updatedAt > :afterTime OR (t.updatedAt = :afterTime AND t.id > :afterId)) " +
+           "AND t.updatedAt <= :horizon " +
+           "ORDER BY t.updatedAt, t.id")
+    List<TaskResponse> findChangesForAssignee(@Param("assigneeId") Long assigneeId,
+                                              @Param("afterTime") LocalDateTime afterTime,
+                                              @Param("afterId") Long afterId,
+                                              @Param("horizon") LocalDateTime horizon,
+                                              Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + "WHERE t.id = :id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<TaskResponse> findResponseById(@Param("id") Long id);
+
+    @Query("SELECT MAX(t.updatedAt) FROM Task t")
+    Optional<LocalDateTime> findLatestUpdatedAt();
+
+    @Query("SELECT new com.taskapp.dto.UserStatusCount(t.assignee.id, t.status, COUNT(t)) " +
+           "FROM Task t GROUP BY t.assignee.id, t.status")
+    List<UserStatusCount> countByAssigneeAndStatus();
+
+    @Query("SELECT new com.taskapp.dto.UserStatusCount(t.assigner.id, t.status, COUNT(t)) " +
+           "FROM Task t GROUP BY t.assigner.id, t.status")
+    List<UserStatusCount> countByAssignerAndStatus();
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.assignee.id = :assigneeId AND t.status IN :statuses")
+    long countByAssigneeAndStatusIn(@Param("assigneeId") Long assigneeId,
+                                    @Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Creation and completion time of every completed task, completion being the first verified
+     * completion or, for tasks closed without one, the last update. Must be consumed inside a transaction.
+     */
+    @Query("SELECT new com.taskapp.dto.TaskCompletionTime(t.assignee.id, t.createdAt, " +
+           "COALESCE(MIN(c.completedAt), t.updatedAt)) " +
+           "FROM Task t LEFT JOIN t.completions c ON c.completionVerified = true " +
+           "WHERE t.status = com.taskapp.entity.TaskStatus.COMPLETED " +
+           "GROUP BY t.id, t.assignee.id, t.createdAt, t.updatedAt")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<TaskCompletionTime> streamCompletionTimes();
+}
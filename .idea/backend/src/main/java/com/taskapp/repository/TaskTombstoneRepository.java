@@ -0,0 +1,37 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.TaskTombstoneResponse;
+import com.taskapp.entity.TaskTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    @Query("SELECT new com.taskapp.dto.TaskTombstoneResponse(tb.id, tb.taskId, tb.reason, tb.removedAt) " +
+           "FROM TaskTombstone tb WHERE tb.assigneeId = :assigneeId " +
+           "AND (tb.removedAt > :afterTime OR (tb.removedAt = :afterTime AND tb.id > :afterId)) " +
+           "AND tb.removedAt <= :horizon " +
+           "ORDER BY tb.removedAt, tb.id")
+    List<TaskTombstoneResponse> findChangesForAssignee(@Param("assigneeId") Long assigneeId,
+                                                       @Param("afterTime") LocalDateTime afterTime,
+                                                       @Param("afterId") Long afterId,
+                                                       @Param("horizon") LocalDateTime horizon,
+                                                       Pageable pageable);
+
+    @Query("SELECT MAX(tb.removedAt) FROM TaskTombstone tb " +
+           "WHERE tb.reason = com.taskapp.entity.TombstoneReason.DELETED")
+    Optional<LocalDateTime> findLatestDeletion();
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone tb WHERE tb.removedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,9 @@
+package com.taskapp.repository;
+
+import com.taskapp.entity.UserReportSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserReportSnapshotRepository extends JpaRepository<UserReportSnapshot, Long> {
+}
@@ -0,0 +1,34 @@
+package com.taskapp.repository;
+
+import com.taskapp.entity.User;
+import com.taskapp.entity.UserRole;
+import com.taskapp.security.AuthenticatedPrincipal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<User> findByUsername(String username);
+
+    @Query("SELECT new com.taskapp.security.AuthenticatedPrincipal(u.id, u.username, u.role, u.active) " +
+           "FROM User u WHERE u.id = :id")
+    Optional<AuthenticatedPrincipal> findPrincipalById(@Param("id") Long id);
+
+    @Query("SELECT new com.taskapp.security.AuthenticatedPrincipal(u.id, u.username, u.role, u.active) " +
+           "FROM User u WHERE u.username IN :usernames")
+    List<AuthenticatedPrincipal> findPrincipalsByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT u.id FROM User u WHERE u.role = :role AND u.active = true")
+    List<Long> findActiveIdsByRole(@Param("role") UserRole role);
+}
@@ -0,0 +1,62 @@
+package com.taskapp.security;
+
+import com.taskapp.entity.UserRole;
+
+/**
+ * Slim, immutable view of an authenticated user.
+ * Carries only what authorization needs, so it can be cached without the
+ * lazy collections of the {@link com.taskapp.entity.User} entity.
+ */
+public final class AuthenticatedPrincipal {
+
+    private final Long id;
+    private final String username;
+    private final UserRole role;
+    private final boolean active;
+
+    public AuthenticatedPrincipal(Long id, String username, UserRole role, boolean active) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.active = active;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    // Helper methods
+    public boolean isAdmin() {
+        return UserRole.ADMIN.equals(this.role);
+    }
+
+    public boolean isTaskAssigner() {
+        return UserRole.TASK_ASSIGNER.equals(this.role);
+    }
+
+    public boolean isUser() {
+        return UserRole.USER.equals(this.role);
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedPrincipal{" +
+                "id=" + id +
+                ", username='" + username + '\'' +
+                ", role=" + role +
+                ", active=" + active +
+                '}';
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskapp.security;
+
+import java.util.Date;
+
+/**
+ * Immutable result of parsing and verifying a JWT once.
+ * Holds every claim the application reads so callers never have to parse the token again.
+ */
+public final class DecodedToken {
+
+    private final String tokenId;
+    private final String subject;
+    private final Long userId;
+    private final String role;
+    private final long issuedAt;
+    private final long expiresAt;
+    private final TokenType tokenType;
+
+    public DecodedToken(String tokenId, String subject, Long userId, String role,
+                        long issuedAt, long expiresAt, TokenType tokenType) {
+        this.tokenId = tokenId;
+        this.subject = subject;
+        this.userId = userId;
+        this.role = role;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+        this.tokenType = tokenType;
+    }
+
+    /**
+     * @return The {@code jti} claim, or null for tokens issued before token ids existed
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public Date getIssuedAt() {
+        return new Date(issuedAt);
+    }
+
+    public Date getExpiration() {
+        return new Date(expiresAt);
+    }
+
+    /**
+     * @return Expiration as epoch milliseconds
+     */
+    public long getExpiresAtMillis() {
+        return expiresAt;
+    }
+
+    public TokenType getTokenType() {
+        return tokenType;
+    }
+
+    // Helper methods
+    public boolean isRefreshToken() {
+        return TokenType.REFRESH.equals(tokenType);
+    }
+
+    public boolean isExpired() {
+        return expiresAt < System.currentTimeMillis();
+    }
+
+    @Override
+    public String toString() {
+        return "DecodedToken{" +
+                "tokenId='" + tokenId + '\'' +
+                ", subject='" + subject + '\'' +
+                ", userId=" + userId +
+                ", role='" + role + '\'' +
+                ", issuedAt=" + issuedAt +
+                ", expiresAt=" + expiresAt +
+                ", tokenType=" + tokenType +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskapp.security;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Single-node revocation store. Revocations are lost on restart, which is acceptable only
+ * because they are bounded by the refresh token lifetime; use a shared store across nodes.
+ */
+@Component
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String tokenId, long expiresAtMillis) {
+        revoked.merge(tokenId, expiresAtMillis, Math::max);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt >= System.currentTimeMillis();
+    }
+
+    @Override
+    public void forEachActive(BiConsumer<String, Long> consumer) {
+        long now = System.currentTimeMillis();
+        revoked.forEach((tokenId, expiresAt) -> {
+            if (expiresAt >= now) {
+                consumer.accept(tokenId, expiresAt);
+            }
+        });
+    }
+
+    @Override
+    public void purgeExpired(long nowMillis) {
+        revoked.values().removeIf(expiresAt -> expiresAt < nowMillis);
+    }
+
+    @Override
+    public int size() {
+        return revoked.size();
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskapp.security;
+
+import com.taskapp.service.JwtService;
+import com.taskapp.service.PrincipalCache;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Authenticates requests carrying a bearer access token.
+ * The token is verified by {@link JwtService} and the principal comes from the
+ * {@link PrincipalCache}, so a warm request is authorized without any database access.
+ */
+@Component
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+    private final PrincipalCache principalCache;
+
+    public JwtAuthenticationFilter(JwtService jwtService, PrincipalCache principalCache) {
+        this.jwtService = jwtService;
+        this.principalCache = principalCache;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            authenticate(header.substring(BEARER_PREFIX.length()), request);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(String token, HttpServletRequest request) {
+        try {
+            DecodedToken decoded = jwtService.verifyToken(token);
+            if (decoded.isRefreshToken()) {
+                return;
+            }
+            Optional<AuthenticatedPrincipal> principal = principalCache.get(decoded.getUserId());
+            if (principal.isEmpty() || !principal.get().isActive()
+                    || !principal.get().getUsername().equals(decoded.getSubject())) {
+                return;
+            }
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    principal.get(), null,
+                    List.of(new SimpleGrantedAuthority("ROLE_" + principal.get().getRole().name())));
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Rejected JWT token: {}", e.getMessage());
+        }
+    }
+}
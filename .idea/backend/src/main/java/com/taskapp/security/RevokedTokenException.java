@@ -0,0 +1,13 @@
+package com.taskapp.security;
+
+import io.jsonwebtoken.JwtException;
+
+/**
+ * Thrown when a correctly signed, unexpired token has been revoked (for example on logout).
+ */
+public class RevokedTokenException extends JwtException {
+
+    public RevokedTokenException(String message) {
+        super(message);
+    }
+}
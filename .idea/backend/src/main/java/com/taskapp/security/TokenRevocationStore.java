@@ -0,0 +1,42 @@
+package com.taskapp.security;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Authoritative record of revoked token ids (the JWT {@code jti} claim).
+ * Entries only need to live until the token's own expiry, after which the token is rejected anyway.
+ * The in-process implementation is used by default; a multi-node deployment registers a
+ * {@code @Primary} implementation backed by shared storage.
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * Record a revoked token.
+     *
+     * @param tokenId Token id
+     * @param expiresAtMillis Token expiry as epoch milliseconds
+     */
+    void revoke(String tokenId, long expiresAtMillis);
+
+    /**
+     * @param tokenId Token id
+     * @return true if the token has been revoked and has not expired yet
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * Visit every revoked token that has not expired yet.
+     *
+     * @param consumer Receives the token id and its expiry
+     */
+    void forEachActive(BiConsumer<String, Long> consumer);
+
+    /**
+     * Drop entries whose tokens have expired.
+     *
+     * @param nowMillis Current time as epoch milliseconds
+     */
+    void purgeExpired(long nowMillis);
+
+    int size();
+}
@@ -0,0 +1,6 @@
+package com.taskapp.security;
+
+public enum TokenType {
+    ACCESS,
+    REFRESH
+}
@@ -0,0 +1,30 @@
+package com.taskapp.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Explicit eviction of the Hibernate second-level and query caches, for data changed outside the application.
+ */
+@Service
+public class CacheAdminService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheAdminService.class);
+
+    private final SessionFactory sessionFactory;
+
+    public CacheAdminService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * Evict every entity, collection and query result region.
+     */
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+        logger.info("Evicted all second-level cache regions");
+    }
+}
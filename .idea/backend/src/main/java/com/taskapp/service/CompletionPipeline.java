@@ -0,0 +1,376 @@
+package com.taskapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskapp.dto.CompletionAcknowledgement;
+import com.taskapp.dto.CompletionAcknowledgement.State;
+import com.taskapp.dto.TaskLocation;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.TaskCompletion;
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.exception.InvalidRequestException;
+import com.taskapp.exception.ResourceNotFoundException;
+import com.taskapp.exception.ServiceBusyException;
+import com.taskapp.repository.TaskCompletionRepository;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.stats.TimingSampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous ingestion of task completions.
+ * Submissions are verified against the in-memory geofence of the task and acknowledged
+ * immediately; a small pool of writers drains the bounded queue and group-commits many
+ * completions and their status transitions per transaction.
+ * The verification decision of every accepted completion is appended to the audit journal once
+ * its write has committed or failed, together with that outcome. Outcomes and distances of
+ * accepted completions are always counted; transaction time and the latency from submission
+ * to commit are timed for the calls picked by the {@link TimingSampler}.
+ */
+@Service
+public class CompletionPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompletionPipeline.class);
+
+    private final TaskSpatialIndex taskSpatialIndex;
+    private final GpsService gpsService;
+    private final TaskRepository taskRepository;
+    private final TaskCompletionRepository taskCompletionRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final VerificationAuditService verificationAuditService;
+    private final TimingSampler timingSampler;
+
+    private final Counter verifiedCompletions;
+    private final Counter rejectedCompletions;
+    private final DistributionSummary verifiedDistances;
+    private final DistributionSummary rejectedDistances;
+    private final Timer groupWriteTimer;
+    private final Timer singleWriteTimer;
+    private final DistributionSummary batchSizes;
+    private final Timer commitLatency;
+
+    private final BlockingQueue<PendingCompletion> queue;
+    private final Cache<String, CompletionAcknowledgement> acknowledgements;
+    private final int writerThreads;
+    private final int maxBatchSize;
+    private final Duration offerTimeout;
+
+    private ExecutorService writers;
+    private volatile boolean running;
+
+    public CompletionPipeline(TaskSpatialIndex taskSpatialIndex,
+                              GpsService gpsService,
+                              TaskRepository taskRepository,
+                              TaskCompletionRepository taskCompletionRepository,
+                              UserRepository userRepository,
+                              TransactionTemplate transactionTemplate,
+                              VerificationAuditService verificationAuditService,
+                              MeterRegistry meterRegistry,
+                              TimingSampler timingSampler,
+                              @Value("${tasks.completion.queue-capacity:10000}") int queueCapacity,
+                              @Value("${tasks.completion.writer-threads:2}") int writerThreads,
+                              @Value("${tasks.completion.max-batch-size:200}") int maxBatchSize,
+                              @Value("${tasks.completion.offer-timeout:50ms}") Duration offerTimeout,
+                              @Value("${tasks.completion.tracking-ttl:15m}") Duration trackingTtl) {
+        this.taskSpatialIndex = taskSpatialIndex;
+        this.gpsService = gpsService;
+        this.taskRepository = taskRepository;
+        this.taskCompletionRepository = taskCompletionRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.verificationAuditService = verificationAuditService;
+        this.timingSampler = timingSampler;
+        this.verifiedCompletions = verificationCounter(meterRegistry, "verified");
+        this.rejectedCompletions = verificationCounter(meterRegistry, "rejected");
+        this.verifiedDistances = distanceSummary(meterRegistry, "verified");
+        this.rejectedDistances = distanceSummary(meterRegistry, "rejected");
+        this.groupWriteTimer = writeTimer(meterRegistry, "group");
+        this.singleWriteTimer = writeTimer(meterRegistry, "single");
+        this.batchSizes = DistributionSummary.builder("completions.write.batch.size")
+                .description("Completions written per group commit")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) maxBatchSize)
+                .register(meterRegistry);
+        this.commitLatency = Timer.builder("completions.commit.latency")
+                .description("Time from accepting a completion to committing it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.acknowledgements = Caffeine.newBuilder()
+                .maximumSize(queueCapacity * 10L)
+                .expireAfterWrite(trackingTtl)
+                .build();
+        this.writerThreads = writerThreads;
+        this.maxBatchSize = maxBatchSize;
+        this.offerTimeout = offerTimeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        AtomicInteger threadNumber = new AtomicInteger();
+        writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "completion-writer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(false);
+            return thread;
+        });
+        for (int i = 0; i < writerThreads; i++) {
+            writers.submit(this::drainLoop);
+        }
+    }
+
+    /**
+     * Stop accepting submissions and let the writers commit everything still queued.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writers.shutdown();
+        if (!writers.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Completion writers did not finish; {} completions left in queue", queue.size());
+        }
+    }
+
+    /**
+     * Verify a completion against the task geofence and queue it for writing.
+     *
+     * @param taskId Task being completed
+     * @param userId User submitting the completion
+     * @param latitude Submitted GPS latitude
+     * @param longitude Submitted GPS longitude
+     * @return Acknowledgement with a tracking id
+     * @throws ServiceBusyException if the queue stays full for longer than the offer timeout
+     */
+    public CompletionAcknowledgement submit(long taskId, Long userId, double latitude, double longitude) {
+        if (!running) {
+            throw new ServiceBusyException("Completion pipeline is shutting down");
+        }
+        if (!gpsService.isValidCoordinates(latitude, longitude)) {
+            throw new InvalidRequestException("Invalid coordinates");
+        }
+        TaskLocation task = taskSpatialIndex.get(taskId);
+        if (task == null) {
+            throw new ResourceNotFoundException("No open task with id " + taskId);
+        }
+        if (!userId.equals(task.getAssigneeId())) {
+            throw new AccessDeniedException("Task " + taskId + " is not assigned to the current user");
+        }
+
+        double distance = gpsService.calculateDistance(latitude, longitude, task.getLatitude(), task.getLongitude());
+        boolean verified = distance <= task.getCompletionRadius();
+        UUID trackingId = UUID.randomUUID();
+        CompletionAcknowledgement acknowledgement = new CompletionAcknowledgement(
+                trackingId.toString(), taskId, distance, verified, State.QUEUED);
+        PendingCompletion pending = new PendingCompletion(acknowledgement, trackingId, userId, latitude, longitude,
+                task.getCompletionRadius(),
+                gpsService.getFormattedDistance(distance) + " from task location",
+                System.currentTimeMillis(), timingSampler.start());
+
+        acknowledgements.put(acknowledgement.getTrackingId(), acknowledgement);
+        try {
+            if (!queue.offer(pending, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                acknowledgements.invalidate(acknowledgement.getTrackingId());
+                throw new ServiceBusyException("Completion queue is full, retry later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acknowledgements.invalidate(acknowledgement.getTrackingId());
+            throw new ServiceBusyException("Interrupted while queueing completion");
+        }
+        // Counted once accepted, so submissions turned away as busy and retried are not counted twice
+        (verified ? verifiedCompletions : rejectedCompletions).increment();
+        (verified ? verifiedDistances : rejectedDistances).record(distance);
+        return acknowledgement;
+    }
+
+    /**
+     * @param trackingId Tracking id returned by {@link #submit}
+     * @return Latest known state of the submission
+     */
+    public Optional<CompletionAcknowledgement> getAcknowledgement(String trackingId) {
+        return Optional.ofNullable(acknowledgements.getIfPresent(trackingId));
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<PendingCompletion> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCompletion first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Unexpected error in completion writer", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Group-commit a batch; if the group fails, retry each completion alone so one bad
+     * row cannot sink the others.
+     */
+    private void commit(List<PendingCompletion> batch) {
+        batchSizes.record(batch.size());
+        try {
+            long start = timingSampler.start();
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+            timingSampler.record(groupWriteTimer, start);
+            markAll(batch, State.COMMITTED);
+        } catch (RuntimeException groupFailure) {
+            logger.warn("Group commit of {} completions failed, retrying individually: {}",
+                    batch.size(), groupFailure.getMessage());
+            for (PendingCompletion pending : batch) {
+                try {
+                    long start = timingSampler.start();
+                    transactionTemplate.executeWithoutResult(status -> write(List.of(pending)));
+                    timingSampler.record(singleWriteTimer, start);
+                    mark(pending, State.COMMITTED);
+                } catch (RuntimeException e) {
+                    logger.error("Completion {} for task {} failed: {}", pending.acknowledgement.getTrackingId(),
+                            pending.acknowledgement.getTaskId(), e.getMessage());
+                    mark(pending, State.FAILED);
+                }
+            }
+        }
+    }
+
+    private void write(List<PendingCompletion> batch) {
+        Set<Long> completedTaskIds = new HashSet<>();
+        List<TaskCompletion> completions = new ArrayList<>(batch.size());
+        for (PendingCompletion pending : batch) {
+            CompletionAcknowledgement acknowledgement = pending.acknowledgement;
+            TaskCompletion completion = new TaskCompletion(
+                    taskRepository.getReferenceById(acknowledgement.getTaskId()),
+                    userRepository.getReferenceById(pending.userId),
+                    pending.latitude,
+                    pending.longitude);
+            completion.setDistanceFromTarget(acknowledgement.getDistanceFromTarget());
+            completion.setCompletionRadius(pending.completionRadius);
+            completion.setCompletionVerified(acknowledgement.isCompletionVerified());
+            completion.setVerificationNotes(pending.notes);
+            completions.add(completion);
+            if (acknowledgement.isCompletionVerified()) {
+                completedTaskIds.add(acknowledgement.getTaskId());
+            }
+        }
+
+        // Status changes go through the entities so task change listeners observe them;
+        // they are flushed in the same JDBC batches as the completion inserts
+        if (!completedTaskIds.isEmpty()) {
+            for (Task task : taskRepository.findAllById(completedTaskIds)) {
+                if (task.isPending() || task.isInProgress()) {
+                    task.setStatus(TaskStatus.COMPLETED);
+                }
+            }
+        }
+        taskCompletionRepository.insertAll(completions);
+    }
+
+    private void markAll(List<PendingCompletion> batch, State state) {
+        for (PendingCompletion pending : batch) {
+            mark(pending, state);
+        }
+    }
+
+    private void mark(PendingCompletion pending, State state) {
+        CompletionAcknowledgement acknowledgement = pending.acknowledgement;
+        acknowledgements.put(acknowledgement.getTrackingId(), acknowledgement.withState(state));
+        verificationAuditService.record(pending.decidedAt, pending.trackingId, acknowledgement.getTaskId(),
+                pending.userId, pending.latitude, pending.longitude, acknowledgement.getDistanceFromTarget(),
+                pending.completionRadius, acknowledgement.isCompletionVerified(), state == State.COMMITTED);
+        if (state == State.COMMITTED) {
+            timingSampler.record(commitLatency, pending.acceptedAt);
+        }
+    }
+
+    private static Counter verificationCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("completions.verification")
+                .description("Accepted completions by geofence verification outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static DistributionSummary distanceSummary(MeterRegistry meterRegistry, String outcome) {
+        return DistributionSummary.builder("completions.verification.distance")
+                .description("Distance of accepted completions from the task location")
+                .baseUnit("meters")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(0.1)
+                .maximumExpectedValue(1.0e7)
+                .register(meterRegistry);
+    }
+
+    private static Timer writeTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("completions.write")
+                .description("Transaction writing a group of completions, or one completion on retry")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static final class PendingCompletion {
+        private final CompletionAcknowledgement acknowledgement;
+        private final UUID trackingId;
+        private final Long userId;
+        private final double latitude;
+        private final double longitude;
+        private final double completionRadius;
+        private final String notes;
+        private final long decidedAt; // epoch milliseconds
+        private final long acceptedAt; // sampler start time, or TimingSampler.NOT_SAMPLED
+
+        private PendingCompletion(CompletionAcknowledgement acknowledgement, UUID trackingId, Long userId,
+                                  double latitude, double longitude, double completionRadius, String notes,
+                                  long decidedAt, long acceptedAt) {
+            this.acknowledgement = acknowledgement;
+            this.trackingId = trackingId;
+            this.userId = userId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.completionRadius = completionRadius;
+            this.notes = notes;
+            this.decidedAt = decidedAt;
+            this.acceptedAt = acceptedAt;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskapp.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma separated, double-quoted fields with
+ * doubled quotes as escapes and line breaks allowed inside quotes. Holds one record at a time,
+ * of at most {@code maxRecordLength} characters.
+ */
+final class CsvRecordReader {
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private int lookahead = -2;
+
+    /**
+     * @param reader Source of the records
+     * @param maxRecordLength Maximum number of characters of a record, so an unterminated quote
+     *                        cannot buffer the rest of the input
+     */
+    CsvRecordReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * @return Fields of the next record, or null at end of input
+     * @throws MalformedRecordException if the record has an unterminated quoted field or is too long;
+     *                                  the reader cannot continue after it
+     * @throws IOException if the input cannot be read
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        while (true) {
+            if (++length > maxRecordLength) {
+                throw new MalformedRecordException("Record longer than " + maxRecordLength + " characters");
+            }
+            if (quoted) {
+                if (c == -1) {
+                    throw new MalformedRecordException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                break;
+            } else if (c == '\r') {
+                int following = read();
+                if (following != '\n') {
+                    lookahead = following;
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (lookahead != -2) {
+            int c = lookahead;
+            lookahead = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    /**
+     * The input is not valid CSV at the current record.
+     */
+    static final class MalformedRecordException extends IOException {
+
+        MalformedRecordException(String message) {
+            super(message);
+        }
+    }
+}
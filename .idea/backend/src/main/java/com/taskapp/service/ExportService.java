@@ -0,0 +1,308 @@
+package com.taskapp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming export of task and completion history as CSV or NDJSON.
+ * Rows are read through a forward-only JDBC cursor and written to the output as they arrive,
+ * without building entities or lists, so heap use does not depend on the size of the export.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private static final String COMPLETIONS_SQL =
+            "SELECT c.id, c.task_id, t.title AS task_title, c.user_id, u.username, " +
+            "c.gps_latitude, c.gps_longitude, c.distance_from_target, c.completion_radius, " +
+            "c.completion_verified, c.verification_notes, c.completed_at " +
+            "FROM task_completions c " +
+            "JOIN tasks t ON t.id = c.task_id " +
+            "JOIN users u ON u.id = c.user_id " +
+            "WHERE c.completed_at >= ? AND c.completed_at < ?";
+
+    private static final String TASKS_SQL =
+            "SELECT t.id, t.title, t.description, t.latitude, t.longitude, t.completion_radius, t.status, " +
+            "t.assigner_id, ar.username AS assigner_username, t.assignee_id, ae.username AS assignee_username, " +
+            "t.created_at, t.updated_at " +
+            "FROM tasks t " +
+            "JOIN users ar ON ar.id = t.assigner_id " +
+            "JOIN users ae ON ae.id = t.assignee_id " +
+            "WHERE t.created_at >= ? AND t.created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+
+    public ExportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write task completions recorded in a time range, oldest first.
+     *
+     * @param from Inclusive start of the range
+     * @param to Exclusive end of the range
+     * @param userId Optional filter on the user who completed the task
+     * @param format Output format
+     * @param out Destination; not closed
+     * @return Number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportCompletions(LocalDateTime from, LocalDateTime to, Long userId, Format format, Writer out) {
+        String sql = COMPLETIONS_SQL + (userId != null ? " AND c.user_id = ?" : "") + " ORDER BY c.completed_at, c.id";
+        return export("completions", sql, parameters(from, to, userId), format, out);
+    }
+
+    /**
+     * Write tasks created in a time range, in id order.
+     *
+     * @param from Inclusive start of the range
+     * @param to Exclusive end of the range
+     * @param assigneeId Optional assignee filter
+     * @param format Output format
+     * @param out Destination; not closed
+     * @return Number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(LocalDateTime from, LocalDateTime to, Long assigneeId, Format format, Writer out) {
+        String sql = TASKS_SQL + (assigneeId != null ? " AND t.assignee_id = ?" : "") + " ORDER BY t.id";
+        return export("tasks", sql, parameters(from, to, assigneeId), format, out);
+    }
+
+    private long export(String name, String sql, List<Object> parameters, Format format, Writer out) {
+        RowWriter writer = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+        long[] rows = new long[1];
+        // Runs inside the read-only transaction: with autocommit off the PostgreSQL driver
+        // streams the result in fetch-size chunks instead of buffering all of it
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            return statement;
+        }, resultSet -> {
+            try {
+                if (rows[0] == 0) {
+                    writer.start(resultSet.getMetaData());
+                }
+                writer.write(resultSet);
+                rows[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        try {
+            if (rows[0] == 0) {
+                writer.start(null);
+            }
+            writer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        logger.info("Exported {} {} rows as {}", rows[0], name, format);
+        return rows[0];
+    }
+
+    private static List<Object> parameters(LocalDateTime from, LocalDateTime to, Long id) {
+        List<Object> parameters = new ArrayList<>(3);
+        parameters.add(from);
+        parameters.add(to);
+        if (id != null) {
+            parameters.add(id);
+        }
+        return parameters;
+    }
+
+    /**
+     * Reads a column without materializing more than its value; timestamps come back as ISO-8601 local times.
+     */
+    private static Object value(ResultSet resultSet, ResultSetMetaData metaData, int column) throws SQLException {
+        if (metaData.getColumnType(column) == Types.TIMESTAMP) {
+            LocalDateTime time = resultSet.getObject(column, LocalDateTime.class);
+            return time != null ? time.toString() : null;
+        }
+        return resultSet.getObject(column);
+    }
+
+    private interface RowWriter {
+
+        /**
+         * @param metaData Columns of the result, or null if it is empty
+         */
+        void start(ResultSetMetaData metaData) throws IOException, SQLException;
+
+        void write(ResultSet resultSet) throws IOException, SQLException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer out;
+        private ResultSetMetaData metaData;
+        private int columns;
+
+        private CsvRowWriter(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void start(ResultSetMetaData metaData) throws IOException, SQLException {
+            this.metaData = metaData;
+            if (metaData == null) {
+                return;
+            }
+            columns = metaData.getColumnCount();
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) {
+                    out.write(',');
+                }
+                out.write(metaData.getColumnLabel(i));
+            }
+            out.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws IOException, SQLException {
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) {
+                    out.write(',');
+                }
+                Object value = value(resultSet, metaData, i);
+                if (value != null) {
+                    writeField(value.toString());
+                }
+            }
+            out.write('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            out.flush();
+        }
+
+        private void writeField(String field) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < field.length() && !quote; i++) {
+                char c = field.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                out.write(field);
+                return;
+            }
+            out.write('"');
+            for (int i = 0; i < field.length(); i++) {
+                char c = field.charAt(i);
+                if (c == '"') {
+                    out.write('"');
+                }
+                out.write(c);
+            }
+            out.write('"');
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final Writer out;
+        private JsonGenerator generator;
+        private ResultSetMetaData metaData;
+        private String[] labels;
+
+        private NdjsonRowWriter(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void start(ResultSetMetaData metaData) throws IOException, SQLException {
+            this.metaData = metaData;
+            generator = objectMapper.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Rows are separated by the newline written after each object, not Jackson's default space
+            generator.setRootValueSeparator(null);
+            if (metaData == null) {
+                return;
+            }
+            labels = new String[metaData.getColumnCount()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = toCamelCase(metaData.getColumnLabel(i + 1));
+            }
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws IOException, SQLException {
+            generator.writeStartObject();
+            for (int i = 0; i < labels.length; i++) {
+                generator.writeFieldName(labels[i]);
+                Object value = value(resultSet, metaData, i + 1);
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Long number) {
+                    generator.writeNumber(number);
+                } else if (value instanceof Integer number) {
+                    generator.writeNumber(number);
+                } else if (value instanceof Double number) {
+                    generator.writeNumber(number);
+                } else if (value instanceof Boolean flag) {
+                    generator.writeBoolean(flag);
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+
+        private String toCamelCase(String column) {
+            StringBuilder name = new StringBuilder(column.length());
+            boolean upper = false;
+            for (char c : column.toCharArray()) {
+                if (c == '_') {
+                    upper = true;
+                } else {
+                    name.append(upper ? Character.toUpperCase(c) : c);
+                    upper = false;
+                }
+            }
+            return name.toString();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.taskapp.service;
+
+/**
+ * Structure-of-arrays batch of coordinates with the trigonometric terms the Haversine
+ * formula needs precomputed once per point. Build it once for a set of targets
+ * (for example the open tasks of an assignee) and reuse it for every origin.
+ */
+public final class GeoPointBatch {
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] latitudesRad;
+    private final double[] longitudesRad;
+    private final double[] cosLatitudes;
+
+    private GeoPointBatch(double[] latitudes, double[] longitudes) {
+        int size = latitudes.length;
+        this.latitudes = latitudes.clone();
+        this.longitudes = longitudes.clone();
+        this.latitudesRad = new double[size];
+        this.longitudesRad = new double[size];
+        this.cosLatitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudesRad[i] = Math.toRadians(latitudes[i]);
+            longitudesRad[i] = Math.toRadians(longitudes[i]);
+            cosLatitudes[i] = Math.cos(latitudesRad[i]);
+        }
+    }
+
+    /**
+     * Prepare a batch of points.
+     *
+     * @param latitudes Latitudes in degrees
+     * @param longitudes Longitudes in degrees, same length as latitudes
+     * @return Prepared batch
+     */
+    public static GeoPointBatch of(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Latitude and longitude arrays must have the same length");
+        }
+        return new GeoPointBatch(latitudes, longitudes);
+    }
+
+    public int size() {
+        return latitudes.length;
+    }
+
+    public double getLatitude(int index) {
+        return latitudes[index];
+    }
+
+    public double getLongitude(int index) {
+        return longitudes[index];
+    }
+
+    double[] latitudesRad() {
+        return latitudesRad;
+    }
+
+    double[] longitudesRad() {
+        return longitudesRad;
+    }
+
+    double[] cosLatitudes() {
+        return cosLatitudes;
+    }
+}
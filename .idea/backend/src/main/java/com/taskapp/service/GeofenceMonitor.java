@@ -0,0 +1,309 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.LocationPing;
+import com.taskapp.dto.TaskLocation;
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.event.GeofenceTransitionEvent;
+import com.taskapp.event.GeofenceTransitionEvent.Type;
+import com.taskapp.event.TaskChangedEvent;
+import com.taskapp.exception.InvalidRequestException;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.stats.TimingSampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates live location pings against the geofences of the pinging user's own open tasks.
+ * Fences are held in memory per assignee, loaded once at startup and kept up to date from
+ * committed {@link TaskChangedEvent}s, so a ping only touches the handful of fences of one user
+ * and never the database. Entering the fence of a PENDING task starts it asynchronously.
+ */
+@Service
+public class GeofenceMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeofenceMonitor.class);
+
+    private final TaskRepository taskRepository;
+    private final GpsService gpsService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final double exitHysteresis;
+    private final boolean autoStart;
+    private final TimingSampler timingSampler;
+    private final Timer evaluateTimer;
+    private final Counter enterTransitions;
+    private final Counter exitTransitions;
+
+    private final ConcurrentHashMap<Long, UserFences> fencesByUser = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> ownerByTask = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor autoStarter;
+
+    public GeofenceMonitor(TaskRepository taskRepository,
+                           GpsService gpsService,
+                           TransactionTemplate transactionTemplate,
+                           ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry,
+                           TimingSampler timingSampler,
+                           @Value("${gps.geofence.exit-hysteresis:0.1}") double exitHysteresis,
+                           @Value("${gps.geofence.auto-start:true}") boolean autoStart,
+                           @Value("${gps.geofence.auto-start-queue-capacity:1000}") int autoStartQueueCapacity) {
+        this.taskRepository = taskRepository;
+        this.gpsService = gpsService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.exitHysteresis = exitHysteresis;
+        this.autoStart = autoStart;
+        this.timingSampler = timingSampler;
+        this.evaluateTimer = Timer.builder("geofence.evaluate")
+                .description("Evaluation of one location ping against the user's geofences")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.enterTransitions = transitionCounter(meterRegistry, Type.ENTER);
+        this.exitTransitions = transitionCounter(meterRegistry, Type.EXIT);
+        this.autoStarter = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(autoStartQueueCapacity),
+                runnable -> new Thread(runnable, "geofence-auto-start"));
+    }
+
+    /**
+     * Load the fences of all assigned open tasks once the application has started.
+     * Tasks already registered by change events keep the newer data from the event.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<TaskLocation> locations = taskRepository.findLocationsByStatusIn(TaskSpatialIndex.OPEN_STATUSES);
+        for (TaskLocation location : locations) {
+            Long assigneeId = location.getAssigneeId();
+            if (assigneeId != null && ownerByTask.putIfAbsent(location.getTaskId(), assigneeId) == null) {
+                addFence(assigneeId, location);
+            }
+        }
+        logger.info("Geofence monitor loaded {} fences for {} users", ownerByTask.size(), fencesByUser.size());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        autoStarter.shutdown();
+        if (!autoStarter.awaitTermination(10, TimeUnit.SECONDS)) {
+            logger.warn("Geofence auto-start did not finish; {} starts dropped", autoStarter.getQueue().size());
+        }
+    }
+
+    /**
+     * Apply a committed task change: open assigned tasks are (re)registered with their assignee,
+     * closed, deleted or reassigned tasks are dropped from their previous assignee.
+     *
+     * @param event Task change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getTaskId() == null) {
+            return;
+        }
+        long taskId = event.getTaskId();
+        Long assigneeId = event.isOpen() ? event.getAssigneeId() : null;
+        Long previousOwner = assigneeId != null ? ownerByTask.put(taskId, assigneeId) : ownerByTask.remove(taskId);
+        if (previousOwner != null && !previousOwner.equals(assigneeId)) {
+            removeFence(previousOwner, taskId);
+        }
+        if (assigneeId != null) {
+            addFence(assigneeId, TaskLocation.from(event));
+        }
+    }
+
+    /**
+     * Evaluate one location ping of a user against that user's geofences.
+     * A fence is entered when the ping is within its completion radius and only left again once the
+     * ping is outside the radius widened by the exit hysteresis, so GPS jitter at the edge does not flap.
+     *
+     * @param userId User sending the ping
+     * @param latitude Ping latitude
+     * @param longitude Ping longitude
+     * @return Transitions caused by this ping, usually empty
+     */
+    public List<GeofenceTransitionEvent> evaluate(Long userId, double latitude, double longitude) {
+        if (!gpsService.isValidCoordinates(latitude, longitude)) {
+            throw new InvalidRequestException("Invalid coordinates");
+        }
+        UserFences fences = fencesByUser.get(userId);
+        if (fences == null) {
+            return List.of();
+        }
+
+        long start = timingSampler.start();
+        List<GeofenceTransitionEvent> transitions = null;
+        synchronized (fences) {
+            for (TaskLocation fence : fences.locations) {
+                boolean inside = fences.inside.contains(fence.getTaskId());
+                Type type = null;
+                if (!inside && gpsService.isWithinRadius(latitude, longitude,
+                        fence.getLatitude(), fence.getLongitude(), fence.getCompletionRadius())) {
+                    fences.inside.add(fence.getTaskId());
+                    type = Type.ENTER;
+                } else if (inside && !gpsService.isWithinRadius(latitude, longitude,
+                        fence.getLatitude(), fence.getLongitude(), fence.getCompletionRadius() * (1 + exitHysteresis))) {
+                    fences.inside.remove(fence.getTaskId());
+                    type = Type.EXIT;
+                }
+                if (type != null) {
+                    (type == Type.ENTER ? enterTransitions : exitTransitions).increment();
+                    if (transitions == null) {
+                        transitions = new ArrayList<>(2);
+                    }
+                    double distance = gpsService.calculateDistance(latitude, longitude,
+                            fence.getLatitude(), fence.getLongitude());
+                    transitions.add(new GeofenceTransitionEvent(type, userId, fence.getTaskId(),
+                            latitude, longitude, distance, Instant.now()));
+                    if (type == Type.ENTER && autoStart && TaskStatus.PENDING.equals(fence.getStatus())) {
+                        requestStart(fence.getTaskId(), userId);
+                    }
+                }
+            }
+        }
+        timingSampler.record(evaluateTimer, start);
+
+        if (transitions == null) {
+            return List.of();
+        }
+        for (GeofenceTransitionEvent transition : transitions) {
+            eventPublisher.publishEvent(transition);
+        }
+        return transitions;
+    }
+
+    /**
+     * Evaluate a batch of pings of one user in the order they were recorded.
+     *
+     * @param userId User sending the pings
+     * @param pings Pings, oldest first
+     * @return Transitions caused by the pings, in order
+     */
+    public List<GeofenceTransitionEvent> evaluate(Long userId, List<LocationPing> pings) {
+        List<GeofenceTransitionEvent> transitions = new ArrayList<>();
+        for (LocationPing ping : pings) {
+            if (ping == null || ping.getLatitude() == null || ping.getLongitude() == null) {
+                throw new InvalidRequestException("Every ping needs a latitude and longitude");
+            }
+            transitions.addAll(evaluate(userId, ping.getLatitude(), ping.getLongitude()));
+        }
+        return transitions;
+    }
+
+    /**
+     * @return Number of users with at least one registered geofence
+     */
+    public int getTrackedUserCount() {
+        return fencesByUser.size();
+    }
+
+    /**
+     * @return Number of registered geofences
+     */
+    public int getFenceCount() {
+        return ownerByTask.size();
+    }
+
+    private void addFence(Long userId, TaskLocation location) {
+        fencesByUser.compute(userId, (id, fences) -> {
+            UserFences target = fences != null ? fences : new UserFences();
+            target.put(location);
+            return target;
+        });
+    }
+
+    private void removeFence(Long userId, long taskId) {
+        fencesByUser.computeIfPresent(userId, (id, fences) -> fences.remove(taskId) ? null : fences);
+    }
+
+    private void requestStart(long taskId, Long userId) {
+        try {
+            autoStarter.execute(() -> startTask(taskId, userId));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Auto-start queue full, task {} left pending", taskId);
+        }
+    }
+
+    private void startTask(long taskId, Long userId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> taskRepository.findById(taskId)
+                    .filter(task -> task.isPending()
+                            && task.getAssignee() != null && userId.equals(task.getAssignee().getId()))
+                    .ifPresent(task -> {
+                        task.setStatus(TaskStatus.IN_PROGRESS);
+                        logger.info("Task {} started on geofence entry by user {}", taskId, userId);
+                    }));
+        } catch (RuntimeException e) {
+            logger.warn("Could not auto-start task {}: {}", taskId, e.getMessage());
+        }
+    }
+
+    private static Counter transitionCounter(MeterRegistry meterRegistry, Type type) {
+        return Counter.builder("geofence.transitions")
+                .description("Geofence transitions of live location pings")
+                .tag("type", type.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Geofences of one user. The fence array is replaced on change so pings iterate a stable snapshot;
+     * all access happens while holding the monitor of this object.
+     */
+    private static final class UserFences {
+
+        private TaskLocation[] locations = new TaskLocation[0];
+        private final Set<Long> inside = new HashSet<>();
+
+        synchronized void put(TaskLocation location) {
+            for (int i = 0; i < locations.length; i++) {
+                if (locations[i].getTaskId() == location.getTaskId()) {
+                    TaskLocation[] copy = locations.clone();
+                    copy[i] = location;
+                    locations = copy;
+                    return;
+                }
+            }
+            TaskLocation[] copy = Arrays.copyOf(locations, locations.length + 1);
+            copy[locations.length] = location;
+            locations = copy;
+        }
+
+        /**
+         * @return true if no fences are left
+         */
+        synchronized boolean remove(long taskId) {
+            inside.remove(taskId);
+            int kept = 0;
+            TaskLocation[] copy = new TaskLocation[locations.length];
+            for (TaskLocation location : locations) {
+                if (location.getTaskId() != taskId) {
+                    copy[kept++] = location;
+                }
+            }
+            locations = Arrays.copyOf(copy, kept);
+            return kept == 0;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.GpsAccuracySummary;
+import com.taskapp.dto.QuantileSummary;
+import com.taskapp.event.TaskCompletionRecordedEvent;
+import com.taskapp.repository.TaskCompletionRepository;
+import com.taskapp.stats.LogHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Streaming statistics of {@code distanceFromTarget} per task, per assignee, per region and overall.
+ * Every completion is added to a {@link LogHistogram} sketch for its time slot; window queries merge
+ * the slots of the last hour, day or week, so percentiles never need the completion rows sorted.
+ * Sketches are bounded in size, so memory per key and slot is constant.
+ */
+@Service
+public class GpsAccuracyAnalytics {
+
+    private static final Logger logger = LoggerFactory.getLogger(GpsAccuracyAnalytics.class);
+
+    public enum Dimension {
+        TASK,
+        ASSIGNEE,
+        REGION,
+        ALL
+    }
+
+    public enum Window {
+        HOUR(Duration.ofHours(1)),
+        DAY(Duration.ofDays(1)),
+        WEEK(Duration.ofDays(7));
+
+        private final Duration length;
+
+        Window(Duration length) {
+            this.length = length;
+        }
+
+        public Duration getLength() {
+            return length;
+        }
+    }
+
+    private static final String ALL_KEY = "all";
+
+    private final TaskCompletionRepository taskCompletionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Dimension, Map<String, WindowedSketch>> sketches = new EnumMap<>(Dimension.class);
+
+    private final long slotMillis;
+    private final double regionSize;
+    private final double boundaryBand;
+    private final double relativeAccuracy;
+    private final int maxBuckets;
+
+    public GpsAccuracyAnalytics(TaskCompletionRepository taskCompletionRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${gps.analytics.slot-width:10m}") Duration slotWidth,
+                                @Value("${gps.analytics.region-size:0.5}") double regionSize,
+                                @Value("${gps.analytics.boundary-band:0.1}") double boundaryBand,
+                                @Value("${gps.analytics.relative-accuracy:0.01}") double relativeAccuracy,
+                                @Value("${gps.analytics.max-buckets:1024}") int maxBuckets) {
+        this.taskCompletionRepository = taskCompletionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.slotMillis = slotWidth.toMillis();
+        this.regionSize = regionSize;
+        this.boundaryBand = boundaryBand;
+        this.relativeAccuracy = relativeAccuracy;
+        this.maxBuckets = maxBuckets;
+        for (Dimension dimension : Dimension.values()) {
+            sketches.put(dimension, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Replay the completions of the longest window so queries are complete right after a restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime since = LocalDateTime.now().minus(Window.WEEK.getLength());
+        AtomicLong replayed = new AtomicLong();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TaskCompletionRecordedEvent> completions = taskCompletionRepository.streamRecordedSince(since)) {
+                completions.forEach(completion -> {
+                    record(completion);
+                    replayed.incrementAndGet();
+                });
+            }
+        });
+        logger.info("GPS accuracy sketches loaded from {} completions", replayed.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompletionRecorded(TaskCompletionRecordedEvent event) {
+        record(event);
+    }
+
+    /**
+     * Drop slots that fell out of the longest window, and keys left without any.
+     */
+    @Scheduled(fixedDelayString = "${gps.analytics.expiry-interval:600000}")
+    public void expire() {
+        long oldest = oldestSlot(Window.WEEK);
+        for (Map<String, WindowedSketch> byKey : sketches.values()) {
+            for (String key : byKey.keySet()) {
+                // Atomic per key with add(), so a completion is never recorded into a removed sketch
+                byKey.computeIfPresent(key, (k, sketch) -> sketch.expire(oldest) ? null : sketch);
+            }
+        }
+    }
+
+    /**
+     * Summarize one key, or every key of a dimension ordered by number of completions.
+     *
+     * @param dimension Dimension to report on
+     * @param key Task id, assignee id or region key ("lat,lon" of the cell's south-west corner); null for all keys
+     * @param window Rolling window
+     * @param limit Maximum number of keys to return
+     * @param includeSketch Whether to include the serialized sketch for merging elsewhere
+     * @return Summaries, empty if nothing was recorded in the window
+     */
+    public List<GpsAccuracySummary> summarize(Dimension dimension, String key, Window window, int limit,
+                                              boolean includeSketch) {
+        Map<String, WindowedSketch> byKey = sketches.get(dimension);
+        long fromSlot = oldestSlot(window);
+        List<GpsAccuracySummary> summaries = new ArrayList<>();
+        if (dimension == Dimension.ALL || key != null) {
+            WindowedSketch sketch = byKey.get(dimension == Dimension.ALL ? ALL_KEY : key);
+            Slot merged = sketch != null ? sketch.merge(fromSlot, newSlot()) : null;
+            if (merged != null && merged.distances.getCount() > 0) {
+                summaries.add(summarize(dimension, dimension == Dimension.ALL ? ALL_KEY : key, window,
+                        merged, includeSketch));
+            }
+            return summaries;
+        }
+        for (Map.Entry<String, WindowedSketch> entry : byKey.entrySet()) {
+            Slot merged = entry.getValue().merge(fromSlot, newSlot());
+            if (merged.distances.getCount() > 0) {
+                summaries.add(summarize(dimension, entry.getKey(), window, merged, includeSketch));
+            }
+        }
+        summaries.sort(Comparator.comparingLong((GpsAccuracySummary summary) -> summary.getDistance().getCount())
+                .reversed());
+        return summaries.size() > limit ? new ArrayList<>(summaries.subList(0, limit)) : summaries;
+    }
+
+    private void record(TaskCompletionRecordedEvent completion) {
+        if (completion.getDistanceFromTarget() == null || completion.getCompletedAt() == null) {
+            return;
+        }
+        long slot = slotOf(completion.getCompletedAt());
+        if (slot < oldestSlot(Window.WEEK)) {
+            return;
+        }
+        add(Dimension.ALL, ALL_KEY, slot, completion);
+        if (completion.getTaskId() != null) {
+            add(Dimension.TASK, completion.getTaskId().toString(), slot, completion);
+        }
+        if (completion.getUserId() != null) {
+            add(Dimension.ASSIGNEE, completion.getUserId().toString(), slot, completion);
+        }
+        if (completion.getGpsLatitude() != null && completion.getGpsLongitude() != null) {
+            add(Dimension.REGION, regionKey(completion.getGpsLatitude(), completion.getGpsLongitude()),
+                    slot, completion);
+        }
+    }
+
+    private void add(Dimension dimension, String key, long slot, TaskCompletionRecordedEvent completion) {
+        sketches.get(dimension).compute(key, (k, sketch) -> {
+            WindowedSketch target = sketch != null ? sketch : new WindowedSketch();
+            target.record(slot, completion);
+            return target;
+        });
+    }
+
+    private GpsAccuracySummary summarize(Dimension dimension, String key, Window window, Slot slot,
+                                         boolean includeSketch) {
+        long count = slot.distances.getCount();
+        return new GpsAccuracySummary(dimension.name(), key, window.name(),
+                QuantileSummary.of(slot.distances),
+                (double) slot.verified / count,
+                slot.withRadius > 0 ? (double) slot.nearBoundary / slot.withRadius : null,
+                includeSketch ? slot.distances.toBytes() : null);
+    }
+
+    private String regionKey(double latitude, double longitude) {
+        double south = Math.floor(latitude / regionSize) * regionSize;
+        double west = Math.floor(longitude / regionSize) * regionSize;
+        return String.format(Locale.ROOT, "%.4f,%.4f", south, west);
+    }
+
+    private long slotOf(LocalDateTime time) {
+        return Math.floorDiv(time.toInstant(ZoneOffset.UTC).toEpochMilli(), slotMillis);
+    }
+
+    private long oldestSlot(Window window) {
+        return slotOf(LocalDateTime.now().minus(window.getLength())) + 1;
+    }
+
+    private Slot newSlot() {
+        return new Slot(new LogHistogram(relativeAccuracy, maxBuckets));
+    }
+
+    /**
+     * Sketches of one key, one per time slot with completions; guarded by its own monitor.
+     */
+    private final class WindowedSketch {
+
+        private final TreeMap<Long, Slot> slots = new TreeMap<>();
+
+        private synchronized void record(long slot, TaskCompletionRecordedEvent completion) {
+            slots.computeIfAbsent(slot, s -> newSlot()).add(completion, boundaryBand);
+        }
+
+        private synchronized Slot merge(long fromSlot, Slot target) {
+            for (Slot slot : slots.tailMap(fromSlot, true).values()) {
+                target.merge(slot);
+            }
+            return target;
+        }
+
+        /**
+         * @return true if no slots are left
+         */
+        private synchronized boolean expire(long oldestSlot) {
+            slots.headMap(oldestSlot, false).clear();
+            return slots.isEmpty();
+        }
+    }
+
+    /**
+     * Statistics of the completions in one time slot, or the merge of several.
+     */
+    private static final class Slot {
+
+        private final LogHistogram distances;
+        private long verified;
+        private long withRadius;
+        private long nearBoundary;
+
+        private Slot(LogHistogram distances) {
+            this.distances = distances;
+        }
+
+        private void add(TaskCompletionRecordedEvent completion, double boundaryBand) {
+            double distance = completion.getDistanceFromTarget();
+            distances.add(distance);
+            if (completion.isVerified()) {
+                verified++;
+            }
+            Double radius = completion.getCompletionRadius();
+            if (radius != null && radius > 0) {
+                withRadius++;
+                if (Math.abs(distance - radius) <= boundaryBand * radius) {
+                    nearBoundary++;
+                }
+            }
+        }
+
+        private void merge(Slot other) {
+            distances.merge(other.distances);
+            verified += other.verified;
+            withRadius += other.withRadius;
+            nearBoundary += other.nearBoundary;
+        }
+    }
+}
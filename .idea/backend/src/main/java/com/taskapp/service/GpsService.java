@@ -2,6 +2,8 @@ package com.taskapp.service;
 
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Service for GPS-related calculations and validations.
  * Uses the Haversine formula to calculate distances between geographical coordinates.
@@ -9,7 +11,17 @@ import org.springframework.stereotype.Service;
 @Service
 public class GpsService {
 
-    private static final double EARTH_RADIUS = 6371000; // Earth's radius in meters
+    public static final double EARTH_RADIUS = 6371000; // Earth's radius in meters
+
+    private static final double BOX_TOLERANCE = 1e-6; // absorbs floating point rounding
+    private static final double APPROXIMATION_TOLERANCE = 1e-3; // >10x the worst observed relative error
+    private static final double MAX_APPROXIMATION_RADIUS = 20000; // meters
+    private static final double MAX_APPROXIMATION_LATITUDE = 80; // degrees
+
+    private final LongAdder boundingBoxRejects = new LongAdder();
+    private final LongAdder approximationAccepts = new LongAdder();
+    private final LongAdder approximationRejects = new LongAdder();
+    private final LongAdder exactChecks = new LongAdder();
 
     /**
      * Calculate the distance between two geographical points using the Haversine formula.
@@ -41,8 +53,82 @@ public class GpsService {
         return EARTH_RADIUS * c;
     }
 
+    /**
+     * Calculate the distances from one origin to every point of a batch.
+     * Uses the same Haversine formula as {@link #calculateDistance}, so each result is identical
+     * to the scalar call, but the per-target radians and cosines come precomputed from the batch
+     * and the origin terms are computed once.
+     *
+     * @param originLat Latitude of the origin
+     * @param originLon Longitude of the origin
+     * @param targets Prepared target points
+     * @param distances Output array, at least {@code targets.size()} long, receiving distances in meters
+     */
+    public void calculateDistances(double originLat, double originLon, GeoPointBatch targets, double[] distances) {
+        int size = targets.size();
+        if (distances.length < size) {
+            throw new IllegalArgumentException("Output array is smaller than the target batch");
+        }
+
+        double originLatRad = Math.toRadians(originLat);
+        double originLonRad = Math.toRadians(originLon);
+        double originCosLat = Math.cos(originLatRad);
+        double[] latRad = targets.latitudesRad();
+        double[] lonRad = targets.longitudesRad();
+        double[] cosLat = targets.cosLatitudes();
+
+        for (int i = 0; i < size; i++) {
+            double sinHalfDeltaLat = Math.sin((latRad[i] - originLatRad) / 2);
+            double sinHalfDeltaLon = Math.sin((lonRad[i] - originLonRad) / 2);
+            double a = sinHalfDeltaLat * sinHalfDeltaLat +
+                       originCosLat * cosLat[i] * sinHalfDeltaLon * sinHalfDeltaLon;
+            distances[i] = EARTH_RADIUS * (2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a)));
+        }
+    }
+
+    /**
+     * Calculate the distances from one origin to arrays of target coordinates.
+     * Convenience overload for one-off use; prepare a {@link GeoPointBatch} once when the
+     * same targets are measured against many origins.
+     *
+     * @param originLat Latitude of the origin
+     * @param originLon Longitude of the origin
+     * @param latitudes Target latitudes
+     * @param longitudes Target longitudes
+     * @param distances Output array receiving distances in meters
+     */
+    public void calculateDistances(double originLat, double originLon,
+                                   double[] latitudes, double[] longitudes, double[] distances) {
+        calculateDistances(originLat, originLon, GeoPointBatch.of(latitudes, longitudes), distances);
+    }
+
+    /**
+     * Find the index of the batch point closest to the origin.
+     *
+     * @param originLat Latitude of the origin
+     * @param originLon Longitude of the origin
+     * @param targets Prepared target points
+     * @param scratch Scratch array, at least {@code targets.size()} long, left holding all distances
+     * @return Index of the nearest point, or -1 if the batch is empty
+     */
+    public int findNearestIndex(double originLat, double originLon, GeoPointBatch targets, double[] scratch) {
+        calculateDistances(originLat, originLon, targets, scratch);
+        int nearest = -1;
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < targets.size(); i++) {
+            if (scratch[i] < best) {
+                best = scratch[i];
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+
     /**
      * Check if a user's GPS location is within the specified radius of a task location.
+     * Clear-cut cases are decided by a bounding box and an equirectangular approximation;
+     * the Haversine formula only runs near the radius edge, so the result always equals
+     * {@code calculateDistance(...) <= radius}.
      * 
      * @param userLat User's latitude
      * @param userLon User's longitude
@@ -52,10 +138,63 @@ public class GpsService {
      * @return true if user is within radius, false otherwise
      */
     public boolean isWithinRadius(double userLat, double userLon, double taskLat, double taskLon, double radius) {
+        double deltaLat = Math.abs(Math.toRadians(taskLat - userLat));
+        double boxLimit = radius * (1 + BOX_TOLERANCE);
+
+        // Tier 1: bounding box. Any path is at least as long as the latitude difference,
+        // and at least as long as the distance from the user to the task's meridian,
+        // R * asin(cos(userLat) * sin(deltaLon)) >= R * cos(userLat) * (deltaLon - deltaLon^3 / 6).
+        if (EARTH_RADIUS * deltaLat > boxLimit) {
+            boundingBoxRejects.increment();
+            return false;
+        }
+        double deltaLon = Math.abs(Math.toRadians(taskLon - userLon));
+        if (deltaLon > Math.PI) {
+            deltaLon = 2 * Math.PI - deltaLon;
+        }
+        boolean lonBounded = deltaLon <= Math.PI / 2;
+        if (lonBounded) {
+            double meridianDistance = EARTH_RADIUS * Math.cos(Math.toRadians(userLat))
+                    * (deltaLon - deltaLon * deltaLon * deltaLon / 6);
+            if (meridianDistance > boxLimit) {
+                boundingBoxRejects.increment();
+                return false;
+            }
+        }
+
+        // Tier 2: equirectangular approximation. Once tier 1 has passed, both points are within
+        // about 1.5 radii of each other, where its relative error stays below 1e-4 for radii up
+        // to MAX_APPROXIMATION_RADIUS away from the poles; only decide outside a safety band.
+        if (lonBounded && radius <= MAX_APPROXIMATION_RADIUS &&
+                Math.abs(userLat) <= MAX_APPROXIMATION_LATITUDE && Math.abs(taskLat) <= MAX_APPROXIMATION_LATITUDE) {
+            double x = deltaLon * Math.cos(Math.toRadians((userLat + taskLat) / 2));
+            double approximate = EARTH_RADIUS * Math.sqrt(x * x + deltaLat * deltaLat);
+            if (approximate <= radius * (1 - APPROXIMATION_TOLERANCE)) {
+                approximationAccepts.increment();
+                return true;
+            }
+            if (approximate >= radius * (1 + APPROXIMATION_TOLERANCE)) {
+                approximationRejects.increment();
+                return false;
+            }
+        }
+
+        // Tier 3: exact Haversine in the ambiguous band around the radius edge
+        exactChecks.increment();
         double distance = calculateDistance(userLat, userLon, taskLat, taskLon);
         return distance <= radius;
     }
 
+    /**
+     * Get how often each tier of {@link #isWithinRadius} decided the outcome since startup.
+     *
+     * @return Tier counters snapshot
+     */
+    public RadiusCheckStats getRadiusCheckStats() {
+        return new RadiusCheckStats(boundingBoxRejects.sum(), approximationAccepts.sum(),
+                approximationRejects.sum(), exactChecks.sum());
+    }
+
     /**
      * Validate if the given coordinates are valid.
      * 
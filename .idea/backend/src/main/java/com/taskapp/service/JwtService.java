@@ -1,8 +1,19 @@
 package com.taskapp.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.taskapp.entity.User;
+import com.taskapp.security.DecodedToken;
+import com.taskapp.security.RevokedTokenException;
+import com.taskapp.security.TokenType;
+import com.taskapp.stats.TimingSampler;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,13 +21,23 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
  * Service for JWT token operations including generation, validation, and extraction.
+ * Tokens are parsed and verified once; the decoded result is cached by token digest
+ * until the token expires, so repeat requests with the same token skip HMAC verification.
+ * Generation, parsing and verification are timed (sampled by the {@link TimingSampler}) and
+ * verification outcomes are counted.
  */
 @Service
 public class JwtService {
@@ -32,6 +53,75 @@ public class JwtService {
     @Value("${jwt.refresh-expiration}")
     private Long refreshExpiration;
 
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize = 10000;
+
+    private static final String TOKEN_TYPE_CLAIM = "tokenType";
+
+    private final TokenRevocationService tokenRevocationService;
+    private final TimingSampler timingSampler;
+
+    private final Timer accessGenerateTimer;
+    private final Timer refreshGenerateTimer;
+    private final Timer parseTimer;
+    private final Timer verifyCachedTimer;
+    private final Timer verifyParsedTimer;
+    private final Counter validTokens;
+    private final Counter expiredTokens;
+    private final Counter revokedTokens;
+    private final Counter invalidTokens;
+
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private Cache<String, DecodedToken> verifiedTokens;
+
+    public JwtService(TokenRevocationService tokenRevocationService,
+                      MeterRegistry meterRegistry,
+                      TimingSampler timingSampler) {
+        this.tokenRevocationService = tokenRevocationService;
+        this.timingSampler = timingSampler;
+        this.accessGenerateTimer = timer(meterRegistry, "jwt.generate", "Token signing", "type", "access");
+        this.refreshGenerateTimer = timer(meterRegistry, "jwt.generate", "Token signing", "type", "refresh");
+        this.parseTimer = timer(meterRegistry, "jwt.parse", "Token parsing and signature verification");
+        this.verifyCachedTimer = timer(meterRegistry, "jwt.verify", "Token verification", "cache", "hit");
+        this.verifyParsedTimer = timer(meterRegistry, "jwt.verify", "Token verification", "cache", "miss");
+        this.validTokens = outcomeCounter(meterRegistry, "valid");
+        this.expiredTokens = outcomeCounter(meterRegistry, "expired");
+        this.revokedTokens = outcomeCounter(meterRegistry, "revoked");
+        this.invalidTokens = outcomeCounter(meterRegistry, "invalid");
+    }
+
+    /**
+     * Derive the signing key and build the parser and verified-token cache once.
+     */
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, DecodedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, DecodedToken token, long currentTime) {
+                        long remainingMillis = token.getExpiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, DecodedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, DecodedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     /**
      * Generate a JWT token for a user.
      * 
@@ -50,7 +140,7 @@ public class JwtService {
      * @return JWT token string
      */
     public String generateToken(Map<String, Object> extraClaims, User user) {
-        return buildToken(extraClaims, user, expiration);
+        return buildToken(extraClaims, user, expiration, accessGenerateTimer);
     }
 
     /**
@@ -60,7 +150,9 @@ public class JwtService {
      * @return Refresh token string
      */
     public String generateRefreshToken(User user) {
-        return buildToken(new HashMap<>(), user, refreshExpiration);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, TokenType.REFRESH.name());
+        return buildToken(claims, user, refreshExpiration, refreshGenerateTimer);
     }
 
     /**
@@ -69,18 +161,23 @@ public class JwtService {
      * @param extraClaims Additional claims
      * @param user User information
      * @param expiration Expiration time in milliseconds
+     * @param timer Timer recording the signing time
      * @return JWT token string
      */
-    private String buildToken(Map<String, Object> extraClaims, User user, long expiration) {
-        return Jwts.builder()
+    private String buildToken(Map<String, Object> extraClaims, User user, long expiration, Timer timer) {
+        long start = timingSampler.start();
+        String token = Jwts.builder()
                 .setClaims(extraClaims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(user.getUsername())
                 .claim("userId", user.getId())
                 .claim("role", user.getRole().name())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
+        timingSampler.record(timer, start);
+        return token;
     }
 
     /**
@@ -90,7 +187,7 @@ public class JwtService {
      * @return Username
      */
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verifyToken(token).getSubject();
     }
 
     /**
@@ -100,8 +197,7 @@ public class JwtService {
      * @return User ID
      */
     public Long extractUserId(String token) {
-        final Claims claims = extractAllClaims(token);
-        return claims.get("userId", Long.class);
+        return verifyToken(token).getUserId();
     }
 
     /**
@@ -111,8 +207,7 @@ public class JwtService {
      * @return User role
      */
     public String extractUserRole(String token) {
-        final Claims claims = extractAllClaims(token);
-        return claims.get("role", String.class);
+        return verifyToken(token).getRole();
     }
 
     /**
@@ -122,7 +217,7 @@ public class JwtService {
      * @return Expiration date
      */
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return verifyToken(token).getExpiration();
     }
 
     /**
@@ -137,6 +232,71 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Parse and verify a JWT token, serving repeat tokens from the verified-token cache.
+     * 
+     * @param token JWT token
+     * @return Decoded token
+     * @throws JwtException if the token is malformed, has an invalid signature, is expired or was revoked
+     */
+    public DecodedToken verifyToken(String token) {
+        long start = timingSampler.start();
+        boolean cached = false;
+        try {
+            if (token == null || token.isEmpty()) {
+                throw new IllegalArgumentException("JWT token is empty");
+            }
+            String digest = digest(token);
+            DecodedToken decoded = verifiedTokens.getIfPresent(digest);
+            cached = decoded != null && !decoded.isExpired();
+            if (!cached) {
+                long parseStart = timingSampler.start();
+                try {
+                    decoded = decode(extractAllClaims(token));
+                } finally {
+                    timingSampler.record(parseTimer, parseStart);
+                }
+                verifiedTokens.put(digest, decoded);
+            }
+            if (tokenRevocationService.isRevoked(decoded.getTokenId())) {
+                throw new RevokedTokenException("JWT token has been revoked");
+            }
+            validTokens.increment();
+            return decoded;
+        } catch (ExpiredJwtException e) {
+            expiredTokens.increment();
+            throw e;
+        } catch (RevokedTokenException e) {
+            revokedTokens.increment();
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidTokens.increment();
+            throw e;
+        } finally {
+            timingSampler.record(cached ? verifyCachedTimer : verifyParsedTimer, start);
+        }
+    }
+
+    /**
+     * Revoke a token so it is rejected until it expires.
+     * Tokens that are already invalid are ignored.
+     * 
+     * @param token JWT token
+     * @return true if the token was revoked
+     */
+    public boolean revokeToken(String token) {
+        try {
+            DecodedToken decoded = verifyToken(token);
+            if (decoded.getTokenId() == null) {
+                return false;
+            }
+            tokenRevocationService.revoke(decoded.getTokenId(), decoded.getExpiresAtMillis());
+            return true;
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     /**
      * Extract all claims from JWT token.
      * 
@@ -144,31 +304,52 @@ public class JwtService {
      * @return All claims
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
     /**
-     * Get the signing key for JWT operations.
+     * Convert verified claims into an immutable decoded token.
+     * Tokens issued before the token type claim existed are classified by their lifetime.
      * 
-     * @return Secret key
+     * @param claims Verified claims
+     * @return Decoded token
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    private DecodedToken decode(Claims claims) {
+        long issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+        long expiresAt = claims.getExpiration().getTime();
+        String type = claims.get(TOKEN_TYPE_CLAIM, String.class);
+        TokenType tokenType;
+        if (type != null) {
+            tokenType = TokenType.valueOf(type);
+        } else {
+            tokenType = expiresAt - issuedAt >= refreshExpiration ? TokenType.REFRESH : TokenType.ACCESS;
+        }
+        return new DecodedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                claims.get("role", String.class),
+                issuedAt,
+                expiresAt,
+                tokenType);
     }
 
     /**
-     * Check if JWT token is expired.
+     * Digest used as the cache key, so raw tokens are never held in memory by the cache.
      * 
      * @param token JWT token
-     * @return true if expired, false otherwise
+     * @return Base64 encoded SHA-256 of the token
      */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     /**
@@ -179,8 +360,8 @@ public class JwtService {
      * @return true if valid, false otherwise
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final DecodedToken decoded = verifyToken(token);
+        return (decoded.getSubject().equals(userDetails.getUsername()) && !decoded.isExpired());
     }
 
     /**
@@ -191,7 +372,7 @@ public class JwtService {
      */
     public Boolean validateToken(String token) {
         try {
-            return !isTokenExpired(token);
+            return !verifyToken(token).isExpired();
         } catch (JwtException | IllegalArgumentException e) {
             logger.warn("Invalid JWT token: {}", e.getMessage());
             return false;
@@ -199,17 +380,14 @@ public class JwtService {
     }
 
     /**
-     * Check if token is a refresh token (longer expiration).
+     * Check if token is a refresh token.
      * 
      * @param token JWT token
      * @return true if it's a refresh token, false otherwise
      */
     public Boolean isRefreshToken(String token) {
         try {
-            Date expiration = extractExpiration(token);
-            Date issuedAt = extractClaim(token, Claims::getIssuedAt);
-            long tokenDuration = expiration.getTime() - issuedAt.getTime();
-            return tokenDuration >= refreshExpiration;
+            return verifyToken(token).isRefreshToken();
         } catch (Exception e) {
             return false;
         }
@@ -223,10 +401,24 @@ public class JwtService {
      */
     public long getTimeUntilExpiration(String token) {
         try {
-            Date expiration = extractExpiration(token);
-            return expiration.getTime() - System.currentTimeMillis();
+            return verifyToken(token).getExpiresAtMillis() - System.currentTimeMillis();
         } catch (Exception e) {
             return 0;
         }
     }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String description, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("jwt.verifications")
+                .description("Token verifications by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,88 @@
+package com.taskapp.service;
+
+import com.taskapp.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * Encodes keyset positions as opaque, URL-safe tokens so clients cannot depend on their contents.
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = ':';
+
+    private KeysetCursor() {}
+
+    /**
+     * Encode key values into a token.
+     *
+     * @param parts Key values; their string forms must not contain ':'
+     * @return Opaque token
+     */
+    public static String encode(Object... parts) {
+        StringJoiner joiner = new StringJoiner(String.valueOf(SEPARATOR));
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode(Object...)}.
+     *
+     * @param token Opaque token
+     * @param expectedParts Number of key values the token must hold
+     * @return Key values as strings
+     * @throws InvalidRequestException if the token is malformed
+     */
+    public static String[] decode(String token, int expectedParts) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII)
+                    .split(String.valueOf(SEPARATOR), -1);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+        if (parts.length != expectedParts) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+        return parts;
+    }
+
+    /**
+     * Parse a numeric key value from a decoded token.
+     *
+     * @param part Key value
+     * @return Parsed value
+     * @throws InvalidRequestException if the value is not a number
+     */
+    public static long parseLong(String part) {
+        try {
+            return Long.parseLong(part);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * @param time Timestamp, interpreted as UTC
+     * @return Microseconds since the epoch (database timestamp precision)
+     */
+    public static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    /**
+     * @param micros Microseconds since the epoch
+     * @return Timestamp, interpreted as UTC
+     */
+    public static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
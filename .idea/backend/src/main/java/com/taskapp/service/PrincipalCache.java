@@ -0,0 +1,66 @@
+package com.taskapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskapp.event.UserChangedEvent;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.security.AuthenticatedPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded, time-limited cache of authenticated principals keyed by the JWT {@code userId} claim.
+ * Entries are evicted as soon as a change to the user commits, so role changes and
+ * deactivations take effect immediately rather than after the TTL.
+ */
+@Service
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, AuthenticatedPrincipal> principals;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${jwt.principal-cache.ttl:300s}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Get the principal for a user id, loading it with a single-row projection on a miss.
+     *
+     * @param userId User id
+     * @return Principal, or empty if the user does not exist
+     */
+    public Optional<AuthenticatedPrincipal> get(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        AuthenticatedPrincipal principal = principals.get(userId,
+                id -> userRepository.findPrincipalById(id).orElse(null));
+        return Optional.ofNullable(principal);
+    }
+
+    /**
+     * Evict a user explicitly.
+     *
+     * @param userId User id
+     */
+    public void evict(Long userId) {
+        if (userId != null) {
+            principals.invalidate(userId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUserId());
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskapp.service;
+
+/**
+ * Snapshot of how often each tier of {@link GpsService#isWithinRadius} made the decision.
+ */
+public class RadiusCheckStats {
+
+    private final long boundingBoxRejects;
+    private final long approximationAccepts;
+    private final long approximationRejects;
+    private final long exactChecks;
+
+    public RadiusCheckStats(long boundingBoxRejects, long approximationAccepts,
+                            long approximationRejects, long exactChecks) {
+        this.boundingBoxRejects = boundingBoxRejects;
+        this.approximationAccepts = approximationAccepts;
+        this.approximationRejects = approximationRejects;
+        this.exactChecks = exactChecks;
+    }
+
+    public long getBoundingBoxRejects() {
+        return boundingBoxRejects;
+    }
+
+    public long getApproximationAccepts() {
+        return approximationAccepts;
+    }
+
+    public long getApproximationRejects() {
+        return approximationRejects;
+    }
+
+    public long getExactChecks() {
+        return exactChecks;
+    }
+
+    public long getTotal() {
+        return boundingBoxRejects + approximationAccepts + approximationRejects + exactChecks;
+    }
+
+    @Override
+    public String toString() {
+        return "RadiusCheckStats{" +
+                "boundingBoxRejects=" + boundingBoxRejects +
+                ", approximationAccepts=" + approximationAccepts +
+                ", approximationRejects=" + approximationRejects +
+                ", exactChecks=" + exactChecks +
+                '}';
+    }
+}
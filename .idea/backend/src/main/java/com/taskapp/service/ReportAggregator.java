@@ -0,0 +1,422 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.CompletionReport;
+import com.taskapp.dto.QuantileSummary;
+import com.taskapp.dto.TaskCompletionTime;
+import com.taskapp.dto.UserCompletionCount;
+import com.taskapp.dto.UserReport;
+import com.taskapp.dto.UserStatusCount;
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.entity.UserReportSnapshot;
+import com.taskapp.event.TaskChangedEvent;
+import com.taskapp.event.TaskCompletionRecordedEvent;
+import com.taskapp.repository.TaskCompletionRepository;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.TaskTombstoneRepository;
+import com.taskapp.repository.UserReportSnapshotRepository;
+import com.taskapp.stats.LogHistogram;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Per-user reporting aggregates (task counts by status, completion submissions and a
+ * time-to-completion histogram), maintained incrementally from committed task and completion
+ * events. Reports are built from memory in O(users); aggregates are snapshotted to
+ * {@code report_user_snapshots} periodically and can be rebuilt from the source tables if they drift.
+ * <p>
+ * Snapshots carry a watermark of the source changes applied: the latest task update, task deletion
+ * and completion id. Changes applied after the last snapshot are lost when the process stops without
+ * writing one, so on load the aggregates are rebuilt whenever the source tables are ahead of it.
+ */
+@Service
+public class ReportAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportAggregator.class);
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final TaskRepository taskRepository;
+    private final TaskCompletionRepository taskCompletionRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final UserReportSnapshotRepository snapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double relativeAccuracy;
+
+    private volatile Map<Long, UserAggregate> aggregates = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<Watermark> watermark = new AtomicReference<>(Watermark.NONE);
+
+    public ReportAggregator(TaskRepository taskRepository,
+                            TaskCompletionRepository taskCompletionRepository,
+                            TaskTombstoneRepository taskTombstoneRepository,
+                            UserReportSnapshotRepository snapshotRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${reports.histogram.relative-accuracy:0.01}") double relativeAccuracy) {
+        this.taskRepository = taskRepository;
+        this.taskCompletionRepository = taskCompletionRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.relativeAccuracy = relativeAccuracy;
+    }
+
+    /**
+     * Load the aggregates from their snapshots, or rebuild them if there are none yet or the source
+     * tables hold changes the snapshots have not applied.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<UserReportSnapshot> snapshots = snapshotRepository.findAll();
+        if (snapshots.isEmpty()) {
+            rebuild();
+            return;
+        }
+        Watermark applied = Watermark.NONE;
+        for (UserReportSnapshot snapshot : snapshots) {
+            applied = applied.max(Watermark.of(snapshot));
+        }
+        if (readSourceWatermark().isAheadOf(applied)) {
+            logger.info("Report snapshots are behind the source tables, rebuilding report aggregates");
+            rebuild();
+            return;
+        }
+        Map<Long, UserAggregate> loaded = new ConcurrentHashMap<>();
+        for (UserReportSnapshot snapshot : snapshots) {
+            UserAggregate aggregate = UserAggregate.fromSnapshot(snapshot);
+            if (aggregate.timeToCompletion.getRelativeAccuracy() != relativeAccuracy) {
+                // Histograms of different accuracy cannot be merged
+                logger.info("Histogram accuracy changed, rebuilding report aggregates");
+                rebuild();
+                return;
+            }
+            loaded.put(snapshot.getUserId(), aggregate);
+        }
+        aggregates = loaded;
+        watermark.set(applied);
+        logger.info("Report aggregates loaded for {} users", loaded.size());
+    }
+
+    /**
+     * Recompute every aggregate from the tasks and task_completions tables and replace the snapshots.
+     * Changes committed while the rebuild runs may be missed; run it again if the system was busy.
+     */
+    public synchronized void rebuild() {
+        Map<Long, UserAggregate> rebuilt = new ConcurrentHashMap<>();
+        Watermark source = transactionTemplate.execute(status -> {
+            // Read first: changes committed during the scans then count as not applied
+            Watermark read = readSourceWatermark();
+            for (UserStatusCount row : taskRepository.countByAssigneeAndStatus()) {
+                aggregate(rebuilt, row.getUserId()).assigned[row.getStatus().ordinal()] = row.getCount();
+            }
+            for (UserStatusCount row : taskRepository.countByAssignerAndStatus()) {
+                aggregate(rebuilt, row.getUserId()).created[row.getStatus().ordinal()] = row.getCount();
+            }
+            for (UserCompletionCount row : taskCompletionRepository.countByUser()) {
+                UserAggregate aggregate = aggregate(rebuilt, row.getUserId());
+                aggregate.completionAttempts = row.getAttempts();
+                aggregate.verifiedCompletions = row.getVerified();
+            }
+            try (Stream<TaskCompletionTime> times = taskRepository.streamCompletionTimes()) {
+                times.forEach(time -> aggregate(rebuilt, time.getAssigneeId())
+                        .recordCompletion(time.getCreatedAt(), time.getCompletedAt()));
+            }
+            return read;
+        });
+
+        aggregates = rebuilt;
+        watermark.set(source);
+        dirtyUsers.clear();
+        LocalDateTime now = LocalDateTime.now();
+        List<UserReportSnapshot> snapshots = new ArrayList<>(rebuilt.size());
+        rebuilt.forEach((userId, aggregate) -> snapshots.add(aggregate.toSnapshot(userId, now, source)));
+        transactionTemplate.executeWithoutResult(status -> {
+            snapshotRepository.deleteAllInBatch();
+            snapshotRepository.saveAll(snapshots);
+        });
+        logger.info("Report aggregates rebuilt for {} users", rebuilt.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getTaskId() == null) {
+            return;
+        }
+        TaskStatus status = event.getStatus();
+        TaskStatus previousStatus = event.getPreviousStatus() != null ? event.getPreviousStatus() : status;
+        Long previousAssigneeId = event.getPreviousAssigneeId() != null
+                ? event.getPreviousAssigneeId()
+                : event.getAssigneeId();
+
+        switch (event.getChangeType()) {
+            case CREATED -> {
+                update(event.getAssigneeId(), aggregate -> aggregate.assigned[status.ordinal()]++);
+                update(event.getAssignerId(), aggregate -> aggregate.created[status.ordinal()]++);
+            }
+            case UPDATED -> {
+                if (previousStatus != status || !Objects.equals(previousAssigneeId, event.getAssigneeId())) {
+                    update(previousAssigneeId, aggregate -> aggregate.assigned[previousStatus.ordinal()]--);
+                    update(event.getAssigneeId(), aggregate -> aggregate.assigned[status.ordinal()]++);
+                }
+                if (previousStatus != status) {
+                    update(event.getAssignerId(), aggregate -> {
+                        aggregate.created[previousStatus.ordinal()]--;
+                        aggregate.created[status.ordinal()]++;
+                    });
+                }
+                if (status == TaskStatus.COMPLETED && previousStatus != TaskStatus.COMPLETED) {
+                    update(event.getAssigneeId(),
+                            aggregate -> aggregate.recordCompletion(event.getCreatedAt(), event.getUpdatedAt()));
+                }
+            }
+            case DELETED -> {
+                update(previousAssigneeId, aggregate -> aggregate.assigned[previousStatus.ordinal()]--);
+                update(event.getAssignerId(), aggregate -> aggregate.created[previousStatus.ordinal()]--);
+            }
+        }
+
+        // Advanced after the aggregates, and marking a user dirty, so the next snapshot records it even
+        // when the change did not touch any count
+        if (event.getChangeType() == TaskChangedEvent.ChangeType.DELETED) {
+            LocalDateTime appliedAt = LocalDateTime.now(); // not earlier than the tombstone's removed_at
+            watermark.updateAndGet(current -> current.withDeletion(appliedAt));
+        } else {
+            watermark.updateAndGet(current -> current.withTask(event.getUpdatedAt()));
+        }
+        if (event.getAssigneeId() != null) {
+            dirtyUsers.add(event.getAssigneeId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompletionRecorded(TaskCompletionRecordedEvent event) {
+        update(event.getUserId(), aggregate -> {
+            aggregate.completionAttempts++;
+            if (event.isVerified()) {
+                aggregate.verifiedCompletions++;
+            }
+        });
+        watermark.updateAndGet(current -> current.withCompletion(event.getCompletionId()));
+    }
+
+    /**
+     * Write the aggregates changed since the last snapshot.
+     */
+    @Scheduled(fixedDelayString = "${reports.snapshot-interval:60000}")
+    @PreDestroy
+    public void persistSnapshots() {
+        if (dirtyUsers.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // Read before copying, so every change up to the watermark is in the copies
+        Watermark applied = watermark.get();
+        List<UserReportSnapshot> snapshots = new ArrayList<>();
+        for (Long userId : dirtyUsers) {
+            // Remove before copying, so a change racing with the copy marks the user dirty again
+            dirtyUsers.remove(userId);
+            UserAggregate aggregate = aggregates.get(userId);
+            if (aggregate != null) {
+                snapshots.add(aggregate.toSnapshot(userId, now, applied));
+            }
+        }
+        snapshotRepository.saveAll(snapshots);
+        logger.debug("Persisted {} report snapshots", snapshots.size());
+    }
+
+    /**
+     * Build the completion report from the in-memory aggregates.
+     *
+     * @return Report with totals and one line per user, ordered by user id
+     */
+    public CompletionReport getReport() {
+        long[] totals = new long[STATUSES.length];
+        LogHistogram overall = new LogHistogram(relativeAccuracy);
+        List<UserReport> users = new ArrayList<>();
+
+        for (Map.Entry<Long, UserAggregate> entry : aggregates.entrySet()) {
+            UserAggregate aggregate = entry.getValue();
+            synchronized (aggregate) {
+                for (int i = 0; i < STATUSES.length; i++) {
+                    totals[i] += aggregate.assigned[i];
+                }
+                overall.merge(aggregate.timeToCompletion);
+                users.add(new UserReport(entry.getKey(), byStatus(aggregate.assigned), byStatus(aggregate.created),
+                        completionRate(aggregate.assigned), aggregate.completionAttempts,
+                        aggregate.verifiedCompletions, QuantileSummary.of(aggregate.timeToCompletion)));
+            }
+        }
+        users.sort(Comparator.comparing(UserReport::getUserId));
+        return new CompletionReport(LocalDateTime.now(), byStatus(totals), completionRate(totals),
+                QuantileSummary.of(overall), users);
+    }
+
+    private void update(Long userId, Consumer<UserAggregate> change) {
+        if (userId == null) {
+            return;
+        }
+        UserAggregate aggregate = aggregate(aggregates, userId);
+        synchronized (aggregate) {
+            change.accept(aggregate);
+        }
+        dirtyUsers.add(userId);
+    }
+
+    private Watermark readSourceWatermark() {
+        return new Watermark(taskRepository.findLatestUpdatedAt().orElse(null),
+                taskTombstoneRepository.findLatestDeletion().orElse(null),
+                taskCompletionRepository.findLatestId().orElse(null));
+    }
+
+    private UserAggregate aggregate(Map<Long, UserAggregate> target, Long userId) {
+        return target.computeIfAbsent(userId, id -> new UserAggregate(new LogHistogram(relativeAccuracy)));
+    }
+
+    private static Map<TaskStatus, Long> byStatus(long[] counts) {
+        Map<TaskStatus, Long> map = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : STATUSES) {
+            map.put(status, counts[status.ordinal()]);
+        }
+        return map;
+    }
+
+    private static Double completionRate(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        long countable = total - counts[TaskStatus.CANCELLED.ordinal()];
+        return countable > 0 ? (double) counts[TaskStatus.COMPLETED.ordinal()] / countable : null;
+    }
+
+    /**
+     * Mutable aggregates of one user; guarded by its own monitor.
+     */
+    private static final class UserAggregate {
+
+        private final long[] assigned = new long[STATUSES.length];
+        private final long[] created = new long[STATUSES.length];
+        private long completionAttempts;
+        private long verifiedCompletions;
+        private final LogHistogram timeToCompletion;
+
+        private UserAggregate(LogHistogram timeToCompletion) {
+            this.timeToCompletion = timeToCompletion;
+        }
+
+        private void recordCompletion(LocalDateTime createdAt, LocalDateTime completedAt) {
+            if (createdAt != null && completedAt != null) {
+                Duration elapsed = Duration.between(createdAt, completedAt);
+                timeToCompletion.add(Math.max(0, elapsed.toMillis()) / 1000.0);
+            }
+        }
+
+        private synchronized UserReportSnapshot toSnapshot(Long userId, LocalDateTime now, Watermark applied) {
+            UserReportSnapshot snapshot = new UserReportSnapshot(userId);
+            snapshot.setAssignedPending(assigned[TaskStatus.PENDING.ordinal()]);
+            snapshot.setAssignedInProgress(assigned[TaskStatus.IN_PROGRESS.ordinal()]);
+            snapshot.setAssignedCompleted(assigned[TaskStatus.COMPLETED.ordinal()]);
+            snapshot.setAssignedCancelled(assigned[TaskStatus.CANCELLED.ordinal()]);
+            snapshot.setCreatedPending(created[TaskStatus.PENDING.ordinal()]);
+            snapshot.setCreatedInProgress(created[TaskStatus.IN_PROGRESS.ordinal()]);
+            snapshot.setCreatedCompleted(created[TaskStatus.COMPLETED.ordinal()]);
+            snapshot.setCreatedCancelled(created[TaskStatus.CANCELLED.ordinal()]);
+            snapshot.setCompletionAttempts(completionAttempts);
+            snapshot.setVerifiedCompletions(verifiedCompletions);
+            snapshot.setTimeToCompletion(timeToCompletion.toBytes());
+            snapshot.setUpdatedAt(now);
+            snapshot.setTaskWatermark(applied.tasks);
+            snapshot.setDeletionWatermark(applied.deletions);
+            snapshot.setCompletionWatermark(applied.completions);
+            return snapshot;
+        }
+
+        private static UserAggregate fromSnapshot(UserReportSnapshot snapshot) {
+            UserAggregate aggregate = new UserAggregate(LogHistogram.fromBytes(snapshot.getTimeToCompletion()));
+            aggregate.assigned[TaskStatus.PENDING.ordinal()] = snapshot.getAssignedPending();
+            aggregate.assigned[TaskStatus.IN_PROGRESS.ordinal()] = snapshot.getAssignedInProgress();
+            aggregate.assigned[TaskStatus.COMPLETED.ordinal()] = snapshot.getAssignedCompleted();
+            aggregate.assigned[TaskStatus.CANCELLED.ordinal()] = snapshot.getAssignedCancelled();
+            aggregate.created[TaskStatus.PENDING.ordinal()] = snapshot.getCreatedPending();
+            aggregate.created[TaskStatus.IN_PROGRESS.ordinal()] = snapshot.getCreatedInProgress();
+            aggregate.created[TaskStatus.COMPLETED.ordinal()] = snapshot.getCreatedCompleted();
+            aggregate.created[TaskStatus.CANCELLED.ordinal()] = snapshot.getCreatedCancelled();
+            aggregate.completionAttempts = snapshot.getCompletionAttempts();
+            aggregate.verifiedCompletions = snapshot.getVerifiedCompletions();
+            return aggregate;
+        }
+    }
+
+    /**
+     * Position in the source tables: latest task update, latest task deletion and highest completion id.
+     * A null component means no change of that kind. Immutable.
+     */
+    private static final class Watermark {
+
+        private static final Watermark NONE = new Watermark(null, null, null);
+
+        private final LocalDateTime tasks;
+        private final LocalDateTime deletions;
+        private final Long completions;
+
+        private Watermark(LocalDateTime tasks, LocalDateTime deletions, Long completions) {
+            this.tasks = tasks;
+            this.deletions = deletions;
+            this.completions = completions;
+        }
+
+        private static Watermark of(UserReportSnapshot snapshot) {
+            return new Watermark(snapshot.getTaskWatermark(), snapshot.getDeletionWatermark(),
+                    snapshot.getCompletionWatermark());
+        }
+
+        private Watermark withTask(LocalDateTime updatedAt) {
+            return isAfter(updatedAt, tasks) ? new Watermark(updatedAt, deletions, completions) : this;
+        }
+
+        private Watermark withDeletion(LocalDateTime deletedAt) {
+            return isAfter(deletedAt, deletions) ? new Watermark(tasks, deletedAt, completions) : this;
+        }
+
+        private Watermark withCompletion(Long completionId) {
+            return isAfter(completionId, completions) ? new Watermark(tasks, deletions, completionId) : this;
+        }
+
+        private Watermark max(Watermark other) {
+            return withTask(other.tasks).withDeletion(other.deletions).withCompletion(other.completions);
+        }
+
+        /**
+         * @return true if this position holds a change of any kind beyond the applied one
+         */
+        private boolean isAheadOf(Watermark applied) {
+            return isAfter(tasks, applied.tasks) || isAfter(deletions, applied.deletions)
+                    || isAfter(completions, applied.completions);
+        }
+
+        private static <T extends Comparable<? super T>> boolean isAfter(T value, T reference) {
+            return value != null && (reference == null || value.compareTo(reference) > 0);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.taskapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskapp.dto.RouteLeg;
+import com.taskapp.dto.RoutePlan;
+import com.taskapp.dto.TaskLocation;
+import com.taskapp.event.TaskChangedEvent;
+import com.taskapp.exception.InvalidRequestException;
+import com.taskapp.geo.RoutePlanner;
+import com.taskapp.geo.RoutePlanner.Route;
+import com.taskapp.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plans the order in which a user visits their open tasks.
+ * Each user has a task-set version that is bumped by every committed change to one of their tasks;
+ * plans are cached by user, version and (rounded) start position, so asking again before anything
+ * changed costs a cache lookup.
+ */
+@Service
+public class RoutePlanningService {
+
+    private static final double START_PRECISION = 1e-3; // degrees (~110 m) of start position per cached plan
+
+    private final TaskRepository taskRepository;
+    private final GpsService gpsService;
+    private final RoutePlanner routePlanner;
+    private final long timeBudgetNanos;
+    private final int maxStops;
+    private final Cache<String, RoutePlan> plans;
+    private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public RoutePlanningService(TaskRepository taskRepository,
+                                GpsService gpsService,
+                                @Value("${tasks.routing.time-budget:200ms}") Duration timeBudget,
+                                @Value("${tasks.routing.max-stops:1000}") int maxStops,
+                                @Value("${tasks.routing.parallel-threshold:64}") int parallelThreshold,
+                                @Value("${tasks.routing.cache-size:10000}") long cacheSize,
+                                @Value("${tasks.routing.cache-ttl:1h}") Duration cacheTtl) {
+        this.taskRepository = taskRepository;
+        this.gpsService = gpsService;
+        this.routePlanner = new RoutePlanner(gpsService, ForkJoinPool.commonPool(), parallelThreshold);
+        this.timeBudgetNanos = timeBudget.toNanos();
+        this.maxStops = maxStops;
+        this.plans = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * Plan a route through the user's PENDING and IN_PROGRESS tasks.
+     *
+     * @param userId Assignee
+     * @param latitude Current latitude of the user, or null to let the route start at any task
+     * @param longitude Current longitude of the user, or null to let the route start at any task
+     * @return Tasks in suggested visiting order
+     */
+    public RoutePlan planRoute(Long userId, Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new InvalidRequestException("Latitude and longitude must be given together");
+        }
+        if (latitude != null && !gpsService.isValidCoordinates(latitude, longitude)) {
+            throw new InvalidRequestException("Invalid coordinates");
+        }
+        long version = versions.computeIfAbsent(userId, id -> new AtomicLong()).get();
+        String key = userId + ":" + version + ":" + (latitude != null
+                ? Math.round(latitude / START_PRECISION) + ":" + Math.round(longitude / START_PRECISION)
+                : "-");
+        return plans.get(key, k -> computePlan(userId, version, latitude, longitude));
+    }
+
+    /**
+     * Invalidate the cached plans of the task's assignee and, after a reassignment, its previous assignee.
+     *
+     * @param event Committed task change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        bump(event.getAssigneeId());
+        if (event.getPreviousAssigneeId() != null && !event.getPreviousAssigneeId().equals(event.getAssigneeId())) {
+            bump(event.getPreviousAssigneeId());
+        }
+    }
+
+    private RoutePlan computePlan(Long userId, long version, Double latitude, Double longitude) {
+        List<TaskLocation> tasks = taskRepository.findLocationsByAssigneeAndStatusIn(
+                userId, TaskSpatialIndex.OPEN_STATUSES);
+        if (tasks.size() > maxStops) {
+            throw new InvalidRequestException("Too many open tasks to plan a route (" + tasks.size() + ")");
+        }
+        double[] latitudes = new double[tasks.size()];
+        double[] longitudes = new double[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            latitudes[i] = tasks.get(i).getLatitude();
+            longitudes[i] = tasks.get(i).getLongitude();
+        }
+
+        Route route = routePlanner.plan(latitude, longitude, latitudes, longitudes, timeBudgetNanos);
+        List<RouteLeg> legs = new ArrayList<>(tasks.size());
+        double cumulative = 0;
+        for (int k = 0; k < route.getOrder().length; k++) {
+            TaskLocation task = tasks.get(route.getOrder()[k]);
+            double distance = route.getLegDistances()[k];
+            double bearing = route.getBearings()[k];
+            cumulative += distance;
+            legs.add(new RouteLeg(task.getTaskId(), task.getTitle(), task.getStatus(),
+                    task.getLatitude(), task.getLongitude(), distance,
+                    Double.isNaN(bearing) ? null : bearing, cumulative));
+        }
+        return new RoutePlan(version, route.getTotalDistance(), route.isConverged(), legs);
+    }
+
+    private void bump(Long userId) {
+        if (userId != null) {
+            versions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.taskapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskapp.dto.TaskImportReport;
+import com.taskapp.dto.TaskImportRow;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.User;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.security.AuthenticatedPrincipal;
+import com.taskapp.service.WorkerAssignmentEngine.Reservation;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Streaming bulk import of tasks from NDJSON or CSV.
+ * Rows are parsed one at a time, validated, and written in fixed-size batches, each in its own
+ * transaction, so memory use depends on the batch size rather than on the size of the upload.
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskImportService.class);
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final GpsService gpsService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkerAssignmentEngine workerAssignmentEngine;
+    private final ObjectReader rowReader;
+
+    @Value("${gps.default-radius}")
+    private double defaultRadius;
+
+    @Value("${gps.max-radius}")
+    private double maxRadius;
+
+    @Value("${tasks.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${tasks.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${tasks.import.max-line-length:65536}")
+    private int maxLineLength;
+
+    public TaskImportService(TaskRepository taskRepository,
+                             UserRepository userRepository,
+                             GpsService gpsService,
+                             Validator validator,
+                             TransactionTemplate transactionTemplate,
+                             WorkerAssignmentEngine workerAssignmentEngine,
+                             ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.gpsService = gpsService;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.workerAssignmentEngine = workerAssignmentEngine;
+        this.rowReader = objectMapper.readerFor(TaskImportRow.class);
+    }
+
+    /**
+     * Import tasks assigned by the given user.
+     *
+     * @param reader Source of the upload
+     * @param format Upload format
+     * @param assignerId Id of the user creating the tasks
+     * @return Per-row import report
+     * @throws IOException if the upload cannot be read
+     */
+    public TaskImportReport importTasks(BufferedReader reader, Format format, Long assignerId) throws IOException {
+        TaskImportReport report = new TaskImportReport(maxReportedErrors);
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+
+        if (format == Format.NDJSON) {
+            StringBuilder line = new StringBuilder();
+            long lineNumber = 0;
+            while (readLine(reader, line, maxLineLength)) {
+                lineNumber++;
+                if (line.length() > maxLineLength) {
+                    report.recordRow();
+                    report.recordError(lineNumber, "Line longer than " + maxLineLength + " characters");
+                    continue;
+                }
+                String text = line.toString();
+                if (text.isBlank()) {
+                    continue;
+                }
+                report.recordRow();
+                try {
+                    accept(rowReader.readValue(text), lineNumber, batch, report, assignerId);
+                } catch (JsonProcessingException e) {
+                    report.recordError(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+        } else {
+            CsvRecordReader csv = new CsvRecordReader(reader, maxLineLength);
+            long recordNumber = 1;
+            List<String> header = nextRecord(csv, recordNumber, report);
+            if (header == null) {
+                return report;
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            List<String> record;
+            while ((record = nextRecord(csv, ++recordNumber, report)) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                report.recordRow();
+                try {
+                    accept(toRow(record, columns), recordNumber, batch, report, assignerId);
+                } catch (NumberFormatException e) {
+                    report.recordError(recordNumber, "Invalid number: " + e.getMessage());
+                }
+            }
+        }
+
+        flush(batch, report, assignerId);
+        logger.info("Task import by user {}: {} rows, {} imported, {} failed",
+                assignerId, report.getTotalRows(), report.getImportedRows(), report.getFailedRows());
+        return report;
+    }
+
+    /**
+     * Read the next CSV record. A record that cannot be parsed ends the import: its error is reported
+     * against the record number and the report is marked truncated, while the rows before it are kept.
+     *
+     * @return Fields of the record, or null at end of input or after a malformed record
+     */
+    private static List<String> nextRecord(CsvRecordReader csv, long recordNumber, TaskImportReport report)
+            throws IOException {
+        try {
+            return csv.next();
+        } catch (CsvRecordReader.MalformedRecordException e) {
+            report.recordRow();
+            report.recordError(recordNumber, e.getMessage() + "; the rest of the upload was not read");
+            report.markTruncated();
+            return null;
+        }
+    }
+
+    /**
+     * Read one line into a buffer, without its line terminator. Unlike {@link BufferedReader#readLine()}
+     * at most {@code maxLength + 1} characters are kept and the rest of a longer line is skipped, so the
+     * caller detects an overlong line by the buffer length.
+     *
+     * @return false at end of input
+     */
+    private static boolean readLine(BufferedReader reader, StringBuilder line, int maxLength) throws IOException {
+        line.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        boolean skipped = false;
+        while (c != -1 && c != '\n') {
+            if (line.length() <= maxLength) {
+                line.append((char) c);
+            } else {
+                skipped = true;
+            }
+            c = reader.read();
+        }
+        int last = line.length() - 1;
+        if (!skipped && last >= 0 && line.charAt(last) == '\r') {
+            line.setLength(last);
+        }
+        return true;
+    }
+
+    private void accept(TaskImportRow row, long line, List<PendingRow> batch, TaskImportReport report, Long assignerId) {
+        String error = validate(row);
+        if (error != null) {
+            report.recordError(line, error);
+            return;
+        }
+        batch.add(new PendingRow(line, row));
+        if (batch.size() >= batchSize) {
+            flush(batch, report, assignerId);
+        }
+    }
+
+    private String validate(TaskImportRow row) {
+        Set<ConstraintViolation<TaskImportRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (!gpsService.isValidCoordinates(row.getLatitude(), row.getLongitude())) {
+            return "Invalid coordinates";
+        }
+        // CSV values are parsed with Double.valueOf, which accepts NaN; a NaN radius could never be verified
+        if (row.getCompletionRadius() != null && (!Double.isFinite(row.getCompletionRadius())
+                || row.getCompletionRadius() <= 0 || row.getCompletionRadius() > maxRadius)) {
+            return "Completion radius must be between 0 and " + maxRadius + " meters";
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the batch's assignees with one query, reserve the nearest available worker for rows
+     * without an assignee, then insert the batch in one transaction.
+     */
+    private void flush(List<PendingRow> batch, TaskImportReport report, Long assignerId) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Set<String> usernames = new HashSet<>();
+        for (PendingRow pending : batch) {
+            if (pending.row.getAssignee() != null) {
+                usernames.add(pending.row.getAssignee());
+            }
+        }
+        Map<String, Long> assigneeIds = new HashMap<>();
+        for (AuthenticatedPrincipal principal : userRepository.findPrincipalsByUsernameIn(usernames)) {
+            if (principal.isActive()) {
+                assigneeIds.put(principal.getUsername(), principal.getId());
+            }
+        }
+
+        List<PendingRow> resolved = new ArrayList<>(batch.size());
+        for (PendingRow pending : batch) {
+            if (pending.row.getAssignee() == null) {
+                Optional<Reservation> reservation = workerAssignmentEngine.reserveNearest(
+                        pending.row.getLatitude(), pending.row.getLongitude());
+                if (reservation.isPresent()) {
+                    pending.reservation = reservation.get();
+                    resolved.add(pending);
+                } else {
+                    report.recordError(pending.line, "No available worker near the task");
+                }
+            } else if (assigneeIds.containsKey(pending.row.getAssignee())) {
+                resolved.add(pending);
+            } else {
+                report.recordError(pending.line, "Unknown or inactive assignee: " + pending.row.getAssignee());
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User assigner = userRepository.getReferenceById(assignerId);
+                List<Task> tasks = new ArrayList<>(resolved.size());
+                for (PendingRow pending : resolved) {
+                    TaskImportRow row = pending.row;
+                    User assignee = userRepository.getReferenceById(pending.reservation != null
+                            ? pending.reservation.getWorkerId()
+                            : assigneeIds.get(row.getAssignee()));
+                    Task task = new Task(row.getTitle(), row.getDescription(), row.getLatitude(), row.getLongitude(),
+                            assigner, assignee);
+                    task.setCompletionRadius(row.getCompletionRadius() != null ? row.getCompletionRadius() : defaultRadius);
+                    tasks.add(task);
+                }
+                taskRepository.insertAll(tasks);
+            });
+            report.recordImported(resolved.size());
+        } catch (DataAccessException e) {
+            logger.warn("Task import batch failed: {}", e.getMessage());
+            for (PendingRow pending : resolved) {
+                report.recordError(pending.line, "Batch rejected by database: " + e.getMostSpecificCause().getMessage());
+            }
+        } finally {
+            // Committed assignments are now counted from their change events
+            for (PendingRow pending : resolved) {
+                if (pending.reservation != null) {
+                    pending.reservation.release();
+                }
+            }
+        }
+        batch.clear();
+    }
+
+    private static TaskImportRow toRow(List<String> record, Map<String, Integer> columns) {
+        TaskImportRow row = new TaskImportRow();
+        row.setTitle(field(record, columns, "title"));
+        row.setDescription(field(record, columns, "description"));
+        row.setLatitude(number(field(record, columns, "latitude")));
+        row.setLongitude(number(field(record, columns, "longitude")));
+        String radius = field(record, columns, "completionradius");
+        row.setCompletionRadius(number(radius != null ? radius : field(record, columns, "radius")));
+        row.setAssignee(field(record, columns, "assignee"));
+        return row;
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Double number(String value) {
+        return value != null ? Double.valueOf(value) : null;
+    }
+
+    private static final class PendingRow {
+        private final long line;
+        private final TaskImportRow row;
+        private Reservation reservation;
+
+        private PendingRow(long line, TaskImportRow row) {
+            this.line = line;
+            this.row = row;
+        }
+    }
+}
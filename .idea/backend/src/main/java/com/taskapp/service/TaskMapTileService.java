@@ -0,0 +1,258 @@
+package com.taskapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskapp.dto.MapCluster;
+import com.taskapp.dto.MapTile;
+import com.taskapp.dto.TaskLocation;
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.event.TaskChangedEvent;
+import com.taskapp.exception.InvalidRequestException;
+import com.taskapp.geo.TileAggregateIndex;
+import com.taskapp.geo.TileAggregateIndex.Cell;
+import com.taskapp.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Clustered task markers for the admin map.
+ * Every task is aggregated on the tile quadtree at all levels (see {@link TileAggregateIndex}), loaded
+ * once at startup and updated incrementally from committed {@link TaskChangedEvent}s. A tile at zoom
+ * {@code z} is answered with the non-empty cells of level {@code z + subdivision} inside it, so a tile
+ * holds at most {@code 4^subdivision} clusters however many tasks it covers. Built tiles are kept in an
+ * LRU cache and only the tiles containing a changed task are evicted.
+ */
+@Service
+public class TaskMapTileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskMapTileService.class);
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final TaskRepository taskRepository;
+    private final TileAggregateIndex index;
+    private final int subdivision;
+    private final int maxZoom;
+    private final int maxTiles;
+    private final Cache<Long, MapTile> tiles;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, TaskPoint> points = new HashMap<>();
+    private Set<Long> changedDuringLoad; // ids changed by events while load() runs, or null; guarded by lock
+
+    public TaskMapTileService(TaskRepository taskRepository,
+                              @Value("${map.tiles.max-level:16}") int maxLevel,
+                              @Value("${map.tiles.subdivision:3}") int subdivision,
+                              @Value("${map.tiles.max-tiles-per-request:64}") int maxTiles,
+                              @Value("${map.tiles.cache-size:10000}") long cacheSize) {
+        if (subdivision < 0 || subdivision > maxLevel) {
+            throw new IllegalArgumentException("Tile subdivision must be between 0 and the max level");
+        }
+        this.taskRepository = taskRepository;
+        this.index = new TileAggregateIndex(maxLevel, STATUSES.length);
+        this.subdivision = subdivision;
+        this.maxZoom = maxLevel - subdivision;
+        this.maxTiles = maxTiles;
+        this.tiles = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    /**
+     * Aggregate all tasks once the application has started.
+     * Tasks changed by events while the query runs are skipped: the event carries data at least as
+     * recent as the query result, which could otherwise re-add a deleted task or undo a move.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Set<Long> changed = new HashSet<>();
+        lock.writeLock().lock();
+        try {
+            changedDuringLoad = changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<TaskLocation> locations = taskRepository.findLocationsByStatusIn(EnumSet.allOf(TaskStatus.class));
+        lock.writeLock().lock();
+        try {
+            for (TaskLocation location : locations) {
+                if (!changed.contains(location.getTaskId())) {
+                    move(location.getTaskId(), new TaskPoint(location.getLatitude(), location.getLongitude(),
+                            location.getStatus()));
+                }
+            }
+            changedDuringLoad = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        tiles.invalidateAll();
+        logger.info("Map tiles aggregated {} tasks ({} changed during the load)", locations.size(), changed.size());
+    }
+
+    /**
+     * Apply a committed task change and evict the cached tiles that contained the task before or after it.
+     *
+     * @param event Task change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getTaskId() == null) {
+            return;
+        }
+        TaskPoint current = event.getChangeType() == TaskChangedEvent.ChangeType.DELETED
+                ? null
+                : new TaskPoint(event.getLatitude(), event.getLongitude(), event.getStatus());
+        TaskPoint previous;
+        lock.writeLock().lock();
+        try {
+            if (changedDuringLoad != null) {
+                changedDuringLoad.add(event.getTaskId());
+            }
+            previous = move(event.getTaskId(), current);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // Evicted outside the lock: Caffeine waits for in-flight builds of the same tile, which need the read lock
+        evictTilesContaining(previous);
+        evictTilesContaining(current);
+    }
+
+    /**
+     * Get the clustered tiles covering a viewport.
+     *
+     * @param south Southern edge latitude
+     * @param west Western edge longitude; greater than {@code east} when the viewport crosses the antimeridian
+     * @param north Northern edge latitude
+     * @param east Eastern edge longitude
+     * @param zoom Map zoom level; clamped to the deepest zoom with pre-aggregated clusters
+     * @return Non-empty tiles in the viewport
+     */
+    public List<MapTile> getTiles(double south, double west, double north, double east, int zoom) {
+        if (south < -90 || north > 90 || south > north || west < -180 || east > 180 || zoom < 0) {
+            throw new InvalidRequestException("Invalid viewport");
+        }
+        int z = Math.min(zoom, maxZoom);
+        int n = 1 << z;
+        int xMin = TileAggregateIndex.tileX(west, z);
+        int xMax = TileAggregateIndex.tileX(east, z);
+        int yMin = TileAggregateIndex.tileY(north, z);
+        int yMax = TileAggregateIndex.tileY(south, z);
+        int columns = xMin <= xMax ? xMax - xMin + 1 : n - xMin + xMax + 1;
+        if ((long) columns * (yMax - yMin + 1) > maxTiles) {
+            throw new InvalidRequestException("Viewport covers more than " + maxTiles + " tiles at zoom " + z);
+        }
+
+        List<MapTile> result = new ArrayList<>();
+        for (int c = 0; c < columns; c++) {
+            int x = (xMin + c) % n;
+            for (int y = yMin; y <= yMax; y++) {
+                MapTile tile = getTile(z, x, y);
+                if (!tile.getClusters().isEmpty()) {
+                    result.add(tile);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param zoom Zoom level, at most the deepest zoom with pre-aggregated clusters
+     * @param x Tile column
+     * @param y Tile row
+     * @return Clusters of the tile, from the cache when possible
+     */
+    public MapTile getTile(int zoom, int x, int y) {
+        return tiles.get(tileKey(zoom, x, y), key -> buildTile(zoom, x, y));
+    }
+
+    public int getMaxZoom() {
+        return maxZoom;
+    }
+
+    private MapTile buildTile(int zoom, int x, int y) {
+        int level = zoom + subdivision;
+        int size = 1 << subdivision;
+        List<MapCluster> clusters = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int cx = x << subdivision; cx < (x << subdivision) + size; cx++) {
+                for (int cy = y << subdivision; cy < (y << subdivision) + size; cy++) {
+                    Cell cell = index.get(level, cx, cy);
+                    if (cell != null) {
+                        clusters.add(toCluster(cell));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new MapTile(zoom, x, y, clusters);
+    }
+
+    private static MapCluster toCluster(Cell cell) {
+        Map<TaskStatus, Integer> statusCounts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : STATUSES) {
+            int count = cell.getCategoryCount(status.ordinal());
+            if (count > 0) {
+                statusCounts.put(status, count);
+            }
+        }
+        return new MapCluster(cell.getCentroidLatitude(), cell.getCentroidLongitude(), cell.getCount(), statusCounts);
+    }
+
+    /**
+     * Replace the indexed point of a task. Must hold the write lock.
+     *
+     * @return The point the task had before, or null
+     */
+    private TaskPoint move(long taskId, TaskPoint current) {
+        TaskPoint previous = current != null ? points.put(taskId, current) : points.remove(taskId);
+        if (previous != null) {
+            index.remove(previous.latitude, previous.longitude, previous.status.ordinal());
+        }
+        if (current != null) {
+            index.add(current.latitude, current.longitude, current.status.ordinal());
+        }
+        return previous;
+    }
+
+    private void evictTilesContaining(TaskPoint point) {
+        if (point == null) {
+            return;
+        }
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            tiles.invalidate(tileKey(zoom, TileAggregateIndex.tileX(point.longitude, zoom),
+                    TileAggregateIndex.tileY(point.latitude, zoom)));
+        }
+    }
+
+    private static long tileKey(int zoom, int x, int y) {
+        return ((long) zoom << 58) | ((long) x << 29) | y;
+    }
+
+    private static final class TaskPoint {
+        private final double latitude;
+        private final double longitude;
+        private final TaskStatus status;
+
+        private TaskPoint(double latitude, double longitude, TaskStatus status) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.status = status;
+        }
+    }
+}
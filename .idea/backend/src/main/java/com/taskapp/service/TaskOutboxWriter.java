@@ -0,0 +1,82 @@
+package com.taskapp.service;
+
+import com.taskapp.entity.OutboxEventType;
+import com.taskapp.event.TaskChangedEvent;
+import com.taskapp.event.TaskChangedEvent.ChangeType;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Writes a {@code task_outbox} row for every assignee affected by a task change.
+ * The listener runs synchronously while Hibernate flushes the task, and the insert goes through
+ * {@link JdbcTemplate}, which joins the connection of the surrounding JPA transaction; the outbox
+ * row therefore commits or rolls back together with the task. Entities cannot be persisted from
+ * inside a flush, hence plain JDBC.
+ */
+@Component
+public class TaskOutboxWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO task_outbox (task_id, recipient_id, event_type, title, status, latitude, longitude, " +
+            "completion_radius, occurred_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskOutboxWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Record a task change for its assignee, and for the previous assignee when it was reassigned.
+     *
+     * @param event Task change, delivered before the transaction commits
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getTaskId() == null) {
+            return;
+        }
+        Long assigneeId = event.getAssigneeId();
+        Long previousAssigneeId = event.getChangeType() == ChangeType.CREATED ? null : event.getPreviousAssigneeId();
+
+        switch (event.getChangeType()) {
+            case CREATED -> insert(event, assigneeId, OutboxEventType.CREATED);
+            case DELETED -> insert(event, previousAssigneeId != null ? previousAssigneeId : assigneeId,
+                    OutboxEventType.DELETED);
+            case UPDATED -> {
+                if (previousAssigneeId != null && !previousAssigneeId.equals(assigneeId)) {
+                    insert(event, previousAssigneeId, OutboxEventType.UNASSIGNED);
+                    insert(event, assigneeId, OutboxEventType.ASSIGNED);
+                } else if (event.getPreviousStatus() != null && event.getPreviousStatus() != event.getStatus()) {
+                    insert(event, assigneeId, OutboxEventType.STATUS_CHANGED);
+                } else {
+                    insert(event, assigneeId, OutboxEventType.UPDATED);
+                }
+            }
+        }
+    }
+
+    private void insert(TaskChangedEvent event, Long recipientId, OutboxEventType type) {
+        if (recipientId == null) {
+            return;
+        }
+        LocalDateTime occurredAt = event.getUpdatedAt() != null
+                ? event.getUpdatedAt()
+                : LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        jdbcTemplate.update(INSERT_SQL,
+                event.getTaskId(),
+                recipientId,
+                type.name(),
+                event.getTitle(),
+                event.getStatus().name(),
+                event.getLatitude(),
+                event.getLongitude(),
+                event.getCompletionRadius(),
+                Timestamp.valueOf(occurredAt));
+    }
+}
@@ -0,0 +1,400 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.CursorPage;
+import com.taskapp.dto.NearbyCompletionResponse;
+import com.taskapp.dto.NearbyTaskResponse;
+import com.taskapp.dto.TaskCompletionResponse;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.dto.TaskSyncResponse;
+import com.taskapp.dto.TaskTombstoneResponse;
+import com.taskapp.dto.TaskUpdateRequest;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.entity.TaskTombstone;
+import com.taskapp.entity.TombstoneReason;
+import com.taskapp.entity.User;
+import com.taskapp.exception.InvalidRequestException;
+import com.taskapp.exception.ResourceNotFoundException;
+import com.taskapp.repository.TaskCompletionRepository;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.TaskTombstoneRepository;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.security.AuthenticatedPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Task write operations and incremental (delta) sync of an assignee's task list.
+ */
+@Service
+public class TaskService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
+
+    private static final LocalDateTime SYNC_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskCompletionRepository taskCompletionRepository;
+    private final UserRepository userRepository;
+    private final GpsService gpsService;
+
+    @Value("${gps.max-radius}")
+    private double maxRadius;
+
+    @Value("${gps.index.max-search-radius:50000}")
+    private double maxSearchRadius;
+
+    @Value("${tasks.sync.commit-grace:2s}")
+    private Duration commitGrace;
+
+    @Value("${tasks.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    public TaskService(TaskRepository taskRepository,
+                       TaskTombstoneRepository taskTombstoneRepository,
+                       TaskCompletionRepository taskCompletionRepository,
+                       UserRepository userRepository,
+                       GpsService gpsService) {
+        this.taskRepository = taskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.taskCompletionRepository = taskCompletionRepository;
+        this.userRepository = userRepository;
+        this.gpsService = gpsService;
+    }
+
+    /**
+     * Apply a partial update to a task. Reassigning a task leaves a tombstone for the previous assignee.
+     *
+     * @param taskId Task id
+     * @param request Fields to change
+     * @param principal User making the change; must be the task's assigner or an admin
+     * @return Updated task
+     */
+    @Transactional
+    public TaskResponse updateTask(Long taskId, TaskUpdateRequest request, AuthenticatedPrincipal principal) {
+        Task task = findManageableTask(taskId, principal);
+
+        if (request.getTitle() != null) {
+            task.setTitle(request.getTitle());
+        }
+        if (request.getDescription() != null) {
+            task.setDescription(request.getDescription());
+        }
+        if (request.getLatitude() != null || request.getLongitude() != null) {
+            double latitude = request.getLatitude() != null ? request.getLatitude() : task.getLatitude();
+            double longitude = request.getLongitude() != null ? request.getLongitude() : task.getLongitude();
+            if (!gpsService.isValidCoordinates(latitude, longitude)) {
+                throw new InvalidRequestException("Invalid coordinates");
+            }
+            task.setLatitude(latitude);
+            task.setLongitude(longitude);
+        }
+        if (request.getCompletionRadius() != null) {
+            if (request.getCompletionRadius() <= 0 || request.getCompletionRadius() > maxRadius) {
+                throw new InvalidRequestException("Completion radius must be between 0 and " + maxRadius + " meters");
+            }
+            task.setCompletionRadius(request.getCompletionRadius());
+        }
+        if (request.getStatus() != null) {
+            task.setStatus(request.getStatus());
+        }
+        if (request.getAssignee() != null) {
+            User assignee = userRepository.findByUsername(request.getAssignee())
+                    .filter(User::isActive)
+                    .orElseThrow(() -> new InvalidRequestException("Unknown or inactive assignee: " + request.getAssignee()));
+            Long previousAssigneeId = task.getAssignee().getId();
+            if (!assignee.getId().equals(previousAssigneeId)) {
+                taskTombstoneRepository.save(new TaskTombstone(taskId, previousAssigneeId, TombstoneReason.REASSIGNED));
+                task.setAssignee(assignee);
+            }
+        }
+
+        taskRepository.saveAndFlush(task);
+        return taskRepository.findResponseById(taskId).orElseThrow();
+    }
+
+    /**
+     * Get a task visible to the caller: its assigner, its assignee or an admin.
+     *
+     * @param taskId Task id
+     * @param principal Authenticated user
+     * @return Task
+     */
+    @Transactional(readOnly = true)
+    public TaskResponse getTask(Long taskId, AuthenticatedPrincipal principal) {
+        TaskResponse task = taskRepository.findResponseById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found: " + taskId));
+        if (!principal.isAdmin() && !principal.getId().equals(task.getAssignerId())
+                && !principal.getId().equals(task.getAssigneeId())) {
+            // Same response as a missing task, so ids of other users' tasks are not disclosed
+            throw new ResourceNotFoundException("Task not found: " + taskId);
+        }
+        return task;
+    }
+
+    /**
+     * Delete a task, leaving a tombstone for its assignee.
+     *
+     * @param taskId Task id
+     * @param principal User deleting the task; must be the task's assigner or an admin
+     */
+    @Transactional
+    public void deleteTask(Long taskId, AuthenticatedPrincipal principal) {
+        Task task = findManageableTask(taskId, principal);
+        taskTombstoneRepository.save(new TaskTombstone(taskId, task.getAssignee().getId(), TombstoneReason.DELETED));
+        taskRepository.delete(task);
+    }
+
+    /**
+     * List tasks one page at a time, ordered by status, then newest first.
+     *
+     * @param assignerId Optional assigner filter
+     * @param assigneeId Optional assignee filter
+     * @param status Optional status filter
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param limit Page size
+     * @return Page of tasks and the cursor for the next one
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> listTasks(Long assignerId, Long assigneeId, TaskStatus status,
+                                              String cursor, int limit) {
+        TaskStatus afterStatus = null;
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = KeysetCursor.decode(cursor, 3);
+            try {
+                afterStatus = TaskStatus.valueOf(parts[0]);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            afterCreatedAt = KeysetCursor.fromMicros(KeysetCursor.parseLong(parts[1]));
+            afterId = KeysetCursor.parseLong(parts[2]);
+        }
+
+        List<TaskResponse> tasks = taskRepository.findTaskPage(assignerId, assigneeId, status,
+                afterStatus, afterCreatedAt, afterId, limit + 1);
+        if (tasks.size() <= limit) {
+            return new CursorPage<>(tasks, null);
+        }
+        tasks = tasks.subList(0, limit);
+        TaskResponse last = tasks.get(limit - 1);
+        return new CursorPage<>(tasks, KeysetCursor.encode(last.getStatus().name(),
+                KeysetCursor.toMicros(last.getCreatedAt()), last.getId()));
+    }
+
+    /**
+     * List task completions one page at a time, newest first.
+     *
+     * @param taskId Optional task filter
+     * @param userId Optional filter on the user who completed the task
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param limit Page size
+     * @return Page of completions and the cursor for the next one
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskCompletionResponse> listCompletions(Long taskId, Long userId, String cursor, int limit) {
+        LocalDateTime afterCompletedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = KeysetCursor.decode(cursor, 2);
+            afterCompletedAt = KeysetCursor.fromMicros(KeysetCursor.parseLong(parts[0]));
+            afterId = KeysetCursor.parseLong(parts[1]);
+        }
+
+        List<TaskCompletionResponse> completions = taskCompletionRepository.findCompletionPage(
+                taskId, userId, afterCompletedAt, afterId, limit + 1);
+        if (completions.size() <= limit) {
+            return new CursorPage<>(completions, null);
+        }
+        completions = completions.subList(0, limit);
+        TaskCompletionResponse last = completions.get(limit - 1);
+        return new CursorPage<>(completions, KeysetCursor.encode(
+                KeysetCursor.toMicros(last.getCompletedAt()), last.getId()));
+    }
+
+    /**
+     * Find tasks within a radius of a point, searched in the database.
+     *
+     * @param latitude Center latitude
+     * @param longitude Center longitude
+     * @param radius Radius in meters
+     * @param status Optional status filter
+     * @param limit Maximum number of tasks
+     * @return Matching tasks, closest first
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyTaskResponse> searchTasksWithinRadius(double latitude, double longitude, double radius,
+                                                            TaskStatus status, int limit) {
+        validateRadiusSearch(latitude, longitude, radius);
+        return taskRepository.findTasksWithinRadius(latitude, longitude, radius,
+                status != null ? EnumSet.of(status) : null, limit);
+    }
+
+    /**
+     * Find completions whose GPS fix lies within a radius of a point, searched in the database.
+     *
+     * @param latitude Center latitude
+     * @param longitude Center longitude
+     * @param radius Radius in meters
+     * @param from Optional inclusive start of the completion time range
+     * @param to Optional exclusive end of the completion time range
+     * @param limit Maximum number of completions
+     * @return Matching completions, closest first
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyCompletionResponse> searchCompletionsWithinRadius(double latitude, double longitude,
+                                                                        double radius, LocalDateTime from,
+                                                                        LocalDateTime to, int limit) {
+        validateRadiusSearch(latitude, longitude, radius);
+        return taskCompletionRepository.findCompletionsWithinRadius(latitude, longitude, radius, from, to, limit);
+    }
+
+    /**
+     * Get the changes to an assignee's tasks since a watermark.
+     * Rows are only returned up to a horizon slightly in the past, so a transaction that commits
+     * late with an earlier timestamp is never skipped by a client that already moved past it.
+     *
+     * @param assigneeId Assignee
+     * @param watermark Watermark from the previous response, or null for a full sync
+     * @param limit Maximum number of tasks and of tombstones to return
+     * @return Changes and the watermark for the next request
+     */
+    @Transactional(readOnly = true)
+    public TaskSyncResponse syncTasks(Long assigneeId, String watermark, int limit) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime horizon = now.minus(commitGrace);
+
+        SyncPosition position = SyncPosition.decode(watermark);
+        boolean reset = false;
+        if (position.mayHaveMissedTombstones(now.minus(tombstoneRetention))) {
+            // Tombstones the client has not seen may already be purged
+            position = SyncPosition.START;
+            reset = true;
+        }
+
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<TaskResponse> tasks = taskRepository.findChangesForAssignee(
+                assigneeId, position.taskTime, position.taskId, horizon, page);
+        List<TaskTombstoneResponse> tombstones = taskTombstoneRepository.findChangesForAssignee(
+                assigneeId, position.tombstoneTime, position.tombstoneId, horizon, page);
+
+        boolean moreTasks = tasks.size() > limit;
+        boolean moreTombstones = tombstones.size() > limit;
+        if (moreTasks) {
+            tasks = tasks.subList(0, limit);
+        }
+        if (moreTombstones) {
+            tombstones = tombstones.subList(0, limit);
+        }
+
+        // An exhausted stream jumps to the horizon; otherwise resume after the last row returned
+        LocalDateTime taskTime = horizon;
+        long taskId = Long.MAX_VALUE;
+        if (moreTasks) {
+            TaskResponse last = tasks.get(tasks.size() - 1);
+            taskTime = last.getUpdatedAt();
+            taskId = last.getId();
+        }
+        LocalDateTime tombstoneTime = horizon;
+        long tombstoneId = Long.MAX_VALUE;
+        if (moreTombstones) {
+            TaskTombstoneResponse last = tombstones.get(tombstones.size() - 1);
+            tombstoneTime = last.getRemovedAt();
+            tombstoneId = last.getId();
+        }
+
+        String next = new SyncPosition(taskTime, taskId, tombstoneTime, tombstoneId).encode();
+        return new TaskSyncResponse(tasks, tombstones, next, moreTasks || moreTombstones, reset);
+    }
+
+    /**
+     * Drop tombstones older than the retention window; clients that far behind get a full resync.
+     */
+    @Scheduled(fixedDelayString = "${tasks.sync.purge-interval:3600000}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = taskTombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            logger.info("Purged {} task tombstones", purged);
+        }
+    }
+
+    private Task findManageableTask(Long taskId, AuthenticatedPrincipal principal) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found: " + taskId));
+        if (!principal.isAdmin() && !task.getAssigner().getId().equals(principal.getId())) {
+            throw new AccessDeniedException("Only the task's assigner or an admin can change it");
+        }
+        return task;
+    }
+
+    private void validateRadiusSearch(double latitude, double longitude, double radius) {
+        if (!gpsService.isValidCoordinates(latitude, longitude)) {
+            throw new InvalidRequestException("Invalid coordinates");
+        }
+        if (radius <= 0 || radius > maxSearchRadius) {
+            throw new InvalidRequestException("Radius must be between 0 and " + maxSearchRadius + " meters");
+        }
+    }
+
+    /**
+     * Keyset positions in the task and tombstone streams, encoded as an opaque watermark.
+     */
+    private static final class SyncPosition {
+
+        private static final SyncPosition START = new SyncPosition(SYNC_START, 0L, SYNC_START, 0L);
+
+        private final LocalDateTime taskTime;
+        private final long taskId;
+        private final LocalDateTime tombstoneTime;
+        private final long tombstoneId;
+
+        private SyncPosition(LocalDateTime taskTime, long taskId, LocalDateTime tombstoneTime, long tombstoneId) {
+            this.taskTime = taskTime;
+            this.taskId = taskId;
+            this.tombstoneTime = tombstoneTime;
+            this.tombstoneId = tombstoneId;
+        }
+
+        /**
+         * Only the tombstone position matters: tasks are never purged, and a full sync pages through
+         * tasks last changed long before the cutoff.
+         *
+         * @param purgeCutoff Tombstones removed before this time may have been purged
+         * @return true if tombstones after this position may be gone
+         */
+        private boolean mayHaveMissedTombstones(LocalDateTime purgeCutoff) {
+            return this != START && tombstoneTime.isBefore(purgeCutoff);
+        }
+
+        private String encode() {
+            return KeysetCursor.encode(KeysetCursor.toMicros(taskTime), taskId,
+                    KeysetCursor.toMicros(tombstoneTime), tombstoneId);
+        }
+
+        private static SyncPosition decode(String watermark) {
+            if (watermark == null || watermark.isBlank()) {
+                return START;
+            }
+            String[] parts = KeysetCursor.decode(watermark, 4);
+            return new SyncPosition(KeysetCursor.fromMicros(KeysetCursor.parseLong(parts[0])),
+                    KeysetCursor.parseLong(parts[1]),
+                    KeysetCursor.fromMicros(KeysetCursor.parseLong(parts[2])),
+                    KeysetCursor.parseLong(parts[3]));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.TaskLocation;
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.event.TaskChangedEvent;
+import com.taskapp.geo.GeoGridIndex;
+import com.taskapp.geo.GeoGridIndex.Neighbor;
+import com.taskapp.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-memory spatial index of open (PENDING and IN_PROGRESS) tasks.
+ * Loaded once at startup and kept up to date from committed {@link TaskChangedEvent}s,
+ * so "tasks near me" queries never scan the tasks table.
+ */
+@Service
+public class TaskSpatialIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSpatialIndex.class);
+
+    public static final Set<TaskStatus> OPEN_STATUSES = EnumSet.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
+
+    private final TaskRepository taskRepository;
+    private final GeoGridIndex<TaskLocation> index;
+
+    // Ids changed by events since the running rebuild started, or null; guarded by its own monitor
+    private volatile Set<Long> changedDuringRebuild;
+
+    public TaskSpatialIndex(TaskRepository taskRepository,
+                            GpsService gpsService,
+                            @Value("${gps.index.cell-size:0.01}") double cellSize) {
+        this.taskRepository = taskRepository;
+        this.index = new GeoGridIndex<>(gpsService, cellSize);
+    }
+
+    /**
+     * Load all open tasks into the index once the application has started.
+     * Tasks changed by events while the query runs are skipped: the event carries data at least as
+     * recent as the query result, which could otherwise re-add a task that was just closed or moved.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Set<Long> changed = new HashSet<>();
+        changedDuringRebuild = changed;
+        List<TaskLocation> locations = taskRepository.findLocationsByStatusIn(OPEN_STATUSES);
+        int skipped = 0;
+        synchronized (changed) {
+            for (TaskLocation location : locations) {
+                if (changed.contains(location.getTaskId())) {
+                    skipped++;
+                } else {
+                    index.put(location.getTaskId(), location.getLatitude(), location.getLongitude(), location);
+                }
+            }
+            changedDuringRebuild = null;
+        }
+        logger.info("Spatial index loaded with {} open tasks ({} changed during the load)", index.size(), skipped);
+    }
+
+    /**
+     * Apply a committed task change: open tasks are inserted or moved, closed or deleted tasks are dropped.
+     *
+     * @param event Task change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getTaskId() == null) {
+            return;
+        }
+        Set<Long> changed = changedDuringRebuild;
+        if (changed == null) {
+            apply(event);
+            return;
+        }
+        synchronized (changed) {
+            changed.add(event.getTaskId());
+            apply(event);
+        }
+    }
+
+    private void apply(TaskChangedEvent event) {
+        if (event.isOpen()) {
+            TaskLocation location = TaskLocation.from(event);
+            index.put(location.getTaskId(), location.getLatitude(), location.getLongitude(), location);
+        } else {
+            index.remove(event.getTaskId());
+        }
+    }
+
+    /**
+     * Find open tasks within a radius of a location.
+     *
+     * @param latitude Latitude of the search origin
+     * @param longitude Longitude of the search origin
+     * @param radius Radius in meters
+     * @return Matching tasks ordered by distance
+     */
+    public List<Neighbor<TaskLocation>> findWithinRadius(double latitude, double longitude, double radius) {
+        return index.withinRadius(latitude, longitude, radius);
+    }
+
+    /**
+     * Find the open tasks closest to a location.
+     *
+     * @param latitude Latitude of the search origin
+     * @param longitude Longitude of the search origin
+     * @param limit Maximum number of tasks to return
+     * @param maxDistance Maximum distance in meters
+     * @return Closest tasks ordered by distance
+     */
+    public List<Neighbor<TaskLocation>> findNearest(double latitude, double longitude, int limit, double maxDistance) {
+        return index.nearest(latitude, longitude, limit, maxDistance);
+    }
+
+    /**
+     * @param taskId Task id
+     * @return Indexed location of the task, or null if the task is not open
+     */
+    public TaskLocation get(long taskId) {
+        return index.get(taskId);
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
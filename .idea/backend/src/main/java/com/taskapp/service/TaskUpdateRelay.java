@@ -0,0 +1,431 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.TaskUpdateNotification;
+import com.taskapp.entity.TaskOutboxEvent;
+import com.taskapp.event.TaskChangedEvent;
+import com.taskapp.repository.TaskOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the task outbox and pushes each event to the connected sessions of its recipient over SSE.
+ * A single relay thread assigns every drained event the next relay sequence number, so the sequence
+ * is exactly the delivery order and a reconnecting client can resume after the last id it saw.
+ * Delivery is at-least-once: clients should ignore ids they have already applied.
+ * <p>
+ * The relay thread never writes to a socket. Every stream has a bounded queue drained by a small
+ * pool of sender threads, one send at a time per stream; a stream whose queue overflows is cleared
+ * and sent a {@value #RESET_EVENT} event instead, so a slow client cannot hold up the others.
+ */
+@Service
+public class TaskUpdateRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskUpdateRelay.class);
+
+    public static final String TASK_EVENT = "task";
+    public static final String RESET_EVENT = "reset";
+
+    private final TaskOutboxRepository taskOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReplay;
+    private final Duration pollInterval;
+    private final Duration emitterTimeout;
+    private final Duration retention;
+    private final int subscriberQueueSize;
+    private final int senderThreads;
+
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong relaySeq = new AtomicLong();
+    private final Object wakeUp = new Object();
+
+    private Thread relayThread;
+    private ExecutorService senders;
+    private volatile boolean running;
+    private boolean pending;
+
+    public TaskUpdateRelay(TaskOutboxRepository taskOutboxRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${tasks.push.batch-size:200}") int batchSize,
+                           @Value("${tasks.push.max-replay:500}") int maxReplay,
+                           @Value("${tasks.push.poll-interval:1s}") Duration pollInterval,
+                           @Value("${tasks.push.emitter-timeout:30m}") Duration emitterTimeout,
+                           @Value("${tasks.push.retention:1d}") Duration retention,
+                           @Value("${tasks.push.subscriber-queue-size:1000}") int subscriberQueueSize,
+                           @Value("${tasks.push.sender-threads:4}") int senderThreads) {
+        this.taskOutboxRepository = taskOutboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxReplay = maxReplay;
+        this.pollInterval = pollInterval;
+        this.emitterTimeout = emitterTimeout;
+        this.retention = retention;
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.senderThreads = senderThreads;
+    }
+
+    @PostConstruct
+    public void start() {
+        Long maxSeq = taskOutboxRepository.findMaxRelaySeq();
+        relaySeq.set(maxSeq != null ? maxSeq : 0L);
+        AtomicInteger threadNumber = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "outbox-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        relayThread = new Thread(this::relayLoop, "outbox-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        relayThread.interrupt();
+        relayThread.join(TimeUnit.SECONDS.toMillis(10));
+        senders.shutdown();
+        senders.awaitTermination(5, TimeUnit.SECONDS);
+        subscribers.values().forEach(sessions -> sessions.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * Wake the relay as soon as a task change commits instead of waiting for the next poll.
+     *
+     * @param event Committed task change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        synchronized (wakeUp) {
+            pending = true;
+            wakeUp.notifyAll();
+        }
+    }
+
+    /**
+     * Open an update stream for a user.
+     * Events after {@code lastEventId} that are still in the outbox are replayed first. When they are
+     * not (the gap was purged or is longer than the replay limit) a {@value #RESET_EVENT} event tells
+     * the client to catch up through delta sync before applying further events.
+     *
+     * @param userId Subscribing user
+     * @param lastEventId Last event id the client applied, or null for live events only
+     * @return Emitter streaming {@value #TASK_EVENT} events
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(userId, new SseEmitter(emitterTimeout.toMillis()), lastEventId);
+        subscriber.emitter.onCompletion(() -> unregister(subscriber));
+        subscriber.emitter.onTimeout(() -> unregister(subscriber));
+        subscriber.emitter.onError(e -> unregister(subscriber));
+
+        // Registered first: live events relayed while the replay is read queue up behind it
+        subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        if (lastEventId == null) {
+            subscriber.endReplay(List.of());
+            return subscriber.emitter;
+        }
+        try {
+            replay(subscriber, lastEventId);
+        } catch (RuntimeException e) {
+            unregister(subscriber);
+            throw e;
+        }
+        return subscriber.emitter;
+    }
+
+    /**
+     * Send a comment to every open stream so proxies keep idle connections open
+     * and streams of vanished clients are detected and released.
+     */
+    @Scheduled(fixedDelayString = "${tasks.push.heartbeat-interval:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> sessions : subscribers.values()) {
+            for (Subscriber subscriber : sessions) {
+                subscriber.heartbeat();
+            }
+        }
+    }
+
+    /**
+     * Delete relayed events older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${tasks.push.purge-interval:3600000}")
+    public void purgeRelayed() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> taskOutboxRepository.deleteRelayedBefore(cutoff));
+        if (deleted != null && deleted > 0) {
+            logger.info("Purged {} relayed outbox events older than {}", deleted, cutoff);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void relayLoop() {
+        while (running) {
+            try {
+                while (running && relayBatch() == batchSize) {
+                    // keep draining full batches
+                }
+                synchronized (wakeUp) {
+                    if (!pending) {
+                        wakeUp.wait(pollInterval.toMillis());
+                    }
+                    pending = false;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Outbox relay failed, retrying", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * Number the next batch of unrelayed events, commit the numbering, then push the events.
+     * A crash between commit and push loses nothing: the client resumes from the outbox.
+     *
+     * @return Number of events relayed
+     */
+    private int relayBatch() {
+        List<TaskOutboxEvent> events = transactionTemplate.execute(status -> {
+            List<TaskOutboxEvent> batch = taskOutboxRepository.findUnrelayed(PageRequest.of(0, batchSize));
+            LocalDateTime relayedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            for (TaskOutboxEvent event : batch) {
+                event.setRelaySeq(relaySeq.incrementAndGet());
+                event.setRelayedAt(relayedAt);
+            }
+            return batch;
+        });
+        if (events == null) {
+            return 0;
+        }
+        for (TaskOutboxEvent event : events) {
+            Set<Subscriber> sessions = subscribers.get(event.getRecipientId());
+            if (sessions != null) {
+                TaskUpdateNotification notification = TaskUpdateNotification.from(event);
+                for (Subscriber subscriber : sessions) {
+                    subscriber.push(notification);
+                }
+            }
+        }
+        return events.size();
+    }
+
+    private void replay(Subscriber subscriber, long lastEventId) {
+        Long oldest = taskOutboxRepository.findMinRelaySeq();
+        boolean purged = oldest != null ? lastEventId + 1 < oldest : lastEventId < relaySeq.get();
+        if (purged || lastEventId > relaySeq.get()) {
+            subscriber.reset();
+            return;
+        }
+        List<TaskOutboxEvent> missed = taskOutboxRepository.findRelayedAfter(
+                subscriber.userId, lastEventId, PageRequest.of(0, maxReplay + 1));
+        if (missed.size() > maxReplay) {
+            subscriber.reset();
+            return;
+        }
+        List<TaskUpdateNotification> notifications = new ArrayList<>(missed.size());
+        for (TaskOutboxEvent event : missed) {
+            notifications.add(TaskUpdateNotification.from(event));
+        }
+        subscriber.endReplay(notifications);
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, sessions) -> {
+            sessions.remove(subscriber);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * One open stream. Events are queued in id order and events at or below the last queued id are
+     * dropped, so replayed and live events never go out twice or out of order. Until the replay has
+     * been read, live events are queued but not sent. The monitor only guards the queue; sends happen
+     * on a sender thread without it.
+     */
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+
+        // Guarded by this
+        private final ArrayDeque<Outgoing> queue = new ArrayDeque<>();
+        private long lastQueuedId;
+        private boolean replaying = true;
+        private boolean sending;
+        private boolean closed;
+
+        private Subscriber(Long userId, SseEmitter emitter, Long lastEventId) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.lastQueuedId = lastEventId != null ? lastEventId : 0L;
+        }
+
+        /**
+         * Queue a live event. Never blocks; on overflow the queue is replaced by a reset event.
+         */
+        synchronized void push(TaskUpdateNotification notification) {
+            if (closed || notification.getId() <= lastQueuedId) {
+                return;
+            }
+            if (queue.size() >= subscriberQueueSize) {
+                reset();
+                return;
+            }
+            queue.add(Outgoing.task(notification));
+            lastQueuedId = notification.getId();
+            scheduleSend();
+        }
+
+        /**
+         * Put the replayed events ahead of the live events queued meanwhile and start sending.
+         *
+         * @param missed Replayed events in id order
+         */
+        synchronized void endReplay(List<TaskUpdateNotification> missed) {
+            if (!replaying) {
+                return; // reset while the replay was read
+            }
+            List<Outgoing> live = new ArrayList<>(queue);
+            queue.clear();
+            long lastId = 0;
+            for (TaskUpdateNotification notification : missed) {
+                queue.add(Outgoing.task(notification));
+                lastId = notification.getId();
+            }
+            for (Outgoing outgoing : live) {
+                if (outgoing.id > lastId) {
+                    queue.add(outgoing);
+                }
+            }
+            lastQueuedId = Math.max(lastQueuedId, lastId);
+            replaying = false;
+            scheduleSend();
+        }
+
+        /**
+         * Drop everything queued and tell the client to catch up through delta sync.
+         */
+        synchronized void reset() {
+            queue.clear();
+            lastQueuedId = relaySeq.get();
+            queue.add(new Outgoing(lastQueuedId,
+                    SseEmitter.event().id(Long.toString(lastQueuedId)).name(RESET_EVENT).data("")));
+            replaying = false;
+            scheduleSend();
+        }
+
+        /**
+         * Queue a keep-alive comment unless other events are already on their way.
+         */
+        synchronized void heartbeat() {
+            if (!closed && !replaying && queue.isEmpty() && !sending) {
+                queue.add(new Outgoing(0, SseEmitter.event().comment("keep-alive")));
+                scheduleSend();
+            }
+        }
+
+        private void scheduleSend() {
+            if (sending || replaying || closed || queue.isEmpty()) {
+                return;
+            }
+            try {
+                senders.execute(this::sendQueued);
+                sending = true;
+            } catch (RejectedExecutionException e) {
+                closed = true; // shutting down
+                queue.clear();
+            }
+        }
+
+        private void sendQueued() {
+            while (true) {
+                Outgoing next;
+                synchronized (this) {
+                    next = closed ? null : queue.poll();
+                    if (next == null) {
+                        sending = false;
+                        return;
+                    }
+                }
+                if (!emit(next.event)) {
+                    synchronized (this) {
+                        closed = true;
+                        queue.clear();
+                        sending = false;
+                    }
+                    return;
+                }
+            }
+        }
+
+        private boolean emit(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                unregister(this);
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Event waiting in a subscriber queue; id 0 for comments.
+     */
+    private static final class Outgoing {
+
+        private final long id;
+        private final SseEmitter.SseEventBuilder event;
+
+        private Outgoing(long id, SseEmitter.SseEventBuilder event) {
+            this.id = id;
+            this.event = event;
+        }
+
+        private static Outgoing task(TaskUpdateNotification notification) {
+            return new Outgoing(notification.getId(),
+                    SseEmitter.event().id(Long.toString(notification.getId())).name(TASK_EVENT).data(notification));
+        }
+    }
+}
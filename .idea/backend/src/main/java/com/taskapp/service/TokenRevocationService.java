@@ -0,0 +1,80 @@
+package com.taskapp.service;
+
+import com.taskapp.security.BloomFilter;
+import com.taskapp.security.TokenRevocationStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Revocation check for the authentication hot path.
+ * A Bloom filter answers "never revoked" for almost every token without touching the store;
+ * only filter hits (revoked tokens and rare false positives) consult the {@link TokenRevocationStore}.
+ * The filter is rebuilt periodically so expired revocations drop out and revocations made on
+ * other nodes of a shared store are picked up.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final TokenRevocationStore store;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final Object rebuildLock = new Object();
+
+    private volatile BloomFilter filter;
+
+    public TokenRevocationService(TokenRevocationStore store,
+                                  @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+                                  @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.store = store;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    /**
+     * Check whether a token id has been revoked.
+     * 
+     * @param tokenId Token id, may be null for tokens issued without one
+     * @return true if revoked
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return store.isRevoked(tokenId);
+    }
+
+    /**
+     * Revoke a token until its own expiry.
+     * 
+     * @param tokenId Token id
+     * @param expiresAtMillis Token expiry as epoch milliseconds
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        synchronized (rebuildLock) {
+            store.revoke(tokenId, expiresAtMillis);
+            filter.put(tokenId);
+        }
+    }
+
+    /**
+     * Purge expired revocations and rebuild the filter from the store.
+     * Holding the lock while rebuilding keeps concurrent revocations from being missed;
+     * revocations are rare, and readers never take the lock.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:5000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            store.purgeExpired(System.currentTimeMillis());
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, 2L * store.size()), falsePositiveRate);
+            store.forEachActive((tokenId, expiresAt) -> rebuilt.put(tokenId));
+            filter = rebuilt;
+        }
+        logger.debug("Token revocation filter rebuilt with {} active revocations", store.size());
+    }
+}
@@ -0,0 +1,142 @@
+package com.taskapp.service;
+
+import com.taskapp.audit.AuditJournal;
+import com.taskapp.audit.AuditJournalReader;
+import com.taskapp.audit.AuditJournalReader.ReplayResult;
+import com.taskapp.audit.VerificationRecord;
+import com.taskapp.dto.VerificationAuditPage;
+import com.taskapp.exception.InvalidRequestException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Audit trail of completion verification decisions: submitted coordinates, distance from the task,
+ * completion radius, verdict and whether the completion was then committed. Decisions are handed to an
+ * {@link AuditJournal} without blocking the calling thread and read back, with CRC checks, through
+ * {@link AuditJournalReader}.
+ */
+@Service
+public class VerificationAuditService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerificationAuditService.class);
+
+    private final boolean enabled;
+    private final Path directory;
+    private final DataSize segmentSize;
+    private final int ringCapacity;
+    private final int maxSegments;
+    private final Duration forceInterval;
+
+    private AuditJournal journal;
+
+    public VerificationAuditService(@Value("${audit.journal.enabled:true}") boolean enabled,
+                                    @Value("${audit.journal.directory:./data/audit}") String directory,
+                                    @Value("${audit.journal.segment-size:64MB}") DataSize segmentSize,
+                                    @Value("${audit.journal.ring-capacity:16384}") int ringCapacity,
+                                    @Value("${audit.journal.max-segments:100}") int maxSegments,
+                                    @Value("${audit.journal.force-interval:1s}") Duration forceInterval) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSize;
+        this.ringCapacity = ringCapacity;
+        this.maxSegments = maxSegments;
+        this.forceInterval = forceInterval;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        journal = new AuditJournal(directory, segmentSize.toBytes(), ringCapacity, maxSegments,
+                forceInterval.toNanos());
+        journal.start();
+        logger.info("Verification audit journal opened in {}", directory.toAbsolutePath());
+    }
+
+    /**
+     * Write out the queued records and close the journal.
+     */
+    @PreDestroy
+    public void stop() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Record a verification decision once the completion it belongs to has been committed or has failed.
+     *
+     * @param decidedAt Time of the decision in epoch milliseconds
+     * @param trackingId Tracking id of the submission
+     * @param taskId Task being completed
+     * @param userId User who submitted the completion
+     * @param latitude Submitted latitude
+     * @param longitude Submitted longitude
+     * @param distanceFromTarget Distance from the task location in meters
+     * @param completionRadius Completion radius of the task in meters
+     * @param verified Verdict
+     * @param committed Whether the completion was committed
+     */
+    public void record(long decidedAt, UUID trackingId, long taskId, long userId, double latitude, double longitude,
+                       double distanceFromTarget, double completionRadius, boolean verified, boolean committed) {
+        if (journal == null) {
+            return;
+        }
+        if (!journal.append(decidedAt, taskId, userId, latitude, longitude,
+                distanceFromTarget, completionRadius, trackingId, verified, committed)) {
+            long dropped = journal.getDroppedCount();
+            if (Long.bitCount(dropped) == 1) { // logs at 1, 2, 4, 8, ... drops
+                logger.warn("Audit journal is not keeping up; {} verification records dropped so far", dropped);
+            }
+        }
+    }
+
+    /**
+     * Read decisions back from the journal, oldest first.
+     *
+     * @param fromSequence First sequence to return
+     * @param limit Maximum number of records
+     * @return Records and the sequence to continue from
+     */
+    public VerificationAuditPage read(long fromSequence, int limit) {
+        if (fromSequence < 1) {
+            throw new InvalidRequestException("Sequence numbers start at 1");
+        }
+        List<VerificationRecord> records = new ArrayList<>(Math.min(limit, 1024));
+        try {
+            ReplayResult result = new AuditJournalReader(directory).replay(fromSequence, limit, records::add);
+            return new VerificationAuditPage(records, result.getCorruptRecords(), result.getNextSequence());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the audit journal", e);
+        }
+    }
+
+    /**
+     * @return Records queued but not yet written, 0 when the journal is disabled
+     */
+    public long getBacklog() {
+        return journal != null ? journal.getBacklog() : 0;
+    }
+
+    /**
+     * @return Records dropped because the journal could not keep up, 0 when it is disabled
+     */
+    public long getDroppedCount() {
+        return journal != null ? journal.getDroppedCount() : 0;
+    }
+}
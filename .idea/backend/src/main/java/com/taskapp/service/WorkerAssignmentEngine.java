@@ -0,0 +1,294 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.UserStatusCount;
+import com.taskapp.entity.UserRole;
+import com.taskapp.event.TaskChangedEvent;
+import com.taskapp.event.TaskCompletionRecordedEvent;
+import com.taskapp.event.UserChangedEvent;
+import com.taskapp.geo.GeoGridIndex;
+import com.taskapp.geo.GeoGridIndex.Neighbor;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.security.AuthenticatedPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Picks the nearest available worker for a new task.
+ * Active users with role USER are tracked with their open-task load and, once they have reported
+ * a position through a location ping or a completion, indexed by that position. A reservation
+ * claims one unit of a worker's capacity with a compare-and-set on that worker's own counter, so
+ * concurrent assignments never double-book a worker and never contend on a shared lock.
+ * <p>
+ * A worker's load is the number of committed open tasks, maintained from {@link TaskChangedEvent}s,
+ * plus outstanding reservations. Callers release a reservation once the assignment has committed
+ * (its own change event has then been counted) or failed.
+ */
+@Service
+public class WorkerAssignmentEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkerAssignmentEngine.class);
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final GeoGridIndex<Worker> positions;
+    private final ConcurrentHashMap<Long, Worker> workers = new ConcurrentHashMap<>();
+    private final int maxOpenTasks;
+    private final int initialCandidates;
+    private final int maxCandidates;
+    private final double maxDistance;
+    private final long maxPositionAgeMillis;
+
+    public WorkerAssignmentEngine(TaskRepository taskRepository,
+                                  UserRepository userRepository,
+                                  GpsService gpsService,
+                                  @Value("${tasks.assignment.cell-size:0.01}") double cellSize,
+                                  @Value("${tasks.assignment.max-open-tasks:5}") int maxOpenTasks,
+                                  @Value("${tasks.assignment.initial-candidates:8}") int initialCandidates,
+                                  @Value("${tasks.assignment.max-candidates:512}") int maxCandidates,
+                                  @Value("${tasks.assignment.max-distance:50000}") double maxDistance,
+                                  @Value("${tasks.assignment.max-position-age:30m}") Duration maxPositionAge) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.positions = new GeoGridIndex<>(gpsService, cellSize);
+        this.maxOpenTasks = maxOpenTasks;
+        this.initialCandidates = initialCandidates;
+        this.maxCandidates = maxCandidates;
+        this.maxDistance = maxDistance;
+        this.maxPositionAgeMillis = maxPositionAge.toMillis();
+    }
+
+    /**
+     * Load the eligible workers and their open-task counts once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Long userId : userRepository.findActiveIdsByRole(UserRole.USER)) {
+            workers.putIfAbsent(userId, new Worker(userId));
+        }
+        for (UserStatusCount count : taskRepository.countByAssigneeAndStatus()) {
+            Worker worker = workers.get(count.getUserId());
+            if (worker != null && TaskSpatialIndex.OPEN_STATUSES.contains(count.getStatus())) {
+                worker.load.addAndGet((int) count.getCount());
+            }
+        }
+        logger.info("Assignment engine loaded {} workers", workers.size());
+    }
+
+    /**
+     * Record the latest known position of a worker. Positions of users who are not
+     * eligible for assignment are ignored.
+     *
+     * @param userId User id
+     * @param latitude Latitude
+     * @param longitude Longitude
+     */
+    public void updatePosition(Long userId, double latitude, double longitude) {
+        Worker worker = workers.get(userId);
+        if (worker != null) {
+            worker.positionUpdatedAt = System.currentTimeMillis();
+            positions.put(userId, latitude, longitude, worker);
+        }
+    }
+
+    /**
+     * Reserve capacity on the nearest eligible worker with a recent position.
+     * Candidates are fetched nearest first, widening the search while all of them are at capacity.
+     *
+     * @param latitude Task latitude
+     * @param longitude Task longitude
+     * @return Reservation, or empty if no worker within the maximum distance has spare capacity
+     */
+    public Optional<Reservation> reserveNearest(double latitude, double longitude) {
+        long freshAfter = System.currentTimeMillis() - maxPositionAgeMillis;
+        int tried = 0;
+        for (int k = initialCandidates; ; k = Math.min(k * 4, maxCandidates)) {
+            List<Neighbor<Worker>> candidates = positions.nearest(latitude, longitude, k, maxDistance);
+            for (int i = tried; i < candidates.size(); i++) {
+                Neighbor<Worker> candidate = candidates.get(i);
+                Worker worker = candidate.getValue();
+                if (worker.eligible && worker.positionUpdatedAt >= freshAfter && worker.tryReserve(maxOpenTasks)) {
+                    return Optional.of(new Reservation(worker, candidate.getDistance()));
+                }
+            }
+            tried = candidates.size();
+            if (candidates.size() < k || k >= maxCandidates) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Keep open-task loads in step with committed task changes.
+     *
+     * @param event Committed task change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        boolean created = event.getChangeType() == TaskChangedEvent.ChangeType.CREATED;
+        Long previousAssigneeId = created ? null : event.getPreviousAssigneeId();
+        boolean wasOpen = !created && event.getPreviousStatus() != null
+                && TaskSpatialIndex.OPEN_STATUSES.contains(event.getPreviousStatus());
+        boolean isOpen = event.isOpen();
+        boolean sameAssignee = Objects.equals(previousAssigneeId, event.getAssigneeId());
+
+        if (wasOpen && previousAssigneeId != null && (!isOpen || !sameAssignee)) {
+            adjustLoad(previousAssigneeId, -1);
+        }
+        if (isOpen && event.getAssigneeId() != null && (!wasOpen || !sameAssignee)) {
+            adjustLoad(event.getAssigneeId(), 1);
+        }
+    }
+
+    /**
+     * Use the GPS fix of a completion as the worker's latest position.
+     *
+     * @param event Committed completion
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompletionRecorded(TaskCompletionRecordedEvent event) {
+        if (event.getGpsLatitude() != null && event.getGpsLongitude() != null) {
+            updatePosition(event.getUserId(), event.getGpsLatitude(), event.getGpsLongitude());
+        }
+    }
+
+    /**
+     * Track role and activation changes: only active users with role USER can be assigned.
+     *
+     * @param event Committed user change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        Optional<AuthenticatedPrincipal> user = event.isDeleted()
+                ? Optional.empty()
+                : userRepository.findPrincipalById(event.getUserId());
+        if (user.isPresent() && user.get().isActive() && user.get().getRole() == UserRole.USER) {
+            Worker worker = workers.get(event.getUserId());
+            if (worker == null) {
+                worker = track(event.getUserId());
+            }
+            worker.eligible = true;
+        } else {
+            Worker worker = workers.get(event.getUserId());
+            if (worker != null) {
+                worker.eligible = false;
+                positions.remove(event.getUserId());
+            }
+        }
+    }
+
+    /**
+     * Drop positions that are too old to assign by, keeping the index limited to workers in the field.
+     */
+    @Scheduled(fixedDelayString = "${tasks.assignment.position-sweep-interval:60000}")
+    public void evictStalePositions() {
+        long freshAfter = System.currentTimeMillis() - maxPositionAgeMillis;
+        for (Worker worker : workers.values()) {
+            if (worker.positionUpdatedAt < freshAfter && positions.get(worker.userId) != null) {
+                positions.remove(worker.userId);
+            }
+        }
+    }
+
+    /**
+     * @return Number of workers with a recent position
+     */
+    public int getPositionedWorkerCount() {
+        return positions.size();
+    }
+
+    /**
+     * Start tracking a user who became eligible, with the open tasks already assigned to them:
+     * changes to an untracked user's tasks were not counted.
+     */
+    private Worker track(Long userId) {
+        Worker worker = new Worker(userId);
+        worker.eligible = false; // until its load is known; the caller makes it eligible
+        Worker existing = workers.putIfAbsent(userId, worker);
+        if (existing != null) {
+            return existing;
+        }
+        // Counted after tracking starts: a change committed in between may be counted twice, which
+        // only errs towards assigning less, whereas counting first could miss it and overbook the worker
+        int open = (int) taskRepository.countByAssigneeAndStatusIn(userId, TaskSpatialIndex.OPEN_STATUSES);
+        worker.load.addAndGet(open);
+        return worker;
+    }
+
+    private void adjustLoad(Long userId, int delta) {
+        Worker worker = workers.get(userId);
+        if (worker != null) {
+            worker.load.addAndGet(delta);
+        }
+    }
+
+    private static final class Worker {
+
+        private final Long userId;
+        private final AtomicInteger load = new AtomicInteger();
+        private volatile boolean eligible = true;
+        private volatile long positionUpdatedAt;
+
+        private Worker(Long userId) {
+            this.userId = userId;
+        }
+
+        private boolean tryReserve(int capacity) {
+            int current;
+            do {
+                current = load.get();
+                if (current >= capacity) {
+                    return false;
+                }
+            } while (!load.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+
+    /**
+     * One unit of capacity claimed on a worker. Release it exactly once after the task assigned
+     * to the worker has committed or failed; further calls are ignored.
+     */
+    public static final class Reservation {
+
+        private final Worker worker;
+        private final double distance;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Reservation(Worker worker, double distance) {
+            this.worker = worker;
+            this.distance = distance;
+        }
+
+        public Long getWorkerId() {
+            return worker.userId;
+        }
+
+        /**
+         * @return Distance from the worker's last position to the task in meters
+         */
+        public double getDistance() {
+            return distance;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                worker.load.decrementAndGet();
+            }
+        }
+    }
+}
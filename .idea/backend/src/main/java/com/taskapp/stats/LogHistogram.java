@@ -0,0 +1,311 @@
+package com.taskapp.stats;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Mergeable histogram with logarithmically sized buckets.
+ * A positive value {@code v} is counted in bucket {@code ceil(log(v) / log(gamma))}, so every bucket
+ * covers the same ratio {@code gamma} and any quantile is reported within the configured relative
+ * accuracy. Memory grows with log(max / min), not with the number of values, and histograms with
+ * the same accuracy merge exactly by adding bucket counts. Optionally the number of buckets is capped:
+ * when the range outgrows it, the lowest buckets are collapsed together, which keeps memory constant
+ * and only costs accuracy at the low end. Not thread-safe.
+ */
+public class LogHistogram {
+
+    /** Values below this (including zero and negatives) are counted in a single zero bucket. */
+    public static final double MIN_INDEXABLE_VALUE = 1e-9;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final byte FORMAT_VERSION = 2;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final int maxBuckets;
+
+    private long[] counts = new long[0];
+    private int offset; // bucket index of counts[0]
+    private long zeroCount;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * @param relativeAccuracy Maximum relative error of reported quantiles, e.g. 0.01 for 1%
+     */
+    public LogHistogram(double relativeAccuracy) {
+        this(relativeAccuracy, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param relativeAccuracy Maximum relative error of reported quantiles, e.g. 0.01 for 1%
+     * @param maxBuckets Maximum number of buckets; lower quantiles lose accuracy once values span more
+     */
+    public LogHistogram(double relativeAccuracy, int maxBuckets) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Relative accuracy must be in (0, 1)");
+        }
+        if (maxBuckets < 1) {
+            throw new IllegalArgumentException("Max buckets must be positive");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.maxBuckets = maxBuckets;
+    }
+
+    /**
+     * Record a value once.
+     *
+     * @param value Value
+     */
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    /**
+     * Record a value several times.
+     *
+     * @param value Value
+     * @param occurrences Number of occurrences, must not be negative
+     */
+    public void add(double value, long occurrences) {
+        if (occurrences < 0) {
+            throw new IllegalArgumentException("Occurrences must not be negative");
+        }
+        if (occurrences == 0 || Double.isNaN(value)) {
+            return;
+        }
+        if (value < MIN_INDEXABLE_VALUE) {
+            zeroCount += occurrences;
+        } else {
+            int index = bucketIndex((int) Math.ceil(Math.log(value) / logGamma));
+            counts[index - offset] += occurrences;
+        }
+        count += occurrences;
+        sum += value * occurrences;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Add all values of another histogram to this one.
+     *
+     * @param other Histogram with the same relative accuracy
+     */
+    public void merge(LogHistogram other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge histograms with different relative accuracy");
+        }
+        if (other.count == 0) {
+            return;
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] != 0) {
+                int index = bucketIndex(i + other.offset);
+                counts[index - offset] += other.counts[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Estimate a quantile.
+     *
+     * @param quantile Quantile in [0, 1], e.g. 0.99
+     * @return Estimated value, or NaN if the histogram is empty
+     */
+    public double getQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be in [0, 1]");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double rank = quantile * (count - 1);
+        long cumulative = zeroCount;
+        if (rank < cumulative) {
+            return Math.max(min, 0);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (rank < cumulative) {
+                double estimate = 2 * Math.pow(gamma, i + offset) / (gamma + 1);
+                return Math.min(Math.max(estimate, min), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @return Independent copy of this histogram
+     */
+    public LogHistogram copy() {
+        LogHistogram copy = new LogHistogram(relativeAccuracy, maxBuckets);
+        copy.counts = counts.clone();
+        copy.offset = offset;
+        copy.zeroCount = zeroCount;
+        copy.count = count;
+        copy.sum = sum;
+        copy.min = min;
+        copy.max = max;
+        return copy;
+    }
+
+    /**
+     * Serialize the histogram; only the range of non-empty buckets is written.
+     *
+     * @return Serialized form, readable by {@link #fromBytes(byte[])}
+     */
+    public byte[] toBytes() {
+        int first = 0;
+        int last = counts.length - 1;
+        while (first <= last && counts[first] == 0) {
+            first++;
+        }
+        while (last >= first && counts[last] == 0) {
+            last--;
+        }
+        int length = last - first + 1;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + length * 8);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeDouble(relativeAccuracy);
+            out.writeInt(maxBuckets);
+            out.writeLong(zeroCount);
+            out.writeLong(count);
+            out.writeDouble(sum);
+            out.writeDouble(min);
+            out.writeDouble(max);
+            out.writeInt(first + offset);
+            out.writeInt(length);
+            for (int i = first; i <= last; i++) {
+                out.writeLong(counts[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Read a histogram written by {@link #toBytes()}.
+     *
+     * @param data Serialized form
+     * @return Histogram
+     */
+    public static LogHistogram fromBytes(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != 1 && version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported histogram format version " + version);
+            }
+            double relativeAccuracy = in.readDouble();
+            int maxBuckets = version == 1 ? Integer.MAX_VALUE : in.readInt();
+            LogHistogram histogram = new LogHistogram(relativeAccuracy, maxBuckets);
+            histogram.zeroCount = in.readLong();
+            histogram.count = in.readLong();
+            histogram.sum = in.readDouble();
+            histogram.min = in.readDouble();
+            histogram.max = in.readDouble();
+            histogram.offset = in.readInt();
+            long[] counts = new long[in.readInt()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = in.readLong();
+            }
+            histogram.counts = counts;
+            return histogram;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Corrupt histogram data", e);
+        }
+    }
+
+    /**
+     * Make room for a bucket, growing the array or collapsing the lowest buckets as needed.
+     *
+     * @param index Bucket index of a value
+     * @return Bucket index to count the value in; higher than {@code index} if that bucket was collapsed
+     */
+    private int bucketIndex(int index) {
+        if (counts.length == 0) {
+            counts = new long[Math.min(INITIAL_CAPACITY, maxBuckets)];
+            offset = counts.length == maxBuckets ? index : index - counts.length / 2;
+            return index;
+        }
+        int top = offset + counts.length - 1;
+        if (index >= offset && index <= top) {
+            return index;
+        }
+        int newMin = Math.min(offset, index);
+        int newMax = Math.max(top, index);
+        if ((long) newMax - newMin + 1 > maxBuckets) {
+            newMin = newMax - maxBuckets + 1;
+            index = Math.max(index, newMin);
+            if (index >= offset && index <= top && newMin <= offset) {
+                return index;
+            }
+        }
+        int newLength = (int) Math.min(maxBuckets, Math.max((long) newMax - newMin + 1, counts.length * 2L));
+        // Grow towards the side that overflowed
+        int newOffset = index < offset ? newMax - newLength + 1 : newMin;
+        long[] grown = new long[newLength];
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                grown[Math.max(i + offset, newOffset) - newOffset] += counts[i];
+            }
+        }
+        counts = grown;
+        offset = newOffset;
+        return index;
+    }
+
+    // Getters
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * @return Smallest recorded value, or NaN if the histogram is empty
+     */
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    /**
+     * @return Largest recorded value, or NaN if the histogram is empty
+     */
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * @return Mean of the recorded values, or NaN if the histogram is empty
+     */
+    public double getMean() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskapp.stats;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #begin()} and
+ * {@link #end()}. Registered as the session factory's statement inspector; statements prepared on
+ * threads that have not begun counting (writers, schedulers) are ignored. JDBC batches count once per
+ * prepared statement, and statements issued through {@code JdbcTemplate} bypass Hibernate and are not seen.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting on the current thread.
+     */
+    public void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Stop counting on the current thread.
+     *
+     * @return Statements prepared since {@link #begin()}, or 0 if counting was not started
+     */
+    public int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
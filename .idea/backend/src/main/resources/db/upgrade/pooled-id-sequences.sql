@@ -0,0 +1,13 @@
+-- One-off upgrade for databases created while entity ids used IDENTITY columns.
+-- Entities now draw ids from pooled sequences (allocationSize = 50). ddl-auto would create
+-- these sequences starting at 1, colliding with existing rows, so create them first and
+-- move each one past the current maximum id plus one allocation block.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tasks_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS task_completions_seq INCREMENT BY 50;
+
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM users));
+SELECT setval('tasks_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM tasks));
+SELECT setval('task_completions_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM task_completions));
+
@@ -0,0 +1,9 @@
+-- One-off upgrade for databases created while tasks.updated_at was only set on update.
+-- Tasks never edited since then have no updated_at, so delta sync (keyed on updated_at) never
+-- returns them, not even on a full resync. Backfill them with their creation time, then make the
+-- column non-null as the entity now declares it; ddl-auto does not change the nullability of an
+-- existing column.
+
+UPDATE tasks SET updated_at = created_at WHERE updated_at IS NULL;
+
+ALTER TABLE tasks ALTER COLUMN updated_at SET NOT NULL;
@@ -0,0 +1,203 @@
+package com.taskapp.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes journals into a temporary directory and reads them back with {@link AuditJournalReader}.
+ */
+class AuditJournalTest {
+
+    private static final int RECORDS_PER_SEGMENT = 4;
+    private static final long SEGMENT_BYTES = AuditJournal.HEADER_SIZE + RECORDS_PER_SEGMENT * VerificationRecord.SIZE;
+    private static final long FORCE_INTERVAL = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordRoundTrips() {
+        ByteBuffer buffer = ByteBuffer.allocate(VerificationRecord.SIZE * 2);
+        CRC32C crc = new CRC32C();
+        UUID trackingId = UUID.randomUUID();
+        buffer.position(VerificationRecord.SIZE);
+        VerificationRecord.encode(buffer, crc, 42, 1700000000123L, 7, 9, 40.7128, -74.006, 12.5, 50.0,
+                trackingId.getMostSignificantBits(), trackingId.getLeastSignificantBits(), true, false);
+
+        assertThat(buffer.position()).isEqualTo(VerificationRecord.SIZE * 2);
+        VerificationRecord record = VerificationRecord.decode(buffer, VerificationRecord.SIZE, crc);
+        assertThat(record).isNotNull();
+        assertThat(record.getSequence()).isEqualTo(42);
+        assertThat(record.getTimestamp()).isEqualTo(1700000000123L);
+        assertThat(record.getTaskId()).isEqualTo(7);
+        assertThat(record.getUserId()).isEqualTo(9);
+        assertThat(record.getLatitude()).isEqualTo(40.7128);
+        assertThat(record.getLongitude()).isEqualTo(-74.006);
+        assertThat(record.getDistanceFromTarget()).isEqualTo(12.5);
+        assertThat(record.getCompletionRadius()).isEqualTo(50.0);
+        assertThat(record.getTrackingId()).isEqualTo(trackingId);
+        assertThat(record.isVerified()).isTrue();
+        assertThat(record.isCommitted()).isFalse();
+        assertThat(VerificationRecord.isBlank(buffer, 0)).isTrue();
+    }
+
+    @Test
+    void flippedByteIsOneCorruptRecord() throws IOException {
+        write(10, 100);
+        // Records 5-8 are in the second segment, which is not the newest
+        Path segment = directory.resolve(AuditJournal.segmentName(5));
+        flipByte(segment, AuditJournal.HEADER_SIZE + VerificationRecord.SIZE + 30);
+
+        List<VerificationRecord> records = new ArrayList<>();
+        AuditJournalReader.ReplayResult result = new AuditJournalReader(directory)
+                .replay(1, Integer.MAX_VALUE, records::add);
+
+        assertThat(result.getCorruptRecords()).isEqualTo(1);
+        assertThat(result.getRecords()).isEqualTo(9);
+        assertThat(records).extracting(VerificationRecord::getSequence)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void numberingResumesAfterReopen() throws IOException {
+        write(3, 100);
+        write(2, 100);
+        write(4, 100);
+
+        assertThat(sequences()).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(new AuditJournalReader(directory).findLastSequence()).isEqualTo(9);
+    }
+
+    @Test
+    void reopenDiscardsRecordsAfterATornOne() throws IOException {
+        write(3, 100);
+        // As after a crash that flushed record 3 but not all of record 2
+        flipByte(directory.resolve(AuditJournal.segmentName(1)), AuditJournal.HEADER_SIZE + VerificationRecord.SIZE + 30);
+
+        write(1, 100);
+
+        assertThat(sequences()).containsExactly(1L, 2L);
+        assertThat(AuditJournalReader.listSegments(directory)).hasSize(1);
+    }
+
+    @Test
+    void restartsKeepFillingTheNewestSegment() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            write(1, 2);
+        }
+
+        // Ten records fill three segments; a new segment per restart would have kept only records 9 and 10
+        assertThat(AuditJournalReader.listSegments(directory)).hasSize(2);
+        assertThat(sequences()).containsExactly(5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void rotationKeepsTheNewestSegments() throws IOException {
+        write(22, 3);
+
+        assertThat(AuditJournalReader.listSegments(directory)).extracting(path -> path.getFileName().toString())
+                .containsExactly(AuditJournal.segmentName(13), AuditJournal.segmentName(17),
+                        AuditJournal.segmentName(21));
+        List<Long> expected = new ArrayList<>();
+        for (long sequence = 13; sequence <= 22; sequence++) {
+            expected.add(sequence);
+        }
+        assertThat(sequences()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void concurrentAppendsHaveNoGapsOrDuplicates() throws Exception {
+        int threads = 8;
+        int appendsPerThread = 5000;
+        AuditJournal journal = new AuditJournal(directory, AuditJournal.HEADER_SIZE + 1000L * VerificationRecord.SIZE,
+                1024, 1000, FORCE_INTERVAL);
+        journal.start();
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger appended = new AtomicInteger();
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long userId = t;
+            Thread writer = new Thread(() -> {
+                try {
+                    ready.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < appendsPerThread; i++) {
+                    if (journal.append(i, i, userId, 0, 0, 0, 0, UUID.randomUUID(), true, true)) {
+                        appended.incrementAndGet();
+                    }
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+        ready.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        journal.close();
+
+        List<VerificationRecord> records = new ArrayList<>();
+        AuditJournalReader.ReplayResult result = new AuditJournalReader(directory)
+                .replay(1, Integer.MAX_VALUE, records::add);
+        assertThat(result.getCorruptRecords()).isZero();
+        assertThat(records).hasSize(appended.get());
+        assertThat(appended.get() + journal.getDroppedCount()).isEqualTo((long) threads * appendsPerThread);
+        Set<Long> appends = new HashSet<>();
+        for (int i = 0; i < records.size(); i++) {
+            VerificationRecord record = records.get(i);
+            assertThat(record.getSequence()).isEqualTo(i + 1);
+            assertThat(appends.add(record.getUserId() * appendsPerThread + record.getTaskId())).isTrue();
+        }
+    }
+
+    /**
+     * Open the journal, append records and close it again, as one run of the application would.
+     */
+    private void write(int records, int maxSegments) throws IOException {
+        AuditJournal journal = new AuditJournal(directory, SEGMENT_BYTES, 16, maxSegments, FORCE_INTERVAL);
+        journal.start();
+        for (int i = 0; i < records; i++) {
+            assertThat(journal.append(System.currentTimeMillis(), i, 1, 40.0, -74.0, 5.0, 50.0, UUID.randomUUID(),
+                    true, true)).isTrue();
+            while (journal.getBacklog() > 8) {
+                Thread.onSpinWait(); // keep the small ring from filling up
+            }
+        }
+        journal.close();
+    }
+
+    private List<Long> sequences() throws IOException {
+        List<Long> sequences = new ArrayList<>();
+        new AuditJournalReader(directory).replay(1, Integer.MAX_VALUE, record -> sequences.add(record.getSequence()));
+        return sequences;
+    }
+
+    private static void flipByte(Path file, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, position);
+            buffer.put(0, (byte) (buffer.get(0) ^ 0x40));
+            buffer.flip();
+            channel.write(buffer, position);
+        }
+    }
+}
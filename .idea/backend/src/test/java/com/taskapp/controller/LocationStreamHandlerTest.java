@@ -0,0 +1,58 @@
+package com.taskapp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.service.GeofenceMonitor;
+import com.taskapp.service.WorkerAssignmentEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that frames without a usable ping are answered with an error and leave the session open.
+ */
+class LocationStreamHandlerTest {
+
+    private GeofenceMonitor geofenceMonitor;
+    private WorkerAssignmentEngine workerAssignmentEngine;
+    private LocationStreamHandler handler;
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() {
+        geofenceMonitor = mock(GeofenceMonitor.class);
+        workerAssignmentEngine = mock(WorkerAssignmentEngine.class);
+        handler = new LocationStreamHandler(geofenceMonitor, workerAssignmentEngine, new ObjectMapper());
+        session = mock(WebSocketSession.class);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("userId", 7L);
+        when(session.getAttributes()).thenReturn(attributes);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"null", "  null\n", "{\"latitude\":", "42"})
+    void malformedFrameGetsAnErrorReply(String payload) throws IOException {
+        handler.handleTextMessage(session, new TextMessage(payload));
+
+        ArgumentCaptor<TextMessage> reply = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session).sendMessage(reply.capture());
+        assertThat(reply.getValue().getPayload()).isEqualTo("{\"error\":\"Malformed ping\"}");
+        verify(geofenceMonitor, never()).evaluate(any(), anyList());
+        verify(session, never()).close();
+        verify(session, never()).close(any());
+    }
+}
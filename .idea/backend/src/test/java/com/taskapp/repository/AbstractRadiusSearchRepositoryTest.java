@@ -0,0 +1,162 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.NearbyCompletionResponse;
+import com.taskapp.dto.NearbyTaskResponse;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.TaskCompletion;
+import com.taskapp.entity.User;
+import com.taskapp.entity.UserRole;
+import com.taskapp.service.GpsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the database radius searches return exactly the rows, distances and order of a
+ * brute-force {@link GpsService#calculateDistance} filter over everything seeded. Points are seeded
+ * on and just around the circle edge of several centers, including circles covering a pole and
+ * circles crossing the antimeridian. Subclasses choose the database.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@Import(GpsService.class)
+abstract class AbstractRadiusSearchRepositoryTest {
+
+    private static final double[][] CENTERS = { // latitude, longitude, radius in meters
+            {52.52, 13.405, 250},
+            {89.9995, 45, 150},       // circle covers the north pole
+            {-89.99, -120, 2000},     // circle covers the south pole
+            {10, 179.9995, 300},      // crosses the antimeridian eastwards
+            {-33.8688, -179.999, 500}, // crosses the antimeridian westwards
+            {0, 0, 25000}
+    };
+    // Relative offsets from the radius of the seeded edge points
+    private static final double[] EDGE_OFFSETS = {-1e-2, -1e-7, -1e-12, 0, 1e-12, 1e-7, 1e-2};
+    private static final int BEARINGS = 24;
+    private static final int RANDOM_POINTS = 100;
+    private static final int LIMIT = 100000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCompletionRepository taskCompletionRepository;
+
+    @Autowired
+    private GpsService gpsService;
+
+    private final List<Task> tasks = new ArrayList<>();
+    private final List<TaskCompletion> completions = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        User assigner = entityManager.persist(new User("assigner", "assigner@example.com", "password-hash", UserRole.TASK_ASSIGNER));
+        User assignee = entityManager.persist(new User("assignee", "assignee@example.com", "password-hash", UserRole.USER));
+
+        SplittableRandom random = new SplittableRandom(2024);
+        List<double[]> points = new ArrayList<>();
+        for (double[] center : CENTERS) {
+            for (int i = 0; i < BEARINGS; i++) {
+                double bearing = 360.0 * i / BEARINGS;
+                for (double offset : EDGE_OFFSETS) {
+                    points.add(destination(center[0], center[1], bearing, center[2] * (1 + offset)));
+                }
+            }
+            for (int i = 0; i < RANDOM_POINTS; i++) {
+                points.add(destination(center[0], center[1], random.nextDouble(360),
+                        random.nextDouble(3 * center[2])));
+            }
+        }
+
+        for (double[] point : points) {
+            Task task = entityManager.persist(new Task("Task", "Seeded around a search edge",
+                    point[0], point[1], assigner, assignee));
+            tasks.add(task);
+            // Completions are reported from the same points, against the task seeded there
+            completions.add(entityManager.persist(new TaskCompletion(task, assignee, point[0], point[1])));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0", "1", "2", "3", "4", "5"})
+    void taskSearchMatchesBruteForce(int centerIndex) {
+        double[] center = CENTERS[centerIndex];
+
+        List<NearbyTaskResponse> found = taskRepository.findTasksWithinRadius(
+                center[0], center[1], center[2], null, LIMIT);
+
+        List<double[]> expected = new ArrayList<>(); // id, distance
+        for (Task task : tasks) {
+            double distance = gpsService.calculateDistance(center[0], center[1], task.getLatitude(), task.getLongitude());
+            if (distance <= center[2]) {
+                expected.add(new double[]{task.getId(), distance});
+            }
+        }
+        expected.sort(Comparator.<double[]>comparingDouble(row -> row[1]).thenComparingDouble(row -> row[0]));
+
+        assertThat(expected).isNotEmpty();
+        assertThat(found).extracting(NearbyTaskResponse::getId)
+                .containsExactlyElementsOf(expected.stream().map(row -> (long) row[0]).toList());
+        assertThat(found).extracting(NearbyTaskResponse::getDistance)
+                .containsExactlyElementsOf(expected.stream().map(row -> row[1]).toList());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0", "1", "2", "3", "4", "5"})
+    void completionSearchMatchesBruteForce(int centerIndex) {
+        double[] center = CENTERS[centerIndex];
+
+        List<NearbyCompletionResponse> found = taskCompletionRepository.findCompletionsWithinRadius(
+                center[0], center[1], center[2], null, null, LIMIT);
+
+        List<double[]> expected = new ArrayList<>(); // id, distance
+        for (TaskCompletion completion : completions) {
+            double distance = gpsService.calculateDistance(center[0], center[1],
+                    completion.getGpsLatitude(), completion.getGpsLongitude());
+            if (distance <= center[2]) {
+                expected.add(new double[]{completion.getId(), distance});
+            }
+        }
+        expected.sort(Comparator.<double[]>comparingDouble(row -> row[1]).thenComparingDouble(row -> row[0]));
+
+        assertThat(expected).isNotEmpty();
+        assertThat(found).extracting(nearby -> nearby.getCompletion().getId())
+                .containsExactlyElementsOf(expected.stream().map(row -> (long) row[0]).toList());
+        assertThat(found).extracting(NearbyCompletionResponse::getDistance)
+                .containsExactlyElementsOf(expected.stream().map(row -> row[1]).toList());
+    }
+
+    /**
+     * @return Latitude and longitude reached from a point after a distance along a great circle
+     */
+    private static double[] destination(double latitude, double longitude, double bearing, double distance) {
+        double lat1 = Math.toRadians(latitude);
+        double lon1 = Math.toRadians(longitude);
+        double theta = Math.toRadians(bearing);
+        double delta = distance / GpsService.EARTH_RADIUS;
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(delta)
+                + Math.cos(lat1) * Math.sin(delta) * Math.cos(theta));
+        double lon2 = lon1 + Math.atan2(Math.sin(theta) * Math.sin(delta) * Math.cos(lat1),
+                Math.cos(delta) - Math.sin(lat1) * Math.sin(lat2));
+        double lon = Math.toDegrees(lon2);
+        return new double[]{Math.toDegrees(lat2), ((lon + 180) % 360 + 360) % 360 - 180};
+    }
+}
@@ -0,0 +1,145 @@
+package com.taskapp.repository;
+
+import com.taskapp.dto.TaskCompletionResponse;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.TaskCompletion;
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.entity.User;
+import com.taskapp.entity.UserRole;
+import com.taskapp.service.GpsService;
+import com.taskapp.stats.StatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a page of the task and completion listings is loaded with a single statement,
+ * however many rows it holds, rather than one query plus a lookup of the users and task of every row.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@Import(GpsService.class) // needed by the radius search fragments of the same repositories
+class KeysetPageStatementCountTest {
+
+    private static final int USERS = 10;
+    private static final int TASKS = 60;
+    private static final int PAGE_SIZE = 25;
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        @Bean
+        StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCompletionRepository taskCompletionRepository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @BeforeEach
+    void seed() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(entityManager.persist(new User("user" + i, "user" + i + "@example.com", "password-hash",
+                    i == 0 ? UserRole.TASK_ASSIGNER : UserRole.USER)));
+        }
+        for (int i = 0; i < TASKS; i++) {
+            // Every row references different users, so per-row lookups could not hide behind a shared entity
+            User assigner = users.get(i % USERS);
+            User assignee = users.get((i + 1) % USERS);
+            Task task = entityManager.persist(new Task("Task " + i, "Description " + i,
+                    40 + i * 0.001, -74 + i * 0.001, assigner, assignee));
+            entityManager.persist(new TaskCompletion(task, users.get((i + 2) % USERS), task.getLatitude(),
+                    task.getLongitude()));
+        }
+        entityManager.flush();
+        entityManager.clear(); // nothing may be served from the persistence context
+    }
+
+    @Test
+    void taskPageIsOneStatement() {
+        Set<Long> seen = new HashSet<>();
+        TaskStatus afterStatus = null;
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        while (true) {
+            statementCounter.begin();
+            List<TaskResponse> page = taskRepository.findTaskPage(null, null, null,
+                    afterStatus, afterCreatedAt, afterId, PAGE_SIZE);
+            for (TaskResponse task : page) {
+                seen.add(task.getId());
+                assertThat(task.getAssignerUsername()).isNotNull();
+                assertThat(task.getAssigneeUsername()).isNotNull();
+            }
+            assertThat(statementCounter.end()).isEqualTo(1);
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            TaskResponse last = page.get(page.size() - 1);
+            afterStatus = last.getStatus();
+            afterCreatedAt = last.getCreatedAt();
+            afterId = last.getId();
+        }
+        assertThat(seen).hasSize(TASKS);
+    }
+
+    @Test
+    void completionPageIsOneStatement() {
+        Set<Long> seen = new HashSet<>();
+        LocalDateTime afterCompletedAt = null;
+        Long afterId = null;
+        while (true) {
+            statementCounter.begin();
+            List<TaskCompletionResponse> page = taskCompletionRepository.findCompletionPage(null, null,
+                    afterCompletedAt, afterId, PAGE_SIZE);
+            for (TaskCompletionResponse completion : page) {
+                seen.add(completion.getId());
+                assertThat(completion.getTaskTitle()).isNotNull();
+                assertThat(completion.getUsername()).isNotNull();
+            }
+            assertThat(statementCounter.end()).isEqualTo(1);
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            TaskCompletionResponse last = page.get(page.size() - 1);
+            afterCompletedAt = last.getCompletedAt();
+            afterId = last.getId();
+        }
+        assertThat(seen).hasSize(TASKS);
+    }
+}
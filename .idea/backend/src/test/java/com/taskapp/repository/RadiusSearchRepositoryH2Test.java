@@ -0,0 +1,13 @@
+package com.taskapp.repository;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the radius search checks on the embedded H2 database.
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class RadiusSearchRepositoryH2Test extends AbstractRadiusSearchRepositoryTest {
+}
@@ -0,0 +1,160 @@
+package com.taskapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the tiered {@link GpsService#isWithinRadius} always agrees with the plain
+ * Haversine comparison {@code calculateDistance(...) <= radius}.
+ */
+class GpsServiceTest {
+
+    private static final double[] RADII = {0.01, 1, 10, 100, 1000, 20000, 100000, 5000000, 20015087};
+
+    private GpsService gpsService;
+
+    @BeforeEach
+    void setUp() {
+        gpsService = new GpsService();
+    }
+
+    @Test
+    void matchesHaversineForRandomPoints() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 200000; i++) {
+            double userLat = random.nextDouble(-90, 90);
+            double userLon = random.nextDouble(-180, 180);
+            double radius = RADII[random.nextInt(RADII.length)];
+            // Mostly nearby targets so every tier gets exercised, plus some anywhere on the globe
+            double spread = random.nextBoolean() ? radius * 2 / 111000 : 180;
+            double taskLat = clamp(userLat + random.nextDouble(-spread, spread), -90, 90);
+            double taskLon = wrap(userLon + random.nextDouble(-spread, spread) * 2);
+            assertMatchesHaversine(userLat, userLon, taskLat, taskLon, radius);
+        }
+    }
+
+    @Test
+    void matchesHaversineAtRadiusBoundary() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 50000; i++) {
+            double userLat = random.nextDouble(-89, 89);
+            double userLon = random.nextDouble(-180, 180);
+            double taskLat = clamp(userLat + random.nextDouble(-0.01, 0.01), -90, 90);
+            double taskLon = wrap(userLon + random.nextDouble(-0.01, 0.01));
+            double distance = gpsService.calculateDistance(userLat, userLon, taskLat, taskLon);
+            // Exactly on the edge and one ulp to either side of it
+            assertMatchesHaversine(userLat, userLon, taskLat, taskLon, distance);
+            assertMatchesHaversine(userLat, userLon, taskLat, taskLon, Math.nextUp(distance));
+            assertMatchesHaversine(userLat, userLon, taskLat, taskLon, Math.nextDown(distance));
+            assertMatchesHaversine(userLat, userLon, taskLat, taskLon, distance * (1 + 1e-4));
+            assertMatchesHaversine(userLat, userLon, taskLat, taskLon, distance * (1 - 1e-4));
+        }
+    }
+
+    @Test
+    void matchesHaversineNearPoles() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 50000; i++) {
+            double pole = random.nextBoolean() ? 90 : -90;
+            double userLat = pole - Math.signum(pole) * random.nextDouble(0, 0.5);
+            double taskLat = pole - Math.signum(pole) * random.nextDouble(0, 0.5);
+            double userLon = random.nextDouble(-180, 180);
+            double taskLon = random.nextDouble(-180, 180);
+            double radius = RADII[random.nextInt(RADII.length)];
+            assertMatchesHaversine(userLat, userLon, taskLat, taskLon, radius);
+        }
+        assertMatchesHaversine(90, 0, 90, 180, 1);
+        assertMatchesHaversine(-90, -45, -90, 135, 0.01);
+        assertMatchesHaversine(89.9999, 0, 89.9999, 180, 22.24);
+        assertMatchesHaversine(89.9999, 0, 89.9999, 180, 22.23);
+    }
+
+    @Test
+    void matchesHaversineAcrossAntimeridian() {
+        SplittableRandom random = new SplittableRandom(13);
+        for (int i = 0; i < 50000; i++) {
+            double latitude = random.nextDouble(-85, 85);
+            double userLon = 180 - random.nextDouble(0, 0.05);
+            double taskLon = -180 + random.nextDouble(0, 0.05);
+            double taskLat = clamp(latitude + random.nextDouble(-0.05, 0.05), -90, 90);
+            double radius = RADII[random.nextInt(RADII.length)];
+            assertMatchesHaversine(latitude, userLon, taskLat, taskLon, radius);
+            assertMatchesHaversine(latitude, taskLon, taskLat, userLon, radius);
+        }
+        // 0.0002 degrees apart across the antimeridian at the equator, about 22.24 m
+        assertThat(gpsService.isWithinRadius(0, 179.9999, 0, -179.9999, 23)).isTrue();
+        assertThat(gpsService.isWithinRadius(0, 179.9999, 0, -179.9999, 22)).isFalse();
+    }
+
+    @Test
+    void matchesHaversineForTinyAndHugeRadii() {
+        assertMatchesHaversine(52.52, 13.405, 52.52, 13.405, 0);
+        assertMatchesHaversine(52.52, 13.405, 52.52, 13.405, Double.MIN_VALUE);
+        assertMatchesHaversine(52.52, 13.405, 52.5200001, 13.405, 0.01);
+        assertMatchesHaversine(52.52, 13.405, 52.5200001, 13.405, 0.02);
+        // Antipodes are half the circumference apart
+        double halfCircumference = Math.PI * GpsService.EARTH_RADIUS;
+        assertMatchesHaversine(0, 0, 0, 180, halfCircumference);
+        assertMatchesHaversine(0, 0, 0, 180, halfCircumference * 0.999);
+        assertMatchesHaversine(45, 10, -45, -170, Double.MAX_VALUE);
+        assertMatchesHaversine(45, 10, -45, -170, 1e7);
+    }
+
+    @Test
+    void countsTheTierThatDecided() {
+        // 1 degree of latitude apart with a 100 m radius: rejected by the bounding box
+        gpsService.isWithinRadius(40, -74, 41, -74, 100);
+        // 0.0001 degrees apart (about 11 m): accepted by the approximation
+        gpsService.isWithinRadius(40, -74, 40.0001, -74, 100);
+        // About 67 m north and 68 m east (95 m diagonally): inside the box but rejected by the approximation
+        gpsService.isWithinRadius(40, -74, 40.0006, -73.9992, 90);
+        // Exactly on the edge: only Haversine can decide
+        double distance = gpsService.calculateDistance(40, -74, 40.0005, -74);
+        gpsService.isWithinRadius(40, -74, 40.0005, -74, distance);
+
+        RadiusCheckStats stats = gpsService.getRadiusCheckStats();
+        assertThat(stats.getBoundingBoxRejects()).isEqualTo(1);
+        assertThat(stats.getApproximationAccepts()).isEqualTo(1);
+        assertThat(stats.getApproximationRejects()).isEqualTo(1);
+        assertThat(stats.getExactChecks()).isEqualTo(1);
+    }
+
+    @Test
+    void randomChecksMoveEveryTierCounter() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 10000; i++) {
+            double userLat = random.nextDouble(-60, 60);
+            double userLon = random.nextDouble(-180, 180);
+            double taskLat = userLat + random.nextDouble(-0.002, 0.002);
+            double taskLon = wrap(userLon + random.nextDouble(-0.002, 0.002));
+            gpsService.isWithinRadius(userLat, userLon, taskLat, taskLon, 100);
+        }
+
+        RadiusCheckStats stats = gpsService.getRadiusCheckStats();
+        assertThat(stats.getBoundingBoxRejects()).isPositive();
+        assertThat(stats.getApproximationAccepts()).isPositive();
+        assertThat(stats.getApproximationRejects()).isPositive();
+        assertThat(stats.getExactChecks()).isPositive();
+        assertThat(stats.getBoundingBoxRejects() + stats.getApproximationAccepts()
+                + stats.getApproximationRejects() + stats.getExactChecks()).isEqualTo(10000);
+    }
+
+    private void assertMatchesHaversine(double userLat, double userLon, double taskLat, double taskLon, double radius) {
+        boolean expected = gpsService.calculateDistance(userLat, userLon, taskLat, taskLon) <= radius;
+        assertThat(gpsService.isWithinRadius(userLat, userLon, taskLat, taskLon, radius))
+                .as("(%s, %s) -> (%s, %s) within %s m", userLat, userLon, taskLat, taskLon, radius)
+                .isEqualTo(expected);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static double wrap(double longitude) {
+        return ((longitude + 180) % 360 + 360) % 360 - 180;
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.MapCluster;
+import com.taskapp.dto.TaskLocation;
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.event.TaskChangedEvent;
+import com.taskapp.event.TaskChangedEvent.ChangeType;
+import com.taskapp.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that the startup loads of {@link TaskSpatialIndex} and {@link TaskMapTileService} do not
+ * overwrite task changes committed while their query runs with the older query result.
+ */
+class TaskChangedDuringLoadTest {
+
+    private static final double LATITUDE = 40.7128;
+    private static final double LONGITUDE = -74.0060;
+    private static final Long ASSIGNER_ID = 3L;
+    private static final Long ASSIGNEE_ID = 7L;
+
+    @Test
+    void spatialIndexKeepsChangesMadeDuringRebuild() {
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        TaskSpatialIndex index = new TaskSpatialIndex(taskRepository, new GpsService(), 0.01);
+        answerLoadWhileChanging(taskRepository, index::onTaskChanged);
+
+        index.rebuild();
+
+        assertThat(index.get(1)).isNull();
+        assertThat(index.get(2).getLatitude()).isEqualTo(LATITUDE + 1);
+        assertThat(index.get(3)).isNull();
+        assertThat(index.get(4).getLatitude()).isEqualTo(LATITUDE);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void mapTilesKeepChangesMadeDuringLoad() {
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        TaskMapTileService service = new TaskMapTileService(taskRepository, 16, 3, 64, 100);
+        answerLoadWhileChanging(taskRepository, service::onTaskChanged);
+
+        service.load();
+
+        List<MapCluster> clusters = service.getTile(0, 0, 0).getClusters();
+        assertThat(clusters.stream().mapToInt(MapCluster::getCount).sum()).isEqualTo(3);
+        assertThat(countWithStatus(clusters, TaskStatus.PENDING)).isEqualTo(1);
+        assertThat(countWithStatus(clusters, TaskStatus.IN_PROGRESS)).isEqualTo(1);
+        assertThat(countWithStatus(clusters, TaskStatus.COMPLETED)).isEqualTo(1);
+    }
+
+    private static int countWithStatus(List<MapCluster> clusters, TaskStatus status) {
+        return clusters.stream().mapToInt(cluster -> cluster.getStatusCounts().getOrDefault(status, 0)).sum();
+    }
+
+    /**
+     * Make the load query return four pending tasks, after committing changes to three of them:
+     * task 1 deleted, task 2 moved, task 3 completed. Task 4 is left alone.
+     */
+    private static void answerLoadWhileChanging(TaskRepository taskRepository, Consumer<TaskChangedEvent> listener) {
+        when(taskRepository.findLocationsByStatusIn(any())).thenAnswer(invocation -> {
+            listener.accept(event(ChangeType.DELETED, 1, LATITUDE, TaskStatus.PENDING));
+            listener.accept(event(ChangeType.UPDATED, 2, LATITUDE + 1, TaskStatus.IN_PROGRESS));
+            listener.accept(event(ChangeType.UPDATED, 3, LATITUDE, TaskStatus.COMPLETED));
+            return List.of(location(1), location(2), location(3), location(4));
+        });
+    }
+
+    private static TaskLocation location(long taskId) {
+        return new TaskLocation(taskId, "Task " + taskId, LATITUDE, LONGITUDE, 50.0, TaskStatus.PENDING, ASSIGNEE_ID);
+    }
+
+    private static TaskChangedEvent event(ChangeType changeType, long taskId, double latitude, TaskStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskChangedEvent(changeType, taskId, "Task " + taskId, latitude, LONGITUDE, 50.0, status,
+                ASSIGNER_ID, ASSIGNEE_ID, TaskStatus.PENDING, ASSIGNEE_ID, now, now);
+    }
+}
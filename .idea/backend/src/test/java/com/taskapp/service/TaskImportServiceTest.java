@@ -0,0 +1,82 @@
+package com.taskapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.dto.TaskImportReport;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.UserRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Checks the row validation of {@link TaskImportService} on values only the CSV parser lets through.
+ */
+class TaskImportServiceTest {
+
+    private ValidatorFactory validatorFactory;
+    private TaskRepository taskRepository;
+    private TaskImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        taskRepository = mock(TaskRepository.class);
+        importService = new TaskImportService(taskRepository, mock(UserRepository.class), new GpsService(),
+                validatorFactory.getValidator(), mock(TransactionTemplate.class), mock(WorkerAssignmentEngine.class),
+                new ObjectMapper());
+        ReflectionTestUtils.setField(importService, "defaultRadius", 50.0);
+        ReflectionTestUtils.setField(importService, "maxRadius", 1000.0);
+        ReflectionTestUtils.setField(importService, "batchSize", 500);
+        ReflectionTestUtils.setField(importService, "maxReportedErrors", 100);
+        ReflectionTestUtils.setField(importService, "maxLineLength", 65536);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void rejectsNonFiniteCompletionRadius() throws IOException {
+        String csv = "title,description,latitude,longitude,completionRadius\n" +
+                "A,Task A,40.0,-74.0,NaN\n" +
+                "B,Task B,40.0,-74.0,Infinity\n" +
+                "C,Task C,40.0,-74.0,-Infinity\n";
+
+        TaskImportReport report = importService.importTasks(new BufferedReader(new StringReader(csv)),
+                TaskImportService.Format.CSV, 1L);
+
+        assertThat(report.getTotalRows()).isEqualTo(3);
+        assertThat(report.getFailedRows()).isEqualTo(3);
+        assertThat(report.getErrors()).extracting(TaskImportReport.RowError::getLine).containsExactly(2L, 3L, 4L);
+        assertThat(report.getErrors()).allSatisfy(error ->
+                assertThat(error.getMessage()).startsWith("Completion radius must be between"));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void rejectsNonFiniteCoordinates() throws IOException {
+        String csv = "title,description,latitude,longitude\n" +
+                "A,Task A,NaN,-74.0\n" +
+                "B,Task B,40.0,NaN\n";
+
+        TaskImportReport report = importService.importTasks(new BufferedReader(new StringReader(csv)),
+                TaskImportService.Format.CSV, 1L);
+
+        assertThat(report.getFailedRows()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(TaskImportReport.RowError::getMessage)
+                .containsOnly("Invalid coordinates");
+    }
+}
@@ -0,0 +1,203 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.dto.TaskSyncResponse;
+import com.taskapp.dto.TaskTombstoneResponse;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.TaskTombstone;
+import com.taskapp.entity.TombstoneReason;
+import com.taskapp.entity.User;
+import com.taskapp.entity.UserRole;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pages delta syncs of {@link TaskService#syncTasks} to the end and checks that every task and tombstone
+ * of the assignee is returned exactly once, including tasks last changed long before the tombstone
+ * retention and tasks whose updated_at was backfilled by the upgrade script.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "tasks.sync.commit-grace=0s",
+        "tasks.sync.tombstone-retention=30d"
+})
+@Import({TaskService.class, GpsService.class})
+class TaskSyncTest {
+
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskService taskService;
+
+    private User assignee;
+    private final List<Long> taskIds = new ArrayList<>();
+    private final List<Long> tombstoneIds = new ArrayList<>();
+    private LocalDateTime now;
+
+    @BeforeEach
+    void seed() {
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        User assigner = entityManager.persist(new User("assigner", "assigner@example.com", "password-hash",
+                UserRole.TASK_ASSIGNER));
+        assignee = entityManager.persist(new User("worker", "worker@example.com", "password-hash", UserRole.USER));
+        User other = entityManager.persist(new User("other", "other@example.com", "password-hash", UserRole.USER));
+
+        // Last changed a year ago, 40 days ago (both before the tombstone retention) and recently
+        int[] ageInDays = {365, 365, 365, 40, 40, 40, 40, 1, 1, 0, 0};
+        for (int i = 0; i < ageInDays.length; i++) {
+            Task task = entityManager.persist(new Task("Task " + i, "Description " + i, 40.0, -74.0, assigner, assignee));
+            entityManager.flush();
+            setUpdatedAt(task.getId(), now.minusDays(ageInDays[i]).minusSeconds(i + 1));
+            taskIds.add(task.getId());
+        }
+        entityManager.persist(new Task("Not assigned", "Description", 40.0, -74.0, assigner, other));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void fullSyncReturnsEveryTaskOnce() {
+        List<TaskSyncResponse> pages = syncToEnd(null);
+
+        assertThat(pages).hasSizeGreaterThan(taskIds.size() / PAGE_SIZE);
+        assertThat(pages).noneMatch(TaskSyncResponse::isReset);
+        assertThat(taskIdsOf(pages)).containsExactlyInAnyOrderElementsOf(taskIds);
+    }
+
+    @Test
+    @DirtiesContext // H2 commits DDL, so the seeded rows outlive this test's transaction
+    void fullSyncReturnsBackfilledTasks() {
+        // A database from before updated_at was set on insert: the column is nullable and empty
+        entityManager.getEntityManager().createNativeQuery("ALTER TABLE tasks ALTER COLUMN updated_at SET NULL")
+                .executeUpdate();
+        entityManager.getEntityManager().createNativeQuery("UPDATE tasks SET updated_at = NULL WHERE id IN (?1, ?2)")
+                .setParameter(1, taskIds.get(0))
+                .setParameter(2, taskIds.get(taskIds.size() - 1))
+                .executeUpdate();
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/upgrade/task-updated-at-backfill.sql"))
+                .execute(dataSource);
+
+        assertThat(taskIdsOf(syncToEnd(null))).containsExactlyInAnyOrderElementsOf(taskIds);
+    }
+
+    @Test
+    void fullSyncReturnsEveryTombstoneOnce() {
+        for (int i = 0; i < 9; i++) {
+            TaskTombstone tombstone = entityManager.persist(new TaskTombstone(1000L + i, assignee.getId(),
+                    i % 2 == 0 ? TombstoneReason.DELETED : TombstoneReason.REASSIGNED));
+            tombstoneIds.add(tombstone.getId());
+        }
+        entityManager.persist(new TaskTombstone(2000L, assignee.getId() + 1, TombstoneReason.DELETED));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TaskSyncResponse> pages = syncToEnd(null);
+
+        assertThat(pages).noneMatch(TaskSyncResponse::isReset);
+        assertThat(taskIdsOf(pages)).containsExactlyInAnyOrderElementsOf(taskIds);
+        List<Long> returned = new ArrayList<>();
+        pages.forEach(page -> page.getTombstones().stream().map(TaskTombstoneResponse::getId).forEach(returned::add));
+        assertThat(returned).containsExactlyInAnyOrderElementsOf(tombstoneIds);
+    }
+
+    @Test
+    void incrementalSyncReturnsOnlyLaterChanges() {
+        List<TaskSyncResponse> pages = syncToEnd(null);
+        String watermark = pages.get(pages.size() - 1).getWatermark();
+
+        Long changed = taskIds.get(3);
+        setUpdatedAt(changed, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        entityManager.persist(new TaskTombstone(changed + 1000, assignee.getId(), TombstoneReason.REASSIGNED));
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskSyncResponse next = taskService.syncTasks(assignee.getId(), watermark, PAGE_SIZE);
+
+        assertThat(next.isReset()).isFalse();
+        assertThat(next.isHasMore()).isFalse();
+        assertThat(next.getTasks()).extracting(TaskResponse::getId).containsExactly(changed);
+        assertThat(next.getTombstones()).extracting(TaskTombstoneResponse::getTaskId).containsExactly(changed + 1000);
+    }
+
+    @Test
+    void resetsWhenUnseenTombstonesMayHaveBeenPurged() {
+        // More tombstones than a page, the first ones past the retention: page 1 stops inside the purgeable range
+        for (int i = 0; i < PAGE_SIZE + 2; i++) {
+            TaskTombstone tombstone = entityManager.persist(new TaskTombstone(1000L + i, assignee.getId(),
+                    TombstoneReason.DELETED));
+            entityManager.flush();
+            setRemovedAt(tombstone.getId(), now.minusDays(i < PAGE_SIZE ? 45 : 1).plusSeconds(i));
+        }
+        entityManager.clear();
+
+        TaskSyncResponse first = taskService.syncTasks(assignee.getId(), null, PAGE_SIZE);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.isReset()).isFalse();
+
+        TaskSyncResponse second = taskService.syncTasks(assignee.getId(), first.getWatermark(), PAGE_SIZE);
+
+        assertThat(second.isReset()).isTrue();
+        assertThat(second.getTasks()).extracting(TaskResponse::getId)
+                .containsExactlyElementsOf(first.getTasks().stream().map(TaskResponse::getId).toList());
+    }
+
+    private List<TaskSyncResponse> syncToEnd(String watermark) {
+        List<TaskSyncResponse> pages = new ArrayList<>();
+        TaskSyncResponse page;
+        do {
+            assertThat(pages).as("sync pages").hasSizeLessThan(100);
+            page = taskService.syncTasks(assignee.getId(), watermark, PAGE_SIZE);
+            pages.add(page);
+            watermark = page.getWatermark();
+        } while (page.isHasMore());
+        return pages;
+    }
+
+    private static List<Long> taskIdsOf(List<TaskSyncResponse> pages) {
+        List<Long> ids = new ArrayList<>();
+        pages.forEach(page -> page.getTasks().stream().map(TaskResponse::getId).forEach(ids::add));
+        return ids;
+    }
+
+    private void setUpdatedAt(Long taskId, LocalDateTime updatedAt) {
+        EntityManager em = entityManager.getEntityManager();
+        em.createNativeQuery("UPDATE tasks SET updated_at = ?1 WHERE id = ?2")
+                .setParameter(1, updatedAt)
+                .setParameter(2, taskId)
+                .executeUpdate();
+    }
+
+    private void setRemovedAt(Long tombstoneId, LocalDateTime removedAt) {
+        EntityManager em = entityManager.getEntityManager();
+        em.createNativeQuery("UPDATE task_tombstones SET removed_at = ?1 WHERE id = ?2")
+                .setParameter(1, removedAt)
+                .setParameter(2, tombstoneId)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,88 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.UserStatusCount;
+import com.taskapp.entity.TaskStatus;
+import com.taskapp.entity.UserRole;
+import com.taskapp.event.UserChangedEvent;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.security.AuthenticatedPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that {@link WorkerAssignmentEngine} never reserves a worker beyond the open-task limit,
+ * counting the tasks a user already held when they became eligible.
+ */
+class WorkerAssignmentEngineTest {
+
+    private static final int MAX_OPEN_TASKS = 5;
+    private static final Long WORKER_ID = 7L;
+    private static final double LATITUDE = 40.7128;
+    private static final double LONGITUDE = -74.0060;
+
+    private TaskRepository taskRepository;
+    private UserRepository userRepository;
+    private WorkerAssignmentEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        userRepository = mock(UserRepository.class);
+        engine = new WorkerAssignmentEngine(taskRepository, userRepository, new GpsService(), 0.01,
+                MAX_OPEN_TASKS, 8, 512, 50000, Duration.ofMinutes(30));
+    }
+
+    @Test
+    void newlyEligibleWorkerStartsWithTheirOpenTasks() {
+        // e.g. a TASK_ASSIGNER changed to USER while assigned four open tasks
+        when(userRepository.findActiveIdsByRole(UserRole.USER)).thenReturn(List.of());
+        when(taskRepository.countByAssigneeAndStatus()).thenReturn(List.of());
+        engine.load();
+        when(taskRepository.countByAssigneeAndStatusIn(eq(WORKER_ID), any())).thenReturn(4L);
+        setUser(true, UserRole.USER);
+
+        engine.onUserChanged(new UserChangedEvent(WORKER_ID, false));
+        engine.updatePosition(WORKER_ID, LATITUDE, LONGITUDE);
+
+        assertThat(engine.reserveNearest(LATITUDE, LONGITUDE)).isPresent();
+        assertThat(engine.reserveNearest(LATITUDE, LONGITUDE)).isEmpty();
+    }
+
+    @Test
+    void reactivatedWorkerKeepsTheTrackedLoad() {
+        when(userRepository.findActiveIdsByRole(UserRole.USER)).thenReturn(List.of(WORKER_ID));
+        when(taskRepository.countByAssigneeAndStatus()).thenReturn(List.of(
+                new UserStatusCount(WORKER_ID, TaskStatus.IN_PROGRESS, 3),
+                new UserStatusCount(WORKER_ID, TaskStatus.COMPLETED, 10)));
+        engine.load();
+
+        setUser(false, UserRole.USER);
+        engine.onUserChanged(new UserChangedEvent(WORKER_ID, false));
+        setUser(true, UserRole.USER);
+        engine.onUserChanged(new UserChangedEvent(WORKER_ID, false));
+        engine.updatePosition(WORKER_ID, LATITUDE, LONGITUDE);
+
+        assertThat(engine.reserveNearest(LATITUDE, LONGITUDE)).isPresent();
+        assertThat(engine.reserveNearest(LATITUDE, LONGITUDE)).isPresent();
+        assertThat(engine.reserveNearest(LATITUDE, LONGITUDE)).isEmpty();
+        verify(taskRepository, never()).countByAssigneeAndStatusIn(any(), any());
+    }
+
+    private void setUser(boolean active, UserRole role) {
+        when(userRepository.findPrincipalById(WORKER_ID))
+                .thenReturn(Optional.of(new AuthenticatedPrincipal(WORKER_ID, "worker", role, active)));
+    }
+}